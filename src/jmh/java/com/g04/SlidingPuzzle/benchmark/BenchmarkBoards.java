@@ -0,0 +1,74 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.BoardGenerator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Seeded board fixtures shared by the benchmarks.
+ * A board's density is the fraction of squares holding a hazard or food item,
+ * split 3:4 between hazards and food like the standard game (15 hazards, 20 food).
+ */
+public final class BenchmarkBoards {
+
+    private BenchmarkBoards() {
+    }
+
+    /**
+     * Gets the number of hazards for a board of the given size and density.
+     *
+     * @param cells The number of squares on the board
+     * @param density The fraction of squares holding hazards or food
+     * @return The number of hazards
+     */
+    public static int hazardCount(int cells, double density) {
+        return (int) Math.round(cells * density * 3 / 7);
+    }
+
+    /**
+     * Gets the number of food items for a board of the given size and density.
+     *
+     * @param cells The number of squares on the board
+     * @param density The fraction of squares holding hazards or food
+     * @return The number of food items
+     */
+    public static int foodCount(int cells, double density) {
+        return (int) Math.round(cells * density * 4 / 7);
+    }
+
+    /**
+     * Clears the grid and fills it with one penguin of the given type on a random square,
+     * then hazards and food at the given density.
+     *
+     * @param grid The grid to fill
+     * @param rng The seeded random number generator
+     * @param type The penguin type
+     * @param density The fraction of squares holding hazards or food
+     * @return The placed penguin
+     */
+    public static Penguin populate(TerrainGrid grid, RandomGenerator rng, PenguinType type, double density) {
+        grid.clear();
+        Penguin penguin = BoardGenerator.createPenguin(type, "P1");
+        grid.set(Position.of(rng.nextInt(grid.getRows()), rng.nextInt(grid.getCols())), penguin);
+        fill(grid, rng, density);
+        return penguin;
+    }
+
+    /**
+     * Adds hazards and food at the given density to the empty squares of the grid.
+     *
+     * @param grid The grid to fill
+     * @param rng The seeded random number generator
+     * @param density The fraction of squares holding hazards or food
+     */
+    public static void fill(TerrainGrid grid, RandomGenerator rng, double density) {
+        int cells = grid.getRows() * grid.getCols();
+        BoardGenerator generator = new BoardGenerator(grid, rng);
+        generator.placeHazards(hazardCount(cells, density));
+        generator.placeFood(foodCount(cells, density));
+    }
+}
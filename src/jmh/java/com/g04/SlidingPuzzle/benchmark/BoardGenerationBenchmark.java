@@ -0,0 +1,60 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.BoardGenerator;
+import com.g04.SlidingPuzzle.service.GameSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for full-board generation: penguin, hazard and food placement on a new grid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardGenerationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    @Param({"0.15", "0.35", "0.6"})
+    public double density;
+
+    @Param("42")
+    public long seed;
+
+    private GameSettings settings;
+    private SplittableRandom rng;
+
+    @Setup
+    public void createSettings() {
+        int cells = size * size;
+        settings = new GameSettings(size, size, GameSettings.STANDARD.numOfPenguins(),
+                BenchmarkBoards.hazardCount(cells, density), BenchmarkBoards.foodCount(cells, density),
+                GameSettings.STANDARD.numOfRounds());
+        rng = new SplittableRandom(seed);
+    }
+
+    @Benchmark
+    public List<Penguin> generate() {
+        TerrainGrid grid = TerrainGrid.flat(size, size);
+        return new BoardGenerator(grid, rng).generate(settings);
+    }
+}
@@ -0,0 +1,83 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.BoardGenerator;
+import com.g04.SlidingPuzzle.service.CollisionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for hazard slides: a penguin hits a sliding hazard at the start of a long row,
+ * and the hazard slides along the row, destroying the food on its way, until it falls
+ * off the far edge (Light Ice Block) or the row ends (Sea Lion).
+ * The row length and food density control how much work the slide does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HazardSlideBenchmark {
+    private static final int ROW = 1;
+
+    @Param({"LIGHT_ICE_BLOCK", "SEA_LION"})
+    public HazardType hazardType;
+
+    @Param({"10", "100", "1000"})
+    public int length;
+
+    @Param({"0.0", "0.3"})
+    public double foodDensity;
+
+    @Param("42")
+    public long seed;
+
+    private TerrainGrid grid;
+    private CollisionHandler handler;
+    private KingPenguin penguin;
+    private SplittableRandom rng;
+
+    @Setup(Level.Trial)
+    public void createGrid() {
+        grid = TerrainGrid.flat(3, length);
+        handler = new CollisionHandler(grid);
+        rng = new SplittableRandom(seed);
+    }
+
+    @Setup(Level.Invocation)
+    public void generateRow() {
+        grid.clear();
+        penguin = new KingPenguin("P1");
+        grid.set(Position.of(ROW, 0), penguin);
+        grid.set(Position.of(ROW, 1), BoardGenerator.createHazard(hazardType));
+        for (int col = 2; col < length; col++) {
+            if (rng.nextDouble() < foodDensity) {
+                grid.set(Position.of(ROW, col), Food.createRandom(rng));
+            }
+        }
+    }
+
+    @Benchmark
+    public CollisionHandler.MovementResult hitHazard() {
+        return handler.movePenguin(penguin, Direction.RIGHT, false);
+    }
+}
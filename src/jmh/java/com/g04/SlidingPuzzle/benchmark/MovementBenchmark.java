@@ -0,0 +1,76 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.CollisionHandler;
+import com.g04.SlidingPuzzle.service.SimulationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link CollisionHandler#movePenguin} on seeded random 10x10 boards,
+ * for every penguin type with and without its special ability.
+ * Each invocation moves the penguin once in a random direction on a fresh board; the boards
+ * cycle through a fixed set of seeds so every run sees the same positions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementBenchmark {
+    private static final int BOARDS = 256;
+
+    @Param({"KING", "EMPEROR", "ROYAL", "ROCKHOPPER"})
+    public PenguinType penguinType;
+
+    @Param({"false", "true"})
+    public boolean useSpecialAbility;
+
+    @Param({"0.15", "0.35", "0.6"})
+    public double density;
+
+    @Param("42")
+    public long seed;
+
+    private TerrainGrid grid;
+    private CollisionHandler handler;
+    private Penguin penguin;
+    private Direction direction;
+    private int board;
+
+    @Setup(Level.Trial)
+    public void createGrid() {
+        grid = TerrainGrid.flat();
+        handler = new CollisionHandler(grid);
+    }
+
+    @Setup(Level.Invocation)
+    public void generateBoard() {
+        SplittableRandom rng = new SplittableRandom(SimulationEngine.gameSeed(seed, board));
+        board = (board + 1) % BOARDS;
+        penguin = BenchmarkBoards.populate(grid, rng, penguinType, density);
+        direction = Direction.values()[rng.nextInt(Direction.values().length)];
+    }
+
+    @Benchmark
+    public CollisionHandler.MovementResult movePenguin() {
+        return handler.movePenguin(penguin, direction, useSpecialAbility);
+    }
+}
@@ -0,0 +1,85 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.ConsoleSink;
+import com.g04.SlidingPuzzle.service.GridRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link GridRenderer} on a seeded board: a full redraw versus an in-place
+ * update after a penguin moved one square (two changed squares).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    @Param({"10", "40", "200"})
+    public int size;
+
+    @Param({"0.15", "0.35", "0.6"})
+    public double density;
+
+    @Param("42")
+    public long seed;
+
+    private TerrainGrid grid;
+    private GridRenderer renderer;
+    private ConsoleSink sink;
+    private Position from;
+    private Position to;
+
+    @Setup
+    public void createBoard() {
+        grid = TerrainGrid.flat(size, size);
+        SplittableRandom rng = new SplittableRandom(seed);
+        Penguin penguin = BenchmarkBoards.populate(grid, rng, PenguinType.KING, density);
+        renderer = new GridRenderer(grid);
+        sink = new ConsoleSink(new PrintStream(OutputStream.nullOutputStream()));
+        renderer.attach(sink);
+
+        // Clear a square next to the penguin so it can step back and forth
+        from = penguin.getPosition();
+        Direction direction = from.getCol() + 1 < size ? Direction.RIGHT : Direction.LEFT;
+        to = from.move(direction);
+        grid.remove(to);
+        renderer.update(sink);
+    }
+
+    @Benchmark
+    public String fullRedraw() {
+        return renderer.render();
+    }
+
+    @Benchmark
+    public int incrementalUpdate() {
+        grid.move(from, to);
+        Position swap = from;
+        from = to;
+        to = swap;
+        renderer.update(sink);
+        return renderer.getPendingChanges();
+    }
+}
@@ -0,0 +1,68 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.CollisionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling benchmark for penguin slides on large boards.
+ * A penguin slides either a fixed distance or the full board width into a Heavy Ice Block
+ * and is put back on its start square. The fixed-length slide should cost the same on every
+ * board; because free runs come from the grid's slide index, the full-width slide should
+ * only grow by the cost of scanning one bitset word per 64 squares.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SlideScalingBenchmark {
+    private static final int FIXED_SLIDE = 8;
+
+    @Param({"10", "100", "1000", "4096"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean fullWidth;
+
+    private TerrainGrid grid;
+    private CollisionHandler handler;
+    private KingPenguin penguin;
+    private Position start;
+
+    @Setup
+    public void createBoard() {
+        grid = TerrainGrid.flat(size, size);
+        handler = new CollisionHandler(grid);
+        int length = fullWidth ? size - 2 : Math.min(FIXED_SLIDE, size - 2);
+        int row = size / 2;
+        start = Position.of(row, 0);
+        penguin = new KingPenguin("P1");
+        grid.set(start, penguin);
+        grid.set(Position.of(row, length + 1), new HeavyIceBlock());
+    }
+
+    @Benchmark
+    public CollisionHandler.MovementResult slide() {
+        CollisionHandler.MovementResult result = handler.movePenguin(penguin, Direction.RIGHT, false);
+        grid.move(penguin.getPosition(), start);
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package com.g04.SlidingPuzzle.benchmark;
+
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the list-backed and flat-array TerrainGrid backends on get, set and move.
+ * The grid is filled at the given density from a seed; the first row is kept empty for moves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TerrainGridBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    /** Storage backend. */
+    public enum Storage { LIST, FLAT }
+
+    @Param({"LIST", "FLAT"})
+    public Storage storage;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    @Param("0.35")
+    public double density;
+
+    @Param("42")
+    public long seed;
+
+    private TerrainGrid grid;
+    private final Position[] lookups = new Position[LOOKUPS];
+    private final Position[] emptySquares = new Position[LOOKUPS];
+    private final Food food = new Food(FoodType.SQUID, 3);
+    private int next;
+    private int moveFrom;
+
+    @Setup
+    public void createGrid() {
+        grid = storage == Storage.FLAT ? TerrainGrid.flat(size, size) : new TerrainGrid(size, size);
+        SplittableRandom rng = new SplittableRandom(seed);
+        BenchmarkBoards.fill(grid, rng, density);
+        for (int col = 0; col < size; col++) {
+            grid.remove(0, col);
+        }
+        grid.set(Position.of(0, 0), new Food(FoodType.KRILL, 1));
+
+        List<Position> empty = new ArrayList<>();
+        for (Position position : grid.getAllPositions()) {
+            if (position.getRow() > 0 && grid.isEmpty(position)) {
+                empty.add(position);
+            }
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = Position.of(rng.nextInt(size), rng.nextInt(size));
+            emptySquares[i] = empty.get(rng.nextInt(empty.size()));
+        }
+    }
+
+    @Benchmark
+    public ITerrainObject get() {
+        Position position = lookups[next++ & (LOOKUPS - 1)];
+        return grid.get(position.getRow(), position.getCol());
+    }
+
+    @Benchmark
+    public ITerrainObject setAndRemove() {
+        Position position = emptySquares[next++ & (LOOKUPS - 1)];
+        grid.set(position, food);
+        return grid.remove(position);
+    }
+
+    @Benchmark
+    public boolean move() {
+        int moveTo = (moveFrom + 1) % size;
+        boolean moved = grid.move(Position.of(0, moveFrom), Position.of(0, moveTo));
+        moveFrom = moveTo;
+        return moved;
+    }
+}
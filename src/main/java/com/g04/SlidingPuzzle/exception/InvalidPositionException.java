@@ -34,9 +34,22 @@ public class InvalidPositionException extends RuntimeException {
      * @return A new InvalidPositionException
      */
     public static InvalidPositionException outOfBounds(int row, int col, int gridSize) {
+        return outOfBounds(row, col, gridSize, gridSize);
+    }
+
+    /**
+     * Creates an exception for a position outside the bounds of a rectangular grid.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @param rows The number of rows of the grid
+     * @param cols The number of columns of the grid
+     * @return A new InvalidPositionException
+     */
+    public static InvalidPositionException outOfBounds(int row, int col, int rows, int cols) {
         return new InvalidPositionException(
             String.format("Position (%d, %d) is outside grid bounds (0-%d, 0-%d)",
-                row, col, gridSize - 1, gridSize - 1)
+                row, col, rows - 1, cols - 1)
         );
     }
 
@@ -0,0 +1,121 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import java.util.Map;
+
+/**
+ * Management interface of the engine metrics, as shown by JMX clients such as JConsole.
+ * Counters are totals since creation or the last {@link #reset()}; latencies are in nanoseconds.
+ */
+public interface IEngineMetricsMXBean {
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return The turn count
+     */
+    long getTurns();
+
+    /**
+     * Gets the number of collisions per obstacle kind (penguin and each hazard type).
+     *
+     * @return The collision counts by kind
+     */
+    Map<String, Long> getCollisions();
+
+    /**
+     * Gets the number of penguins removed per cause (stepped off, fell off, slid off, hole).
+     *
+     * @return The removal counts by cause
+     */
+    Map<String, Long> getRemovals();
+
+    /**
+     * Gets the histogram of penguin slide lengths; entry i counts slides of i squares,
+     * the last entry counts all longer slides.
+     *
+     * @return The slide length histogram
+     */
+    long[] getSlideLengths();
+
+    /**
+     * Gets the histogram of hazard slide lengths, laid out like {@link #getSlideLengths()}.
+     *
+     * @return The hazard slide length histogram
+     */
+    long[] getHazardSlideLengths();
+
+    /**
+     * Gets the number of food items collected by penguins.
+     *
+     * @return The collected food count
+     */
+    long getFoodCollected();
+
+    /**
+     * Gets the total weight of the food collected by penguins.
+     *
+     * @return The collected food weight
+     */
+    long getFoodCollectedWeight();
+
+    /**
+     * Gets the number of food items lost on Heavy Ice Blocks.
+     *
+     * @return The lost food count
+     */
+    long getFoodLost();
+
+    /**
+     * Gets the total weight of the food lost on Heavy Ice Blocks.
+     *
+     * @return The lost food weight
+     */
+    long getFoodLostWeight();
+
+    /**
+     * Gets the number of food items destroyed by sliding hazards.
+     *
+     * @return The destroyed food count
+     */
+    long getFoodDestroyed();
+
+    /**
+     * Gets the median turn latency.
+     *
+     * @return The 50th percentile in nanoseconds
+     */
+    long getTurnLatencyP50();
+
+    /**
+     * Gets the 90th percentile turn latency.
+     *
+     * @return The 90th percentile in nanoseconds
+     */
+    long getTurnLatencyP90();
+
+    /**
+     * Gets the 99th percentile turn latency.
+     *
+     * @return The 99th percentile in nanoseconds
+     */
+    long getTurnLatencyP99();
+
+    /**
+     * Gets the 99.9th percentile turn latency.
+     *
+     * @return The 99.9th percentile in nanoseconds
+     */
+    long getTurnLatencyP999();
+
+    /**
+     * Gets the longest turn latency.
+     *
+     * @return The maximum in nanoseconds
+     */
+    long getTurnLatencyMax();
+
+    /**
+     * Sets all counters and histograms back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,28 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+
+/**
+ * Interface for observers of terrain grid changes.
+ * A registered listener is told about every square whose content or appearance changed,
+ * which lets it keep derived state (rendered frames, occupancy sets) up to date
+ * without rescanning the grid.
+ */
+public interface IGridListener {
+
+    /**
+     * Called after a square changed. The kinds are equal when only the object's state
+     * changed (e.g. a hole was plugged) or one object replaced another of the same kind.
+     *
+     * @param row The row of the changed square
+     * @param col The column of the changed square
+     * @param previous The kind stored before the change
+     * @param current The kind stored after the change
+     */
+    void cellChanged(int row, int col, CellKind previous, CellKind current);
+
+    /**
+     * Called after the whole grid was cleared.
+     */
+    void gridCleared();
+}
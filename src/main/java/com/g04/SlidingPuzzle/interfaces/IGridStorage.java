@@ -0,0 +1,57 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+
+/**
+ * Interface for the cell storage behind a terrain grid.
+ * Implementations only store objects; bounds checking and position
+ * bookkeeping are done by the grid that owns the storage.
+ */
+public interface IGridStorage {
+
+    /**
+     * Gets the number of rows of the storage.
+     *
+     * @return The row count
+     */
+    int getRows();
+
+    /**
+     * Gets the number of columns of the storage.
+     *
+     * @return The column count
+     */
+    int getCols();
+
+    /**
+     * Gets the object stored at the specified cell.
+     *
+     * @param row The row (already validated)
+     * @param col The column (already validated)
+     * @return The stored object, or null if empty
+     */
+    ITerrainObject get(int row, int col);
+
+    /**
+     * Stores an object at the specified cell.
+     *
+     * @param row The row (already validated)
+     * @param col The column (already validated)
+     * @param object The object to store (null for empty)
+     */
+    void set(int row, int col, ITerrainObject object);
+
+    /**
+     * Gets the kind of content stored at the specified cell.
+     *
+     * @param row The row (already validated)
+     * @param col The column (already validated)
+     * @return The cell kind
+     */
+    CellKind getKind(int row, int col);
+
+    /**
+     * Empties every cell.
+     */
+    void clear();
+}
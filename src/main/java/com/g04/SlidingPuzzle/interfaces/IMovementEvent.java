@@ -0,0 +1,99 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+
+/**
+ * Interface for the typed events recorded while a penguin moves.
+ * Events hold only compact fields (penguins, enum types, coordinates); turning them into
+ * text is left to a formatter, so callers that never print pay no string-building cost.
+ */
+public sealed interface IMovementEvent {
+
+    /**
+     * How a penguin ended up in the water.
+     */
+    enum WaterFall {
+        /** A Royal Penguin stepped off the grid before sliding. */
+        STEPPED_OFF,
+        /** The penguin stood on the edge and slid straight off it. */
+        FELL,
+        /** The penguin slid across the ice and off the edge. */
+        SLID_OFF
+    }
+
+    /** A Royal Penguin stepped one square before sliding. */
+    record PenguinStepped(Penguin penguin, Direction direction) implements IMovementEvent {
+    }
+
+    /** A Rockhopper Penguin prepared its jump. */
+    record JumpPrepared(Penguin penguin) implements IMovementEvent {
+    }
+
+    /** A penguin fell into the water. */
+    record FellIntoWater(Penguin penguin, WaterFall how) implements IMovementEvent {
+    }
+
+    /** A penguin fell into an unplugged Hole in Ice. */
+    record FellIntoHole(Penguin penguin) implements IMovementEvent {
+    }
+
+    /** A penguin was removed from the game; always follows the event that removed it. */
+    record PenguinRemoved(Penguin penguin) implements IMovementEvent {
+    }
+
+    /** A penguin collected a food item on its path. */
+    record FoodCollected(Penguin penguin, FoodType foodType, int weight) implements IMovementEvent {
+    }
+
+    /** A moving penguin hit a standing one and transferred its momentum. */
+    record PenguinsCollided(Penguin moving, Penguin stationary) implements IMovementEvent {
+    }
+
+    /** A penguin hit a Light Ice Block and is stunned for its next turn. */
+    record PenguinStunned(Penguin penguin) implements IMovementEvent {
+    }
+
+    /** A penguin hit a Heavy Ice Block and lost its lightest food item, if it carried any. */
+    record FoodLost(Penguin penguin, FoodType foodType, int weight) implements IMovementEvent {
+
+        /**
+         * Checks if the penguin actually lost food.
+         *
+         * @return true if a food item was lost, false if the penguin carried none
+         */
+        public boolean lostFood() {
+            return foodType != null;
+        }
+    }
+
+    /** A penguin hit a Sea Lion and bounces back. */
+    record PenguinBounced(Penguin penguin) implements IMovementEvent {
+    }
+
+    /** A bounced penguin slides in the given direction. */
+    record PenguinSlides(Penguin penguin, Direction direction) implements IMovementEvent {
+    }
+
+    /** A penguin passed over a plugged Hole in Ice. */
+    record HoleCrossed(Penguin penguin) implements IMovementEvent {
+    }
+
+    /** A sliding hazard destroyed the food item at the given square. */
+    record FoodDestroyed(HazardType hazard, int row, int col) implements IMovementEvent {
+    }
+
+    /** A sliding hazard fell off the edge of the grid. */
+    record HazardFellOff(HazardType hazard) implements IMovementEvent {
+    }
+
+    /** A sliding hazard fell into a Hole in Ice and plugged it. */
+    record HolePlugged(HazardType hazard) implements IMovementEvent {
+    }
+
+    /** A sliding hazard stopped at the given square. */
+    record HazardStopped(HazardType hazard, int row, int col) implements IMovementEvent {
+    }
+}
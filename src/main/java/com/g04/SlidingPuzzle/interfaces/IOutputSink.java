@@ -0,0 +1,45 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import java.io.Flushable;
+
+/**
+ * Interface for the destination of the game's text (turn headers, movement messages,
+ * grids and the scoreboard).
+ * The game reports the end of every turn, so an implementation can write straight through,
+ * batch the text of one or more turns into a single write, or drop it.
+ */
+public interface IOutputSink extends Flushable {
+
+    /**
+     * Writes text without ending the line.
+     *
+     * @param text The text to write
+     */
+    void print(CharSequence text);
+
+    /**
+     * Writes text and ends the line.
+     *
+     * @param line The text of the line
+     */
+    void println(CharSequence line);
+
+    /**
+     * Ends the current line.
+     */
+    default void println() {
+        println("");
+    }
+
+    /**
+     * Called after the text of a turn was written. Does nothing by default.
+     */
+    default void endTurn() {
+    }
+
+    /**
+     * Writes out any text held back, e.g. before the game waits for the player's answer.
+     */
+    @Override
+    void flush();
+}
@@ -0,0 +1,61 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface for anything that chooses the moves of a penguin: a human at the console,
+ * the heuristic AI or a search-based AI.
+ * The game asks the controller of the penguin to move for a decision and then plays it,
+ * so games and tournaments can seat any mix of controllers.
+ */
+public interface IPenguinController extends AutoCloseable {
+
+    /**
+     * Decides the next move of a penguin.
+     *
+     * @param penguin The penguin to move; it is not removed or stunned
+     * @param turn The current round (1-based)
+     * @return The decision
+     */
+    Decision decide(Penguin penguin, int turn);
+
+    /**
+     * Gets whether the decisions come from a person, who already knows the move,
+     * so the game does not need to announce it.
+     *
+     * @return true for human players
+     */
+    default boolean isHuman() {
+        return false;
+    }
+
+    /**
+     * Releases the resources of this controller (e.g. search threads). Does nothing by default.
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Creates the controller of one game.
+     */
+    @FunctionalInterface
+    interface Factory {
+
+        /**
+         * Creates a controller for a new game.
+         *
+         * @param grid The terrain grid of the game
+         * @param penguins The penguins of the game in turn order
+         * @param totalRounds The number of rounds of the game
+         * @param rng The random number generator for the controller's decisions
+         * @return A new controller
+         */
+        IPenguinController create(TerrainGrid grid, List<Penguin> penguins, int totalRounds, RandomGenerator rng);
+    }
+}
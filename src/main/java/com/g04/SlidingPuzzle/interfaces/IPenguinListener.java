@@ -0,0 +1,20 @@
+package com.g04.SlidingPuzzle.interfaces;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+
+/**
+ * Interface for observers of penguin state changes.
+ * A registered listener is told whenever a penguin's stun, ability usage, removal,
+ * prepared jump or food inventory changed, which lets it keep derived state
+ * (such as a state hash) up to date without polling the penguins.
+ * Position changes are reported by the terrain grid instead.
+ */
+public interface IPenguinListener {
+
+    /**
+     * Called after the state of a penguin changed.
+     *
+     * @param penguin The penguin that changed
+     */
+    void penguinChanged(Penguin penguin);
+}
@@ -0,0 +1,26 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+
+/**
+ * A move decision of an {@link IPenguinController}.
+ *
+ * @param direction The direction to move
+ * @param useSpecialAbility Whether to use the special ability
+ * @param automatic Whether the ability is used automatically (Rockhopper moving towards a hazard)
+ */
+public record Decision(Direction direction, boolean useSpecialAbility, boolean automatic) {
+
+    /**
+     * Validates the decision.
+     *
+     * @throws InvalidGameStateException if direction is null
+     */
+    public Decision {
+        if (direction == null) {
+            throw InvalidGameStateException.nullParameter("direction");
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
 import com.g04.SlidingPuzzle.model.enums.FoodType;
 import com.g04.SlidingPuzzle.model.terrain.Position;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents a food item on the terrain grid.
  * Food items have a type and weight, and can be collected by penguins.
@@ -39,8 +42,18 @@ public class Food implements ITerrainObject {
      * @return A new random Food object
      */
     public static Food createRandom() {
-        FoodType type = FoodType.random();
-        int weight = 1 + (int) (Math.random() * 5); // 1-5 units
+        return createRandom(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a random food item with random type and weight (1-5 units) drawn from the given generator.
+     *
+     * @param rng The random number generator
+     * @return A new random Food object
+     */
+    public static Food createRandom(RandomGenerator rng) {
+        FoodType type = FoodType.random(rng);
+        int weight = 1 + rng.nextInt(5); // 1-5 units
         return new Food(type, weight);
     }
 
@@ -0,0 +1,288 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The food items held by a penguin, bucketed by weight (1-5) with a running total weight.
+ * Collecting an item, removing the lightest item and reading the total are O(1).
+ * <p>
+ * The items keep the order of the original list-based inventory: items are appended as
+ * they are collected, and removing the lightest item first stable-sorts the whole inventory
+ * by weight. Every item gets a sequence number when added; the list order is the items added
+ * before the last removal, sorted by weight and then by sequence, followed by the items added
+ * since, by sequence. The ordered view ({@link #asList()}) is rebuilt lazily after changes.
+ * Not thread-safe.
+ */
+public class FoodInventory {
+    private static final int MIN_WEIGHT = 1;
+    private static final int MAX_WEIGHT = 5;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final Bucket[] buckets = new Bucket[MAX_WEIGHT - MIN_WEIGHT + 1];
+    private final List<Food> view = new View();
+    private long nextSequence;
+    /** Items with a lower sequence number are in sorted order. */
+    private long sortedBefore;
+    private int size;
+    private int totalWeight;
+    private Food[] ordered = new Food[0];
+    private boolean orderedValid = true;
+
+    /**
+     * Creates an empty inventory.
+     */
+    public FoodInventory() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Adds a food item after all items already held.
+     *
+     * @param food The food item to add
+     * @throws InvalidGameStateException if food is null
+     */
+    public void add(Food food) {
+        if (food == null) {
+            throw InvalidGameStateException.nullParameter("food");
+        }
+        buckets[food.getWeight() - MIN_WEIGHT].addLast(food, nextSequence++);
+        size++;
+        totalWeight += food.getWeight();
+        orderedValid = false;
+    }
+
+    /**
+     * Removes the lightest food item; among items of equal weight the one held longest.
+     * Afterwards the remaining items are ordered by weight.
+     *
+     * @return The removed food item, or null if the inventory is empty
+     */
+    public Food removeLightest() {
+        if (size == 0) {
+            return null;
+        }
+        sortedBefore = nextSequence;
+        for (Bucket bucket : buckets) {
+            if (!bucket.isEmpty()) {
+                return removed(bucket.removeFirst());
+            }
+        }
+        throw new IllegalStateException("Inventory size out of sync");
+    }
+
+    /**
+     * Removes the last food item of the inventory order, e.g. when collecting it is undone.
+     *
+     * @return The removed food item, or null if the inventory is empty
+     */
+    public Food removeLast() {
+        if (size == 0) {
+            return null;
+        }
+        // The last unsorted item if there is one, otherwise the last item of the heaviest bucket
+        Bucket last = null;
+        for (Bucket bucket : buckets) {
+            if (!bucket.isEmpty() && bucket.lastSequence() >= sortedBefore
+                    && (last == null || bucket.lastSequence() > last.lastSequence())) {
+                last = bucket;
+            }
+        }
+        for (int i = buckets.length - 1; last == null; i--) {
+            if (!buckets[i].isEmpty()) {
+                last = buckets[i];
+            }
+        }
+        return removed(last.removeLast());
+    }
+
+    /**
+     * Replaces all items, keeping the given order.
+     *
+     * @param foods The food items to hold
+     * @throws InvalidGameStateException if foods or one of its items is null
+     */
+    public void replaceAll(List<Food> foods) {
+        if (foods == null) {
+            throw InvalidGameStateException.nullParameter("foods");
+        }
+        for (Bucket bucket : buckets) {
+            bucket.clear();
+        }
+        size = 0;
+        totalWeight = 0;
+        nextSequence = 0;
+        sortedBefore = 0;
+        orderedValid = false;
+        for (Food food : foods) {
+            add(food);
+        }
+    }
+
+    /**
+     * Gets the number of items held.
+     *
+     * @return The item count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the total weight of all items held.
+     *
+     * @return The total weight in units
+     */
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Gets the number of items of one weight.
+     *
+     * @param weight The weight in units (1-5)
+     * @return The item count, 0 for weights out of range
+     */
+    public int count(int weight) {
+        return weight < MIN_WEIGHT || weight > MAX_WEIGHT ? 0 : buckets[weight - MIN_WEIGHT].size();
+    }
+
+    /**
+     * Gets a read-only view of the items in inventory order. The view follows later changes.
+     *
+     * @return The items
+     */
+    public List<Food> asList() {
+        return view;
+    }
+
+    private Food removed(Food food) {
+        size--;
+        totalWeight -= food.getWeight();
+        orderedValid = false;
+        return food;
+    }
+
+    /**
+     * Rebuilds the ordered items: the sorted items bucket by bucket, then the newer items
+     * merged across the buckets by sequence number.
+     */
+    private Food[] ordered() {
+        if (orderedValid) {
+            return ordered;
+        }
+        if (ordered.length != size) {
+            ordered = new Food[size];
+        }
+        int[] cursors = new int[buckets.length];
+        int index = 0;
+        for (int b = 0; b < buckets.length; b++) {
+            Bucket bucket = buckets[b];
+            while (cursors[b] < bucket.size() && bucket.sequence(cursors[b]) < sortedBefore) {
+                ordered[index++] = bucket.get(cursors[b]++);
+            }
+        }
+        while (index < size) {
+            int next = -1;
+            for (int b = 0; b < buckets.length; b++) {
+                if (cursors[b] < buckets[b].size() && (next < 0
+                        || buckets[b].sequence(cursors[b]) < buckets[next].sequence(cursors[next]))) {
+                    next = b;
+                }
+            }
+            ordered[index++] = buckets[next].get(cursors[next]++);
+        }
+        orderedValid = true;
+        return ordered;
+    }
+
+    /**
+     * The items of one weight in sequence order, stored in growable arrays with a moving head.
+     */
+    private static final class Bucket {
+        private Food[] foods = new Food[INITIAL_BUCKET_CAPACITY];
+        private long[] sequences = new long[INITIAL_BUCKET_CAPACITY];
+        private int head;
+        private int tail;
+
+        int size() {
+            return tail - head;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        Food get(int index) {
+            return foods[head + index];
+        }
+
+        long sequence(int index) {
+            return sequences[head + index];
+        }
+
+        long lastSequence() {
+            return sequences[tail - 1];
+        }
+
+        void addLast(Food food, long sequence) {
+            if (tail == foods.length) {
+                int count = size();
+                if (count * 2 > foods.length) {
+                    foods = Arrays.copyOf(foods, foods.length * 2);
+                    sequences = Arrays.copyOf(sequences, sequences.length * 2);
+                }
+                // Move the items to the front to reuse the room freed by removals
+                System.arraycopy(foods, head, foods, 0, count);
+                System.arraycopy(sequences, head, sequences, 0, count);
+                Arrays.fill(foods, count, tail, null);
+                head = 0;
+                tail = count;
+            }
+            foods[tail] = food;
+            sequences[tail] = sequence;
+            tail++;
+        }
+
+        Food removeFirst() {
+            Food food = foods[head];
+            foods[head++] = null;
+            return food;
+        }
+
+        Food removeLast() {
+            Food food = foods[--tail];
+            foods[tail] = null;
+            return food;
+        }
+
+        void clear() {
+            Arrays.fill(foods, head, tail, null);
+            head = 0;
+            tail = 0;
+        }
+    }
+
+    /**
+     * Read-only list view of the ordered items.
+     */
+    private final class View extends AbstractList<Food> {
+        @Override
+        public Food get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return ordered()[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,27 +1,31 @@
 package com.g04.SlidingPuzzle.model;
 
 import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.service.BoardConstraints;
+import com.g04.SlidingPuzzle.service.BoardGenerator;
+import com.g04.SlidingPuzzle.service.BufferedSink;
 import com.g04.SlidingPuzzle.service.CollisionHandler;
-import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.service.ConstrainedBoardGenerator;
+import com.g04.SlidingPuzzle.service.ConsolePlayer;
+import com.g04.SlidingPuzzle.service.GameSettings;
+import com.g04.SlidingPuzzle.service.GameStateManager;
+import com.g04.SlidingPuzzle.service.GridRenderer;
+import com.g04.SlidingPuzzle.service.MonteCarloAI;
+import com.g04.SlidingPuzzle.service.MovementEventFormatter;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent;
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
 import com.g04.SlidingPuzzle.model.enums.Direction;
-import com.g04.SlidingPuzzle.model.enums.HazardType;
-import com.g04.SlidingPuzzle.model.enums.PenguinType;
-import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
-import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
-import com.g04.SlidingPuzzle.model.hazards.LightIceBlock;
-import com.g04.SlidingPuzzle.model.hazards.SeaLion;
-import com.g04.SlidingPuzzle.model.penguins.EmperorPenguin;
-import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
-import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
-import com.g04.SlidingPuzzle.model.penguins.RoyalPenguin;
-import com.g04.SlidingPuzzle.model.terrain.Position;
 import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
 
+import java.io.InputStream;
+import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the icy terrain game board.
@@ -29,216 +33,222 @@ import java.util.Scanner;
  */
 public class IcyTerrain {
 
-    private static final int NUM_OF_PENGUINS = 3;
-    private static final int NUM_OF_HAZARDS = 15;
-    private static final int NUM_OF_FOOD = 20;
-    private static final int NUM_OF_ROUNDS = 4;
+    private static final int NUM_OF_PENGUINS = GameSettings.STANDARD.numOfPenguins();
+    private static final int NUM_OF_HAZARDS = GameSettings.STANDARD.numOfHazards();
+    private static final int NUM_OF_FOOD = GameSettings.STANDARD.numOfFood();
+    private static final int NUM_OF_ROUNDS = GameSettings.STANDARD.numOfRounds();
 
     private final TerrainGrid grid;
     private final List<Penguin> penguins;
     private Penguin playerPenguin;
     private CollisionHandler collisionHandler;
+    private final List<IPenguinController> controllers;
+    private GridRenderer renderer;
+    private boolean drawInPlace;
     private final Scanner scanner;
+    private final IOutputSink out;
+    private final boolean console;
+    private final RandomGenerator rng;
+    private IPenguinController.Factory aiFactory;
+    private BoardConstraints boardConstraints;
 
 
     /**
      * Creates a new icy terrain with an empty grid.
      */
     public IcyTerrain() {
-        this.grid = new TerrainGrid();
-        this.penguins = new ArrayList<>();
-        this.scanner = new Scanner(System.in);
-    }
-
-    /**
-     * Starts the game - main entry point called from main().
-     * Initializes terrain, displays initial state, and runs the game loop.
-     */
-    public void startGame() {
-        System.out.println("Welcome to Sliding Penguins Puzzle Game App." +
-            " A 10x10 icy terrain grid is being generated.");
-        System.out.println("Penguins, Hazards, and Food items are also being generated. " +
-            "The initial icy terrain grid:");
-
-        initialize();
-
-        System.out.println(renderGrid());
-        displayPenguinInfo();
-
-        runGameLoop(NUM_OF_ROUNDS);
-
-        displayScoreboard();
+        this(new TerrainGrid());
     }
 
     /**
-     * Initializes the terrain with penguins, hazards, and food items.
-     * - 3 penguins placed on edge squares
-     * - 15 hazards placed randomly
-     * - 20 food items placed randomly
-     * One penguin is randomly assigned as the player's penguin.
+     * Creates a new icy terrain on top of the given empty grid.
+     * Allows choosing the grid dimensions and storage backend (e.g. {@link TerrainGrid#flat(int, int)}).
+     *
+     * @param grid The empty terrain grid to play on
+     * @throws InvalidGameStateException if grid is null
      */
-    private void initialize() {
-        // Place 3 penguins on edges
-        placePenguins(NUM_OF_PENGUINS);
-
-        // Place 15 hazards
-        placeHazards(NUM_OF_HAZARDS);
-
-        // Place 20 food items
-        placeFood(NUM_OF_FOOD);
-
-        // Randomly assign player penguin
-        playerPenguin = penguins.get((int) (Math.random() * penguins.size()));
-
-        // Initialize collision handler with grid
-        this.collisionHandler = new CollisionHandler(grid);
+    public IcyTerrain(TerrainGrid grid) {
+        this(grid, new SplittableRandom());
     }
 
     /**
-     * Places given number of penguins (at most 4) on random edge positions.
-     * Each penguin has a random type (King, Emperor, Royal, or Rockhopper).
+     * Creates a new icy terrain on top of the given empty grid, drawing every random decision
+     * (placement, player penguin and AI search) from the given generator.
+     * A seeded generator reproduces the board and the player penguin; AI moves also depend
+     * on how far each time-limited search gets.
+     *
+     * @param grid The empty terrain grid to play on
+     * @param rng The random number generator
+     * @throws InvalidGameStateException if grid or rng is null
      */
-    private void placePenguins(int numOfPenguins) {
-        if (numOfPenguins > 4)
-            throw new InvalidGameStateException("Number of penguins cannot be greater than 4.");
-
-        List<Position> edgePositions = grid.getEdgePositions();
-        Collections.shuffle(edgePositions);
-
-        for (int i = 0; i < numOfPenguins; i++) {
-            String name = "P" + (i + 1); // P1, P2, P3
-            Penguin penguin = createRandomPenguin(name);
-            Position pos = edgePositions.get(i);
-            grid.set(pos, penguin);
-            penguins.add(penguin);
-        }
+    public IcyTerrain(TerrainGrid grid, RandomGenerator rng) {
+        this(grid, rng, System.in, System.out);
     }
 
     /**
-     * Creates a random penguin of a random type.
+     * Creates a new icy terrain that reads the player's answers from the given stream and
+     * writes the game to the given stream instead of the console, e.g. for a network session.
+     * The text of each turn is written in one batch through a {@link BufferedSink}.
+     * The grid is only drawn in place when writing to a terminal through {@code System.out}.
      *
-     * @param name The penguin's identifier
-     * @return A new Penguin object of random type
+     * @param grid The empty terrain grid to play on
+     * @param rng The random number generator
+     * @param in The stream the player's answers are read from
+     * @param out The stream the game is written to
+     * @throws InvalidGameStateException if a parameter is null
      */
-    private Penguin createRandomPenguin(String name) {
-        PenguinType type = PenguinType.random();
-        return switch (type) {
-            case KING -> new KingPenguin(name);
-            case EMPEROR -> new EmperorPenguin(name);
-            case ROYAL -> new RoyalPenguin(name);
-            case ROCKHOPPER -> new RockhopperPenguin(name);
-            default -> throw new IllegalStateException("Unknown penguin type");
-        };
+    public IcyTerrain(TerrainGrid grid, RandomGenerator rng, InputStream in, PrintStream out) {
+        this(grid, rng, in, out == null ? null : new BufferedSink(out), out == System.out);
     }
 
     /**
-     * Places the given number of hazards randomly on the grid.
-     * Hazards cannot occupy the same space as penguins.
+     * Creates a new icy terrain that reads the player's answers from the given stream and
+     * writes the game to the given sink, e.g. a {@link BufferedSink} batching several turns
+     * per write or a {@link com.g04.SlidingPuzzle.service.NullSink} for benchmarks.
+     * The grid is printed in full after each turn.
      *
-     * @param numOfHazards Number of hazards to be placed on the grid
+     * @param grid The empty terrain grid to play on
+     * @param rng The random number generator
+     * @param in The stream the player's answers are read from
+     * @param out The sink the game is written to
+     * @throws InvalidGameStateException if a parameter is null
      */
-    private void placeHazards(int numOfHazards) {
-        List<Position> availablePositions = getEmptyPositions();
-        Collections.shuffle(availablePositions);
+    public IcyTerrain(TerrainGrid grid, RandomGenerator rng, InputStream in, IOutputSink out) {
+        this(grid, rng, in, out, false);
+    }
 
-        for (int i = 0; i < numOfHazards && i < availablePositions.size(); i++) {
-            Hazard hazard = createRandomHazard();
-            grid.set(availablePositions.get(i), hazard);
+    private IcyTerrain(TerrainGrid grid, RandomGenerator rng, InputStream in, IOutputSink out, boolean console) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (rng == null) {
+            throw InvalidGameStateException.nullParameter("rng");
+        }
+        this.grid = grid;
+        this.rng = rng;
+        this.penguins = new ArrayList<>();
+        this.controllers = new ArrayList<>();
+        if (in == null) {
+            throw InvalidGameStateException.nullParameter("in");
+        }
+        if (out == null) {
+            throw InvalidGameStateException.nullParameter("out");
         }
+        this.scanner = new Scanner(in);
+        this.out = out;
+        this.console = console;
     }
 
     /**
-     * Creates a random hazard of a random type using HazardType enum.
+     * Sets the factory of the controller that moves the penguins not played by the player.
+     * Must be called before {@link #startGame()}.
      *
-     * @return A new hazard of random type
+     * @param aiFactory The factory, or null for the time-budgeted {@link MonteCarloAI} (the default)
      */
-    private Hazard createRandomHazard() {
-        HazardType type = HazardType.random();
-        return switch (type) {
-            case LIGHT_ICE_BLOCK -> new LightIceBlock();
-            case HEAVY_ICE_BLOCK -> new HeavyIceBlock();
-            case SEA_LION -> new SeaLion();
-            case HOLE_IN_ICE -> new HoleInIce();
-            default ->
-                throw new IllegalStateException("Unknown hazard type: " + type);
-        };
+    public void setAiFactory(IPenguinController.Factory aiFactory) {
+        this.aiFactory = aiFactory;
     }
 
     /**
-     * Places given number of food items randomly on the grid.
-     * Food items cannot occupy the same space as penguins or hazards.
+     * Sets the requirements the board must meet, e.g. {@link BoardConstraints#PLAYABLE} to avoid
+     * penguins boxed in by holes or without food in reach. Boards are generated again until
+     * one meets them. Must be called before {@link #startGame()}.
      *
-     * @param numOfFood Number of food to be placed on the grid
+     * @param boardConstraints The constraints, or null for a uniformly random board (the default)
      */
-    private void placeFood(int numOfFood) {
-        List<Position> availablePositions = getEmptyPositions();
-        Collections.shuffle(availablePositions);
-
-        for (int i = 0; i < numOfFood && i < availablePositions.size(); i++) {
-            Food food = Food.createRandom();
-            grid.set(availablePositions.get(i), food);
-        }
+    public void setBoardConstraints(BoardConstraints boardConstraints) {
+        this.boardConstraints = boardConstraints;
     }
 
     /**
-     * Gets all empty positions on the grid.
-     *
-     * @return List of empty positions
+     * Starts the game - main entry point called from main().
+     * Initializes terrain, displays initial state, and runs the game loop.
      */
-    private List<Position> getEmptyPositions() {
-        List<Position> empty = new ArrayList<>();
-        for (Position pos : grid.getAllPositions()) {
-            if (grid.isEmpty(pos)) {
-                empty.add(pos);
+    public void startGame() {
+        initialize();
+
+        // On a terminal the grid is pinned to the top of the screen and updated in place
+        drawInPlace = console && GridRenderer.isTerminal();
+        if (drawInPlace) {
+            renderer.attach(out);
+        }
+
+        out.println("Welcome to Sliding Penguins Puzzle Game App." +
+            " A " + grid.getRows() + "x" + grid.getCols() + " icy terrain grid is being generated.");
+        out.println("Penguins, Hazards, and Food items are also being generated. " +
+            "The initial icy terrain grid:");
+
+        if (!drawInPlace) {
+            out.println(renderer.render());
+        }
+        displayPenguinInfo();
+
+        try {
+            runGameLoop(NUM_OF_ROUNDS);
+        } finally {
+            // Also when the player's input ends mid-game
+            for (IPenguinController controller : controllers) {
+                controller.close();
             }
+            out.flush();
         }
-        return empty;
+
+        renderer.detach(out);
+        displayScoreboard();
+        out.flush();
     }
 
     /**
-     * Renders the terrain grid to a string in the format specified.
-     * Format: Grid with borders and cell contents matching the example.
-     *
-     * @return String representation of the grid
+     * Initializes the terrain with penguins, hazards, and food items.
+     * - 3 penguins placed on edge squares
+     * - 15 hazards placed randomly
+     * - 20 food items placed randomly
+     * With board constraints, the board is generated again until it meets them.
+     * One penguin is randomly assigned as the player's penguin.
      */
-    private String renderGrid() {
-        StringBuilder sb = new StringBuilder();
-        String horizontalBorder = "---------------------------------------------------\n";
-
-        for (int row = 0; row < TerrainGrid.GRID_SIZE; row++) {
-            sb.append(horizontalBorder);
-            sb.append("|");
-
-            for (int col = 0; col < TerrainGrid.GRID_SIZE; col++) {
-                Position pos = new Position(row, col);
-                ITerrainObject obj = grid.get(pos);
-
-                String cell;
-                if (obj == null) {
-                    cell = "    "; // Empty: 4 spaces
-                } else {
-                    String symbol = obj.getDisplaySymbol();
-                    // Center the symbol in a 4-character field
-                    cell = " " + String.format("%-2s", symbol) + " ";
-                }
-                sb.append(cell);
-                sb.append("|");
+    private void initialize() {
+        if (boardConstraints != null) {
+            GameSettings settings = new GameSettings(grid.getRows(), grid.getCols(),
+                    NUM_OF_PENGUINS, NUM_OF_HAZARDS, NUM_OF_FOOD, NUM_OF_ROUNDS);
+            try (ConstrainedBoardGenerator generator = new ConstrainedBoardGenerator(settings, boardConstraints, 1)) {
+                penguins.addAll(generator.generate(grid, rng));
             }
-            sb.append("\n");
+        } else {
+            BoardGenerator generator = new BoardGenerator(grid, rng);
+
+            // Place 3 penguins on edges
+            penguins.addAll(generator.placePenguins(NUM_OF_PENGUINS));
+
+            // Place 15 hazards
+            generator.placeHazards(NUM_OF_HAZARDS);
+
+            // Place 20 food items
+            generator.placeFood(NUM_OF_FOOD);
         }
-        sb.append(horizontalBorder);
 
-        return sb.toString();
+        // Randomly assign player penguin
+        playerPenguin = penguins.get(rng.nextInt(penguins.size()));
+
+        // Initialize collision handler, controllers and renderer with grid
+        this.collisionHandler = new CollisionHandler(grid);
+        IPenguinController ai = aiFactory != null ? aiFactory.create(grid, penguins, NUM_OF_ROUNDS, rng)
+                : new MonteCarloAI(grid, penguins, NUM_OF_ROUNDS, MonteCarloAI.DEFAULT_BUDGET,
+                        Runtime.getRuntime().availableProcessors(), rng);
+        ConsolePlayer player = new ConsolePlayer(scanner, out);
+        for (Penguin penguin : penguins) {
+            controllers.add(penguin == playerPenguin ? player : ai);
+        }
+        this.renderer = new GridRenderer(grid);
     }
 
     /**
      * Displays information about the penguins.
      */
     private void displayPenguinInfo() {
-        System.out.println("These are the penguins on the icy terrain:");
+        out.println("These are the penguins on the icy terrain:");
         for (Penguin p : penguins) {
             String playerIndicator = (p == playerPenguin) ? " ---> YOUR PENGUIN" : "";
-            System.out.println("- Penguin " + p.getName().substring(1) + " (" + p.getName() + "): " +
+            out.println("- Penguin " + p.getName().substring(1) + " (" + p.getName() + "): " +
                     p.getTypeName() + playerIndicator);
         }
     }
@@ -247,168 +257,95 @@ public class IcyTerrain {
      * Runs the main game loop for the given number of rounds for each penguin.
      */
     private void runGameLoop(int rounds) {
+        GameStateManager state = new GameStateManager(penguins, rounds);
 
-        for (int turn = 1; turn <= rounds; turn++) {
-            for (Penguin penguin : penguins) {
-                if (penguin.isRemoved()) {
-                    continue; // Skip removed penguins
-                }
-
-                System.out.println("*** Turn " + turn + " – " + penguin.getName() +
-                        (penguin == playerPenguin ? " (Your Penguin)" : "") + ":");
+        while (!state.isGameOver()) {
+            Penguin penguin = state.getCurrentPenguin(); // Removed penguins are skipped
+            int turn = state.getCurrentTurn();
 
-                // Check if stunned
-                if (penguin.isStunned()) {
-                    System.out.println(penguin.getName() + " is stunned and skips this turn.");
-                    penguin.setStunned(false); // Remove stun for next turn
-                    continue;
-                }
+            out.println("*** Turn " + turn + " – " + penguin.getName() +
+                    (penguin == playerPenguin ? " (Your Penguin)" : "") + ":");
 
-                if (penguin == playerPenguin) {
-                    handlePlayerTurn(penguin);
-                } else {
-                    handleAITurn(penguin);
-                }
+            // Check if stunned
+            if (state.skipIfStunned()) {
+                out.println(penguin.getName() + " is stunned and skips this turn.");
+                out.endTurn();
+                continue;
+            }
 
-                System.out.println("New state of the grid:");
-                System.out.println(renderGrid());
+            IPenguinController controller = controllers.get(state.getCurrentPenguinIndex());
+            Decision decision = controller.decide(penguin, turn);
+            if (!controller.isHuman()) {
+                announceDecision(penguin, decision);
             }
+            state.advanceTurn(executeTurn(penguin, decision.direction(), decision.useSpecialAbility()));
+
+            showNewState();
+            out.endTurn();
         }
     }
 
     /**
-     * Handles a player's turn with input prompts.
+     * Shows the grid after a turn: redraws the changed squares in place on a terminal,
+     * or prints the full grid otherwise.
      */
-    private void handlePlayerTurn(Penguin penguin) {
-        boolean useSpecialAbility = false;
-
-        // Ask about special ability
-        if (penguin.canUseSpecialAbility()) {
-            System.out.print("Will " + penguin.getName() + " use its special action? Answer with Y or N --> ");
-            useSpecialAbility = promptYesNo();
+    private void showNewState() {
+        if (drawInPlace) {
+            renderer.update(out);
+        } else {
+            out.println("New state of the grid:");
+            out.println(renderer.render());
         }
-
-        // Get movement direction
-        System.out.print("Which direction will " + penguin.getName() +
-                " move? Answer with U (Up), D (Down), L (Left), R (Right) --> ");
-        Direction direction = promptDirection();
-
-        executeTurn(penguin, direction, useSpecialAbility);
     }
 
     /**
-     * Handles an AI penguin's turn with random decision making.
+     * Announces the decision made by an AI controller.
      */
-    private void handleAITurn(Penguin penguin) {
-        // AI has 30% chance to use special ability (except Rockhopper - see below)
-        boolean useSpecialAbility = false;
-        if (penguin.canUseSpecialAbility() && (Math.random() < 0.3)) {
-            useSpecialAbility = true;
-        }
+    private void announceDecision(Penguin penguin, Decision decision) {
+        boolean useSpecialAbility = decision.useSpecialAbility();
 
-        // Rockhopper automatically uses ability when moving towards hazard
-        if (penguin instanceof RockhopperPenguin && penguin.canUseSpecialAbility()) {
-            useSpecialAbility = false; // Will be set true if hazard detected
-        }
-
-        // Choose direction (prioritize food > non-hole hazards > water)
-        Direction direction = chooseAIDirection(penguin);
-
-        // Special case: Rockhopper auto-uses ability when moving towards hazard
-        if (penguin instanceof RockhopperPenguin && penguin.canUseSpecialAbility()) {
-            Position next = penguin.getPosition().move(direction);
-            if (grid.isValidPosition(next) && grid.get(next) instanceof Hazard) {
-                useSpecialAbility = true;
-                System.out.println(penguin.getName() + " will automatically USE its special action.");
-            }
+        if (decision.automatic()) {
+            out.println(penguin.getName() + " will automatically USE its special action.");
         }
-
-        if (useSpecialAbility && !(penguin instanceof RockhopperPenguin)) {
-            System.out.println(penguin.getName() + " chooses to USE its special action.");
+        if (useSpecialAbility && !decision.automatic()) {
+            out.println(penguin.getName() + " chooses to USE its special action.");
         } else if (!useSpecialAbility) {
-            System.out.println(penguin.getName() + " does NOT to use its special action.");
-        }
-
-        System.out.println(penguin.getName() + " chooses to move to the " + direction.getDisplayName() + ".");
-
-        executeTurn(penguin, direction, useSpecialAbility);
-    }
-
-    /**
-     * Chooses a direction for AI penguin based on priorities.
-     */
-    private Direction chooseAIDirection(Penguin penguin) {
-        Position pos = penguin.getPosition();
-        List<Direction> foodDirections = new ArrayList<>();
-        List<Direction> safeDirections = new ArrayList<>();
-        List<Direction> hazardDirections = new ArrayList<>();
-        List<Direction> waterDirections = new ArrayList<>();
-
-        for (Direction dir : Direction.values()) {
-            Position next = pos.move(dir);
-
-            if (!next.isWithinBounds(TerrainGrid.GRID_SIZE)) {
-                waterDirections.add(dir);
-                continue;
-            }
-
-            ITerrainObject obj = grid.get(next);
-            if (obj instanceof Food) {
-                foodDirections.add(dir);
-            } else if (obj instanceof HoleInIce && !((HoleInIce) obj).isPlugged()) {
-                // Treat unplugged hole as worst option (like water)
-                waterDirections.add(dir);
-            } else if (obj instanceof Hazard) {
-                hazardDirections.add(dir);
-            } else {
-                safeDirections.add(dir);
-            }
+            out.println(penguin.getName() + " does NOT to use its special action.");
         }
 
-        // Prioritize: food > safe > hazards > water
-        if (!foodDirections.isEmpty()) {
-            return foodDirections.get((int) (Math.random() * foodDirections.size()));
-        }
-        if (!safeDirections.isEmpty()) {
-            return safeDirections.get((int) (Math.random() * safeDirections.size()));
-        }
-        if (!hazardDirections.isEmpty()) {
-            return hazardDirections.get((int) (Math.random() * hazardDirections.size()));
-        }
-        // No choice but water
-        return waterDirections.get((int) (Math.random() * waterDirections.size()));
+        out.println(penguin.getName() + " chooses to move to the " + decision.direction().getDisplayName() + ".");
     }
 
     /**
      * Executes a penguin's turn with the specified direction and ability usage.
      */
-    private void executeTurn(Penguin penguin, Direction direction, boolean useSpecialAbility) {
-        CollisionHandler.MovementResult result = collisionHandler.movePenguin(penguin, direction, useSpecialAbility);
+    private CollisionHandler.TurnResult executeTurn(Penguin penguin, Direction direction, boolean useSpecialAbility) {
+        CollisionHandler.TurnResult turn = collisionHandler.executeTurn(penguin, direction, useSpecialAbility);
+        CollisionHandler.MovementResult result = turn.primary;
 
         // Display all messages from the movement
-        for (String message : result.getMessages()) {
-            System.out.println(message);
-        }
+        printMessages(result);
 
-        // Handle special cases from result
-        if (result.penguinBouncedBack) {
-            // Penguin bounced back, slide in opposite direction
-            CollisionHandler.MovementResult bounceResult = collisionHandler.movePenguin(penguin, result.bounceDirection,
-                    false);
-            for (String message : bounceResult.getMessages()) {
-                System.out.println(message);
-            }
+        // Penguin bounced back and slid in the opposite direction
+        if (turn.bounce != null) {
+            printMessages(turn.bounce);
         }
 
-        if (result.triggeredPenguinSlide != null) {
+        if (turn.triggered != null) {
             // Another penguin started sliding
-            System.out.println(result.triggeredPenguinSlide.getName() + " starts sliding " +
+            out.println(result.triggeredPenguinSlide.getName() + " starts sliding " +
                     result.slideDirection.getDisplayName() + "!");
-            CollisionHandler.MovementResult slideResult = collisionHandler.movePenguin(result.triggeredPenguinSlide,
-                    result.slideDirection, false);
-            for (String message : slideResult.getMessages()) {
-                System.out.println(message);
-            }
+            printMessages(turn.triggered);
+        }
+        return turn;
+    }
+
+    /**
+     * Prints the messages of a movement, formatting its events as they are printed.
+     */
+    private void printMessages(CollisionHandler.MovementResult result) {
+        for (IMovementEvent event : result.getEvents()) {
+            MovementEventFormatter.format(event, out::println);
         }
     }
 
@@ -416,8 +353,8 @@ public class IcyTerrain {
      * Displays the final scoreboard with rankings.
      */
     private void displayScoreboard() {
-        System.out.println("***** GAME OVER *****");
-        System.out.println("***** SCOREBOARD FOR THE PENGUINS *****");
+        out.println("***** GAME OVER *****");
+        out.println("***** SCOREBOARD FOR THE PENGUINS *****");
 
         // Sort penguins by total food weight (descending)
         List<Penguin> ranked = new ArrayList<>(penguins);
@@ -426,24 +363,24 @@ public class IcyTerrain {
         int place = 1;
         for (Penguin penguin : ranked) {
             String playerIndicator = (penguin == playerPenguin) ? " (Your Penguin)" : "";
-            System.out.println("* " + getPlaceString(place) + " place: " + penguin.getName() + playerIndicator);
+            out.println("* " + getPlaceString(place) + " place: " + penguin.getName() + playerIndicator);
 
-            System.out.print(" |---> Food items: ");
+            out.print(" |---> Food items: ");
             List<Food> foods = penguin.getFoodInventory();
             if (foods.isEmpty()) {
-                System.out.println("None");
+                out.println("None");
             } else {
                 for (int i = 0; i < foods.size(); i++) {
                     Food food = foods.get(i);
-                    System.out.print(food.getFoodType().getDisplaySymbol() + " (" + food.getWeight() + " units)");
+                    out.print(food.getFoodType().getDisplaySymbol() + " (" + food.getWeight() + " units)");
                     if (i < foods.size() - 1) {
-                        System.out.print(", ");
+                        out.print(", ");
                     }
                 }
-                System.out.println();
+                out.println();
             }
 
-            System.out.println(" |---> Total weight: " + penguin.getTotalFoodWeight() + " units");
+            out.println(" |---> Total weight: " + penguin.getTotalFoodWeight() + " units");
             place++;
         }
     }
@@ -460,34 +397,4 @@ public class IcyTerrain {
             return "3rd";
         return place + "th";
     }
-
-    /**
-     * Prompts user for yes/no input (case-insensitive).
-     */
-    private boolean promptYesNo() {
-        while (true) {
-            String input = scanner.nextLine().trim().toUpperCase();
-            if (input.equals("Y") || input.equals("YES")) {
-                return true;
-            } else if (input.equals("N") || input.equals("NO")) {
-                return false;
-            }
-            System.out.print("Invalid input. Please answer with Y or N --> ");
-        }
-    }
-
-    /**
-     * Prompts user for direction input (case-insensitive).
-     */
-    private Direction promptDirection() {
-        while (true) {
-            String input = scanner.nextLine().trim();
-            try {
-                return Direction.fromInput(input);
-            }
-            catch (IllegalArgumentException e) {
-                System.out.print("Invalid input. Please answer with U (Up), D (Down), L (Left), R (Right) --> ");
-            }
-        }
-    }
 }
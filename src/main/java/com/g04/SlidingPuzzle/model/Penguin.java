@@ -2,12 +2,12 @@ package com.g04.SlidingPuzzle.model;
 
 import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
 import com.g04.SlidingPuzzle.exception.InvalidMoveException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinListener;
 import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
 import com.g04.SlidingPuzzle.model.enums.PenguinType;
 import com.g04.SlidingPuzzle.model.terrain.Position;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,10 +17,11 @@ import java.util.List;
 public abstract class Penguin implements ITerrainObject {
     private final String name;
     private Position position;
-    private final List<Food> foodInventory;
+    private final FoodInventory foodInventory;
     private boolean specialAbilityUsed;
     private boolean isStunned;
     private boolean isRemoved;
+    private IPenguinListener[] listeners = new IPenguinListener[0];
 
     /**
      * Creates a new penguin with the specified name.
@@ -33,7 +34,7 @@ public abstract class Penguin implements ITerrainObject {
             throw InvalidGameStateException.nullParameter("name");
         }
         this.name = name;
-        this.foodInventory = new ArrayList<>();
+        this.foodInventory = new FoodInventory();
         this.specialAbilityUsed = false;
         this.isStunned = false;
         this.isRemoved = false;
@@ -89,6 +90,7 @@ public abstract class Penguin implements ITerrainObject {
             );
         }
         this.specialAbilityUsed = true;
+        fireChanged();
     }
 
     /**
@@ -115,6 +117,7 @@ public abstract class Penguin implements ITerrainObject {
             throw InvalidGameStateException.nullParameter("food");
         }
         foodInventory.add(food);
+        fireChanged();
     }
 
     /**
@@ -124,11 +127,24 @@ public abstract class Penguin implements ITerrainObject {
      * @return The removed food item, or null if inventory is empty
      */
     public Food removeLightestFood() {
-        if (foodInventory.isEmpty()) {
-            return null;
+        Food lightest = foodInventory.removeLightest();
+        if (lightest != null) {
+            fireChanged();
         }
-        foodInventory.sort(Comparator.comparingInt(Food::getWeight));
-        return foodInventory.remove(0);
+        return lightest;
+    }
+
+    /**
+     * Removes and returns the last food item of the inventory, e.g. when collecting it is undone.
+     *
+     * @return The removed food item, or null if inventory is empty
+     */
+    public Food removeLastFood() {
+        Food last = foodInventory.removeLast();
+        if (last != null) {
+            fireChanged();
+        }
+        return last;
     }
 
     /**
@@ -137,16 +153,27 @@ public abstract class Penguin implements ITerrainObject {
      * @return The total weight in units
      */
     public int getTotalFoodWeight() {
-        return foodInventory.stream().mapToInt(Food::getWeight).sum();
+        return foodInventory.getTotalWeight();
     }
 
     /**
-     * Gets the list of collected food items.
+     * Gets the number of collected food items of one weight.
+     *
+     * @param weight The weight in units (1-5)
+     * @return The number of items
+     */
+    public int getFoodCount(int weight) {
+        return foodInventory.count(weight);
+    }
+
+    /**
+     * Gets a read-only view of the collected food items in inventory order.
+     * The view follows later changes; copy it to keep the current items.
      *
      * @return The food inventory
      */
     public List<Food> getFoodInventory() {
-        return new ArrayList<>(foodInventory);
+        return foodInventory.asList();
     }
 
     /**
@@ -165,6 +192,7 @@ public abstract class Penguin implements ITerrainObject {
      */
     public void setStunned(boolean stunned) {
         this.isStunned = stunned;
+        fireChanged();
     }
 
     /**
@@ -181,6 +209,77 @@ public abstract class Penguin implements ITerrainObject {
      */
     public void remove() {
         this.isRemoved = true;
+        fireChanged();
+    }
+
+    /**
+     * Restores the ability, stun and removal flags, e.g. when a move is undone.
+     * Unlike the regular setters this can clear the ability usage and the removal.
+     *
+     * @param specialAbilityUsed Whether the special ability has been used
+     * @param stunned Whether the penguin is stunned
+     * @param removed Whether the penguin has been removed from the game
+     */
+    public void restoreState(boolean specialAbilityUsed, boolean stunned, boolean removed) {
+        this.specialAbilityUsed = specialAbilityUsed;
+        this.isStunned = stunned;
+        this.isRemoved = removed;
+        fireChanged();
+    }
+
+    /**
+     * Replaces the food inventory, keeping the given order, e.g. when a move is undone.
+     *
+     * @param foods The food items the penguin holds
+     * @throws InvalidGameStateException if foods is null
+     */
+    public void restoreFoodInventory(List<Food> foods) {
+        if (foods == null) {
+            throw InvalidGameStateException.nullParameter("foods");
+        }
+        foodInventory.replaceAll(foods);
+        fireChanged();
+    }
+
+    /**
+     * Registers a listener that is told about every state change of this penguin.
+     *
+     * @param listener The listener to add
+     * @throws InvalidGameStateException if listener is null
+     */
+    public void addListener(IPenguinListener listener) {
+        if (listener == null) {
+            throw InvalidGameStateException.nullParameter("listener");
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Unregisters a listener. Does nothing if the listener was not registered.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(IPenguinListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                IPenguinListener[] remaining = new IPenguinListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners that the state of this penguin changed.
+     * Subclasses call this after changing state of their own.
+     */
+    protected void fireChanged() {
+        for (IPenguinListener listener : listeners) {
+            listener.penguinChanged(this);
+        }
     }
 
     @Override
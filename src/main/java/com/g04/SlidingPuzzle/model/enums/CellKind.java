@@ -0,0 +1,86 @@
+package com.g04.SlidingPuzzle.model.enums;
+
+import com.g04.SlidingPuzzle.interfaces.IHazard;
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+
+/**
+ * Represents the kind of content stored in a single terrain square.
+ * Used by primitive grid storage to classify cells without instanceof checks.
+ */
+public enum CellKind {
+    EMPTY,
+    PENGUIN,
+    FOOD,
+    LIGHT_ICE_BLOCK,
+    HEAVY_ICE_BLOCK,
+    SEA_LION,
+    HOLE_IN_ICE;
+
+    private static final CellKind[] VALUES = values();
+
+    /**
+     * Gets the compact byte code for this kind.
+     *
+     * @return The byte code (ordinal)
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Checks if this kind stops a sliding object (anything except empty ice and food).
+     *
+     * @return true if this kind blocks sliding, false otherwise
+     */
+    public boolean isBlocker() {
+        return this != EMPTY && this != FOOD;
+    }
+
+    /**
+     * Checks if this kind is one of the hazard kinds.
+     *
+     * @return true if hazard, false otherwise
+     */
+    public boolean isHazard() {
+        return ordinal() >= LIGHT_ICE_BLOCK.ordinal();
+    }
+
+    /**
+     * Gets the kind for a compact byte code.
+     *
+     * @param code The byte code produced by {@link #code()}
+     * @return The corresponding CellKind
+     */
+    public static CellKind fromCode(byte code) {
+        return VALUES[code];
+    }
+
+    /**
+     * Classifies a terrain object.
+     *
+     * @param object The object to classify (null for empty)
+     * @return The kind of the object
+     */
+    public static CellKind of(ITerrainObject object) {
+        if (object == null) {
+            return EMPTY;
+        }
+        if (object instanceof Penguin) {
+            return PENGUIN;
+        }
+        if (object instanceof Food) {
+            return FOOD;
+        }
+        if (object instanceof IHazard hazard) {
+            return switch (hazard.getHazardType()) {
+                case LIGHT_ICE_BLOCK -> LIGHT_ICE_BLOCK;
+                case HEAVY_ICE_BLOCK -> HEAVY_ICE_BLOCK;
+                case SEA_LION -> SEA_LION;
+                case HOLE_IN_ICE -> HOLE_IN_ICE;
+            };
+        }
+        throw new IllegalStateException("Unknown terrain object: " + object);
+    }
+}
@@ -1,5 +1,8 @@
 package com.g04.SlidingPuzzle.model.enums;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents the five types of food items available in the game.
  * Each food type has a specific display symbol for the grid.
@@ -11,6 +14,8 @@ public enum FoodType {
     SQUID("Sq"),
     MACKEREL("Ma");
 
+    private static final FoodType[] VALUES = values();
+
     private final String displaySymbol;
 
     /**
@@ -37,7 +42,16 @@ public enum FoodType {
      * @return A random FoodType
      */
     public static FoodType random() {
-        FoodType[] types = values();
-        return types[(int) (Math.random() * types.length)];
+        return random(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gets a random food type with equal probability, drawn from the given generator.
+     *
+     * @param rng The random number generator
+     * @return A random FoodType
+     */
+    public static FoodType random(RandomGenerator rng) {
+        return VALUES[rng.nextInt(VALUES.length)];
     }
 }
@@ -1,5 +1,8 @@
 package com.g04.SlidingPuzzle.model.enums;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents the four types of hazards available in the game.
  * Each hazard type has specific behavior and display symbol.
@@ -10,6 +13,8 @@ public enum HazardType {
     SEA_LION("SL", "Sea Lion", true),
     HOLE_IN_ICE("HI", "Hole in Ice", false);
 
+    private static final HazardType[] VALUES = values();
+
     private final String displaySymbol;
     private final String displayName;
     private final boolean canSlide;
@@ -60,7 +65,16 @@ public enum HazardType {
      * @return A random HazardType
      */
     public static HazardType random() {
-        HazardType[] types = values();
-        return types[(int) (Math.random() * types.length)];
+        return random(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gets a random hazard type with equal probability, drawn from the given generator.
+     *
+     * @param rng The random number generator
+     * @return A random HazardType
+     */
+    public static HazardType random(RandomGenerator rng) {
+        return VALUES[rng.nextInt(VALUES.length)];
     }
 }
@@ -1,5 +1,8 @@
 package com.g04.SlidingPuzzle.model.enums;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents the four types of penguins available in the game.
  * Each penguin type has unique abilities and characteristics.
@@ -10,6 +13,8 @@ public enum PenguinType {
     ROYAL("Royal Penguin", 0),
     ROCKHOPPER("Rockhopper Penguin", 0);
 
+    private static final PenguinType[] VALUES = values();
+
     private final String displayName;
     private final int specialStopSquare;
 
@@ -49,8 +54,17 @@ public enum PenguinType {
      * @return A random PenguinType
      */
     public static PenguinType random() {
-        PenguinType[] types = values();
-        return types[(int) (Math.random() * types.length)];
+        return random(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gets a random penguin type with equal probability, drawn from the given generator.
+     *
+     * @param rng The random number generator
+     * @return A random PenguinType
+     */
+    public static PenguinType random(RandomGenerator rng) {
+        return VALUES[rng.nextInt(VALUES.length)];
     }
 }
 
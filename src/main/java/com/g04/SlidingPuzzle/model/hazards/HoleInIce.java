@@ -44,6 +44,13 @@ public class HoleInIce extends Hazard {
         this.isPlugged = true;
     }
 
+    /**
+     * Opens this hole again, e.g. when the move that plugged it is undone.
+     */
+    public void unplug() {
+        this.isPlugged = false;
+    }
+
     @Override
     public String getDisplaySymbol() {
         return isPlugged ? "PH" : getHazardType().getDisplaySymbol();
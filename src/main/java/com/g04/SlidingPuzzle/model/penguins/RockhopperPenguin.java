@@ -38,6 +38,7 @@ public class RockhopperPenguin extends Penguin {
     public void prepareJump(Direction direction) {
         this.jumpPrepared = true;
         this.jumpDirection = direction;
+        fireChanged();
     }
 
     /**
@@ -64,5 +65,6 @@ public class RockhopperPenguin extends Penguin {
     public void clearJump() {
         this.jumpPrepared = false;
         this.jumpDirection = null;
+        fireChanged();
     }
 }
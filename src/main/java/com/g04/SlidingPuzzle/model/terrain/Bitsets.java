@@ -0,0 +1,78 @@
+package com.g04.SlidingPuzzle.model.terrain;
+
+/**
+ * Word-scanning helpers for the long[] bitsets used by the grid indexes.
+ * A bitset may be a slice of a larger array starting at a word offset.
+ */
+final class Bitsets {
+
+    private Bitsets() {
+    }
+
+    /**
+     * Gets the number of 64-bit words needed for the given number of bits.
+     */
+    static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    static boolean get(long[] bits, int offset, int bit) {
+        return (bits[offset + (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    static void set(long[] bits, int offset, int bit) {
+        bits[offset + (bit >>> 6)] |= 1L << bit;
+    }
+
+    static void clear(long[] bits, int offset, int bit) {
+        bits[offset + (bit >>> 6)] &= ~(1L << bit);
+    }
+
+    static void toggle(long[] bits, int offset, int bit) {
+        bits[offset + (bit >>> 6)] ^= 1L << bit;
+    }
+
+    /**
+     * Finds the lowest set bit in [from, to] of a bitset slice, or -1.
+     */
+    static int nextSetBit(long[] bits, int offset, int from, int to) {
+        if (from > to) {
+            return -1;
+        }
+        int word = from >>> 6;
+        int lastWord = to >>> 6;
+        long current = bits[offset + word] & (-1L << from);
+        while (true) {
+            if (current != 0) {
+                int found = (word << 6) + Long.numberOfTrailingZeros(current);
+                return found <= to ? found : -1;
+            }
+            if (++word > lastWord) {
+                return -1;
+            }
+            current = bits[offset + word];
+        }
+    }
+
+    /**
+     * Finds the highest set bit in [to, from] of a bitset slice (scanning downwards), or -1.
+     */
+    static int previousSetBit(long[] bits, int offset, int from, int to) {
+        if (from < to) {
+            return -1;
+        }
+        int word = from >>> 6;
+        int lastWord = to >>> 6;
+        long current = bits[offset + word] & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (current != 0) {
+                int found = (word << 6) + 63 - Long.numberOfLeadingZeros(current);
+                return found >= to ? found : -1;
+            }
+            if (--word < lastWord) {
+                return -1;
+            }
+            current = bits[offset + word];
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.g04.SlidingPuzzle.model.terrain;
+
+import com.g04.SlidingPuzzle.interfaces.IGridStorage;
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+
+import java.util.Arrays;
+
+/**
+ * Grid storage backed by flat primitive arrays.
+ * Keeps a byte cell-kind array plus a parallel object table, both indexed by
+ * {@code row * cols + col}, so lookups cost a single array access and kind
+ * checks need no instanceof.
+ */
+public class FlatGridStorage implements IGridStorage {
+    private final int rows;
+    private final int cols;
+    private final byte[] kinds;
+    private final ITerrainObject[] objects;
+
+    /**
+     * Creates a new empty flat storage.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     */
+    public FlatGridStorage(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        int cells = Math.multiplyExact(rows, cols);
+        this.kinds = new byte[cells];
+        this.objects = new ITerrainObject[cells];
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public ITerrainObject get(int row, int col) {
+        return objects[row * cols + col];
+    }
+
+    @Override
+    public void set(int row, int col, ITerrainObject object) {
+        int index = row * cols + col;
+        objects[index] = object;
+        kinds[index] = CellKind.of(object).code();
+    }
+
+    @Override
+    public CellKind getKind(int row, int col) {
+        return CellKind.fromCode(kinds[row * cols + col]);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(objects, null);
+        Arrays.fill(kinds, CellKind.EMPTY.code());
+    }
+}
@@ -0,0 +1,240 @@
+package com.g04.SlidingPuzzle.model.terrain;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IGridListener;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Index of the empty squares of a grid for random placement.
+ * The squares are kept in a virtual array whose first {@link #count()} slots hold the free
+ * squares: a square that is filled is swap-removed with the last free slot, and a square
+ * that is emptied is appended. Drawing a random slot and filling its square is one step of a
+ * partial Fisher-Yates shuffle, so placing k objects costs O(k) instead of a scan and a
+ * shuffle of the whole board.
+ * <p>
+ * The array starts as the identity (slot i holds square i), and only the slots and squares
+ * touched since are stored, in two small hash maps. Memory therefore grows with the number
+ * of squares changed, not with the board: a sparse 4,096x4,096 board needs no 16M-entry
+ * arrays. Square indexes are row-major ({@code row * cols + col}).
+ * <p>
+ * The index built by {@link TerrainGrid#getFreeCells()} is kept in sync with every grid
+ * change as a grid listener. A standalone index over {@code rows * cols} slots can be used to
+ * draw distinct indexes of any list (e.g. edge squares) by taking them.
+ */
+public class FreeCellIndex implements IGridListener {
+    private static final int NOT_FREE = -1;
+
+    private final int cols;
+    private final int size;
+    /** Slot -> square, for slots that do not hold their own index. */
+    private final IntMap slotToCell = new IntMap();
+    /** Square -> slot, or NOT_FREE, for squares that are not in their own slot. */
+    private final IntMap cellToSlot = new IntMap();
+    private int count;
+
+    /**
+     * Creates an index of a rows x cols area whose squares are all free.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @throws InvalidGameStateException if a dimension is not positive
+     */
+    public FreeCellIndex(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new InvalidGameStateException("Index dimensions must be positive, got: " + rows + "x" + cols);
+        }
+        this.cols = cols;
+        this.size = Math.multiplyExact(rows, cols);
+        this.count = size;
+    }
+
+    /**
+     * Creates an index of the current empty squares of a grid.
+     * Only occupied squares are visited, found by word scans of the grid's slide index.
+     *
+     * @param grid The grid to index
+     */
+    FreeCellIndex(TerrainGrid grid) {
+        this(grid.getRows(), grid.getCols());
+        grid.getSlideIndex().forEachOccupied(this::remove);
+    }
+
+    /**
+     * Gets the number of free squares.
+     *
+     * @return The number of free squares
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Checks if a square is free.
+     *
+     * @param cell The row-major square index
+     * @return true if the square is in the index
+     */
+    public boolean contains(int cell) {
+        return slotOf(cell) != NOT_FREE;
+    }
+
+    /**
+     * Picks a uniformly random free square without removing it.
+     *
+     * @param rng The random number generator
+     * @return The row-major square index
+     * @throws InvalidGameStateException if no square is free
+     */
+    public int random(RandomGenerator rng) {
+        if (count == 0) {
+            throw new InvalidGameStateException("No free squares left");
+        }
+        return cellAt(rng.nextInt(count));
+    }
+
+    /**
+     * Picks a uniformly random free square and removes it from the index.
+     *
+     * @param rng The random number generator
+     * @return The row-major square index
+     * @throws InvalidGameStateException if no square is free
+     */
+    public int take(RandomGenerator rng) {
+        int cell = random(rng);
+        remove(cell);
+        return cell;
+    }
+
+    /**
+     * Marks a square as occupied. Does nothing if it is already occupied.
+     *
+     * @param cell The row-major square index
+     */
+    public void remove(int cell) {
+        int slot = slotOf(cell);
+        if (slot == NOT_FREE) {
+            return;
+        }
+        int last = --count;
+        int lastCell = cellAt(last);
+        place(lastCell, slot);
+        cellToSlot.put(cell, NOT_FREE);
+    }
+
+    /**
+     * Marks a square as free. Does nothing if it is already free.
+     *
+     * @param cell The row-major square index
+     */
+    public void add(int cell) {
+        if (slotOf(cell) == NOT_FREE) {
+            place(cell, count++);
+        }
+    }
+
+    @Override
+    public void cellChanged(int row, int col, CellKind previous, CellKind current) {
+        if (previous == CellKind.EMPTY && current != CellKind.EMPTY) {
+            remove(row * cols + col);
+        } else if (previous != CellKind.EMPTY && current == CellKind.EMPTY) {
+            add(row * cols + col);
+        }
+    }
+
+    @Override
+    public void gridCleared() {
+        slotToCell.clear();
+        cellToSlot.clear();
+        count = size;
+    }
+
+    private int slotOf(int cell) {
+        return cellToSlot.get(cell, cell);
+    }
+
+    private int cellAt(int slot) {
+        return slotToCell.get(slot, slot);
+    }
+
+    /**
+     * Puts a square into a slot.
+     */
+    private void place(int cell, int slot) {
+        slotToCell.put(slot, cell);
+        cellToSlot.put(cell, slot);
+    }
+
+    /**
+     * Open-addressing int-to-int map with linear probing. Keys are non-negative.
+     */
+    private static final class IntMap {
+        private static final int EMPTY_KEY = -1;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] keys = newKeys(INITIAL_CAPACITY);
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size;
+
+        int get(int key, int defaultValue) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+                if (keys[i] == EMPTY_KEY) {
+                    return defaultValue;
+                }
+            }
+        }
+
+        void put(int key, int value) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY_KEY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == EMPTY_KEY) {
+                keys[i] = key;
+                if (++size * 2 > keys.length) {
+                    values[i] = value;
+                    grow();
+                    return;
+                }
+            }
+            values[i] = value;
+        }
+
+        void clear() {
+            keys = newKeys(INITIAL_CAPACITY);
+            values = new int[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY_KEY);
+            return keys;
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.g04.SlidingPuzzle.model.terrain;
+
+import com.g04.SlidingPuzzle.interfaces.IGridStorage;
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grid storage backed by an ArrayList of ArrayLists.
+ * This is the default storage and fulfills the homework requirements.
+ */
+public class ListGridStorage implements IGridStorage {
+    private final int rows;
+    private final int cols;
+    private final List<List<ITerrainObject>> grid;
+
+    /**
+     * Creates a new empty list-backed storage.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     */
+    public ListGridStorage(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.grid = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            List<ITerrainObject> rowList = new ArrayList<>(cols);
+            for (int col = 0; col < cols; col++) {
+                rowList.add(null);
+            }
+            grid.add(rowList);
+        }
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public ITerrainObject get(int row, int col) {
+        return grid.get(row).get(col);
+    }
+
+    @Override
+    public void set(int row, int col, ITerrainObject object) {
+        grid.get(row).set(col, object);
+    }
+
+    @Override
+    public CellKind getKind(int row, int col) {
+        return CellKind.of(get(row, col));
+    }
+
+    @Override
+    public void clear() {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                grid.get(row).set(col, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.g04.SlidingPuzzle.model.terrain;
+
+import com.g04.SlidingPuzzle.interfaces.IGridListener;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Bitboard view of a terrain grid: one row-major bitset per kind of content (penguins,
+ * food and each hazard type) plus one for plugged holes, with per-kind counts.
+ * An extra column-major copy of the occupied squares lets column scans use word
+ * operations too. Square indexes are row-major ({@code row * cols + col}).
+ * The boards are optional: they are built on the first call to {@link TerrainGrid#getOccupancy()}
+ * and then kept in sync with every grid change as a grid listener.
+ */
+public class OccupancyBoards implements IGridListener {
+    private static final CellKind[] KINDS = CellKind.values();
+
+    private final TerrainGrid grid;
+    private final int rows;
+    private final int cols;
+    private final int cells;
+    private final long[][] kindBoards;
+    private final int[] counts;
+    private final long[] plugged;
+    private int pluggedCount;
+    private final long[] occupiedByRow;
+    private final long[] occupiedByCol;
+
+    /**
+     * Creates the boards for the current contents of a grid.
+     *
+     * @param grid The grid to mirror
+     */
+    OccupancyBoards(TerrainGrid grid) {
+        this.grid = grid;
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.cells = Math.multiplyExact(rows, cols);
+        int words = Bitsets.words(cells);
+        this.kindBoards = new long[KINDS.length][words];
+        this.counts = new int[KINDS.length];
+        this.plugged = new long[words];
+        this.occupiedByRow = new long[words];
+        this.occupiedByCol = new long[words];
+        rebuild();
+    }
+
+    /**
+     * Checks if a square holds content of the given kind.
+     *
+     * @param kind The kind to test for
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return true if the square holds that kind
+     */
+    public boolean contains(CellKind kind, int row, int col) {
+        if (kind == CellKind.EMPTY) {
+            return !isOccupied(row, col);
+        }
+        return Bitsets.get(kindBoards[kind.ordinal()], 0, row * cols + col);
+    }
+
+    /**
+     * Checks if a square holds any object.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return true if occupied
+     */
+    public boolean isOccupied(int row, int col) {
+        return Bitsets.get(occupiedByRow, 0, row * cols + col);
+    }
+
+    /**
+     * Checks if a square holds a plugged Hole in Ice.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return true if the square holds a plugged hole
+     */
+    public boolean isPluggedHole(int row, int col) {
+        return Bitsets.get(plugged, 0, row * cols + col);
+    }
+
+    /**
+     * Gets the number of squares holding the given kind.
+     *
+     * @param kind The kind to count ({@link CellKind#EMPTY} counts empty squares)
+     * @return The number of squares
+     */
+    public int count(CellKind kind) {
+        return kind == CellKind.EMPTY ? countEmpty() : counts[kind.ordinal()];
+    }
+
+    /**
+     * Gets the number of empty squares.
+     *
+     * @return The number of empty squares
+     */
+    public int countEmpty() {
+        int occupied = 0;
+        for (int i = 1; i < counts.length; i++) {
+            occupied += counts[i];
+        }
+        return cells - occupied;
+    }
+
+    /**
+     * Gets the number of plugged holes.
+     *
+     * @return The number of plugged holes
+     */
+    public int countPluggedHoles() {
+        return pluggedCount;
+    }
+
+    /**
+     * Gets the number of squares ahead of a square before the first occupied one.
+     *
+     * @param row The row of the starting square
+     * @param col The column of the starting square
+     * @param direction The direction to look in
+     * @return The number of steps to the first occupied square, or -1 if none is ahead
+     */
+    public int firstOccupied(int row, int col, Direction direction) {
+        int found;
+        switch (direction) {
+            case RIGHT -> {
+                found = Bitsets.nextSetBit(occupiedByRow, 0, row * cols + col + 1, row * cols + cols - 1);
+                return found < 0 ? -1 : found - row * cols - col;
+            }
+            case LEFT -> {
+                found = Bitsets.previousSetBit(occupiedByRow, 0, row * cols + col - 1, row * cols);
+                return found < 0 ? -1 : row * cols + col - found;
+            }
+            case DOWN -> {
+                found = Bitsets.nextSetBit(occupiedByCol, 0, col * rows + row + 1, col * rows + rows - 1);
+                return found < 0 ? -1 : found - col * rows - row;
+            }
+            case UP -> {
+                found = Bitsets.previousSetBit(occupiedByCol, 0, col * rows + row - 1, col * rows);
+                return found < 0 ? -1 : col * rows + row - found;
+            }
+            default -> throw new IllegalStateException("Unknown direction");
+        }
+    }
+
+    /**
+     * Passes the row-major index of every square holding the given kind to an action, in order.
+     *
+     * @param kind The kind to visit ({@link CellKind#EMPTY} visits empty squares)
+     * @param action The action receiving each square index
+     */
+    public void forEach(CellKind kind, IntConsumer action) {
+        boolean empty = kind == CellKind.EMPTY;
+        long[] board = empty ? occupiedByRow : kindBoards[kind.ordinal()];
+        for (int word = 0; word < board.length; word++) {
+            long bits = empty ? ~board[word] : board[word];
+            if (empty && word == board.length - 1 && (cells & 63) != 0) {
+                bits &= -1L >>> (64 - (cells & 63));
+            }
+            while (bits != 0) {
+                action.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @Override
+    public void cellChanged(int row, int col, CellKind previous, CellKind current) {
+        int index = row * cols + col;
+        if (previous != CellKind.EMPTY) {
+            Bitsets.clear(kindBoards[previous.ordinal()], 0, index);
+            counts[previous.ordinal()]--;
+        }
+        if (Bitsets.get(plugged, 0, index)) {
+            Bitsets.clear(plugged, 0, index);
+            pluggedCount--;
+        }
+        if (current != CellKind.EMPTY) {
+            Bitsets.set(kindBoards[current.ordinal()], 0, index);
+            counts[current.ordinal()]++;
+            if (current == CellKind.HOLE_IN_ICE && ((HoleInIce) grid.get(row, col)).isPlugged()) {
+                Bitsets.set(plugged, 0, index);
+                pluggedCount++;
+            }
+        }
+        if ((previous == CellKind.EMPTY) != (current == CellKind.EMPTY)) {
+            Bitsets.toggle(occupiedByRow, 0, index);
+            Bitsets.toggle(occupiedByCol, 0, col * rows + row);
+        }
+    }
+
+    @Override
+    public void gridCleared() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds all boards from the grid contents.
+     */
+    private void rebuild() {
+        for (long[] board : kindBoards) {
+            Arrays.fill(board, 0L);
+        }
+        Arrays.fill(counts, 0);
+        Arrays.fill(plugged, 0L);
+        Arrays.fill(occupiedByRow, 0L);
+        Arrays.fill(occupiedByCol, 0L);
+        pluggedCount = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cellChanged(row, col, CellKind.EMPTY, grid.getKind(row, col));
+            }
+        }
+    }
+}
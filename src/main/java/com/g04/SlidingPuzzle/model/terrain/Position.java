@@ -6,8 +6,15 @@ import com.g04.SlidingPuzzle.model.enums.Direction;
  * Represents a position on the terrain grid.
  * Immutable value object for row and column coordinates.
  * Note: Validation is optional since positions can be temporarily out of bounds during pathfinding.
+ * Small coordinates are interned through {@link #of(int, int)}, and hot loops can use the
+ * packed-long helpers ({@link #pack(int, int)}) to avoid creating positions at all.
  */
 public class Position {
+    /** Coordinates from -1 up to this bound (exclusive) are interned by {@link #of(int, int)}. */
+    private static final int CACHE_LIMIT = 127;
+    private static final int CACHE_DIM = CACHE_LIMIT + 1;
+    private static final Position[] CACHE = new Position[CACHE_DIM * CACHE_DIM];
+
     private final int row;
     private final int col;
 
@@ -24,6 +31,90 @@ public class Position {
         this.col = col;
     }
 
+    /**
+     * Gets the position with the specified row and column.
+     * Positions from (-1, -1) up to the cache limit are shared instances, so
+     * repeated lookups on normal boards allocate nothing.
+     *
+     * @param row The row coordinate (0-based)
+     * @param col The column coordinate (0-based)
+     * @return A Position with the given coordinates
+     */
+    public static Position of(int row, int col) {
+        if (row < -1 || row >= CACHE_LIMIT || col < -1 || col >= CACHE_LIMIT) {
+            return new Position(row, col);
+        }
+        int index = (row + 1) * CACHE_DIM + (col + 1);
+        Position cached = CACHE[index];
+        if (cached == null) {
+            // Benign race: positions are immutable, so a duplicate instance is harmless
+            cached = new Position(row, col);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Packs a row and column into a single long (row in the high 32 bits).
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return The packed coordinates
+     */
+    public static long pack(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the row of packed coordinates.
+     *
+     * @param packed Coordinates produced by {@link #pack(int, int)}
+     * @return The row coordinate
+     */
+    public static int rowOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Gets the column of packed coordinates.
+     *
+     * @param packed Coordinates produced by {@link #pack(int, int)}
+     * @return The column coordinate
+     */
+    public static int colOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Moves packed coordinates one square in the specified direction.
+     *
+     * @param packed Coordinates produced by {@link #pack(int, int)}
+     * @param direction The direction to move
+     * @return The packed coordinates of the neighbouring square
+     */
+    public static long move(long packed, Direction direction) {
+        return pack(rowOf(packed) + direction.getRowDelta(), colOf(packed) + direction.getColDelta());
+    }
+
+    /**
+     * Gets the position for packed coordinates.
+     *
+     * @param packed Coordinates produced by {@link #pack(int, int)}
+     * @return The corresponding Position
+     */
+    public static Position unpack(long packed) {
+        return of(rowOf(packed), colOf(packed));
+    }
+
+    /**
+     * Packs this position's coordinates into a single long.
+     *
+     * @return The packed coordinates
+     */
+    public long pack() {
+        return pack(row, col);
+    }
+
     /**
      * Gets the row coordinate.
      *
@@ -43,13 +134,13 @@ public class Position {
     }
 
     /**
-     * Creates a new position by moving in the specified direction.
+     * Gets the position reached by moving in the specified direction.
      *
      * @param direction The direction to move
-     * @return A new Position object representing the moved location
+     * @return A Position object representing the moved location (interned for small coordinates)
      */
     public Position move(Direction direction) {
-        return new Position(row + direction.getRowDelta(), col + direction.getColDelta());
+        return of(row + direction.getRowDelta(), col + direction.getColDelta());
     }
 
     /**
@@ -59,7 +150,18 @@ public class Position {
      * @return true if position is within bounds, false otherwise
      */
     public boolean isWithinBounds(int gridSize) {
-        return row >= 0 && row < gridSize && col >= 0 && col < gridSize;
+        return isWithinBounds(gridSize, gridSize);
+    }
+
+    /**
+     * Checks if this position is within the bounds of a rectangular grid.
+     *
+     * @param rows The number of rows of the grid
+     * @param cols The number of columns of the grid
+     * @return true if position is within bounds, false otherwise
+     */
+    public boolean isWithinBounds(int rows, int cols) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
     /**
@@ -69,7 +171,18 @@ public class Position {
      * @return true if position is on any edge, false otherwise
      */
     public boolean isEdge(int gridSize) {
-        return row == 0 || row == gridSize - 1 || col == 0 || col == gridSize - 1;
+        return isEdge(gridSize, gridSize);
+    }
+
+    /**
+     * Checks if this position is on the edge of a rectangular grid.
+     *
+     * @param rows The number of rows of the grid
+     * @param cols The number of columns of the grid
+     * @return true if position is on any edge, false otherwise
+     */
+    public boolean isEdge(int rows, int cols) {
+        return row == 0 || row == rows - 1 || col == 0 || col == cols - 1;
     }
 
     @Override
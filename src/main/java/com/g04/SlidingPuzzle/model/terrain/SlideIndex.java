@@ -0,0 +1,166 @@
+package com.g04.SlidingPuzzle.model.terrain;
+
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Incrementally maintained index that answers sliding queries without walking the ice.
+ * Blockers (anything except empty ice and food) and food squares are kept in per-row and
+ * per-column bitsets, so the free run to the next blocker or edge in any direction, and the
+ * food crossed on the way, are found with word scans instead of square-by-square lookups.
+ * The index is owned and kept up to date by {@link TerrainGrid}. A cell change costs O(1);
+ * a query costs one 64-bit word per 64 squares scanned (a single word on 10x10 boards).
+ */
+public class SlideIndex {
+    private final int rows;
+    private final int cols;
+    private final int rowWords;
+    private final int colWords;
+    private final long[] rowBlockers;
+    private final long[] colBlockers;
+    private final long[] rowFood;
+    private final long[] colFood;
+
+    /**
+     * Creates an index for an empty grid of the given dimensions.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     */
+    SlideIndex(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowWords = Bitsets.words(cols);
+        this.colWords = Bitsets.words(rows);
+        this.rowBlockers = new long[Math.multiplyExact(rows, rowWords)];
+        this.colBlockers = new long[Math.multiplyExact(cols, colWords)];
+        this.rowFood = new long[Math.multiplyExact(rows, rowWords)];
+        this.colFood = new long[Math.multiplyExact(cols, colWords)];
+    }
+
+    /**
+     * Gets the number of non-blocking squares ahead of a square in a direction.
+     * The square after the run is either a blocker or off the grid.
+     *
+     * @param row The row of the starting square
+     * @param col The column of the starting square
+     * @param direction The direction of travel
+     * @return The free run length (0 if the neighbouring square blocks)
+     */
+    public int freeRun(int row, int col, Direction direction) {
+        int blocker;
+        switch (direction) {
+            case RIGHT -> {
+                blocker = Bitsets.nextSetBit(rowBlockers, row * rowWords, col + 1, cols - 1);
+                return (blocker < 0 ? cols : blocker) - col - 1;
+            }
+            case LEFT -> {
+                blocker = Bitsets.previousSetBit(rowBlockers, row * rowWords, col - 1, 0);
+                return col - blocker - 1;
+            }
+            case DOWN -> {
+                blocker = Bitsets.nextSetBit(colBlockers, col * colWords, row + 1, rows - 1);
+                return (blocker < 0 ? rows : blocker) - row - 1;
+            }
+            case UP -> {
+                blocker = Bitsets.previousSetBit(colBlockers, col * colWords, row - 1, 0);
+                return row - blocker - 1;
+            }
+            default -> throw new IllegalStateException("Unknown direction");
+        }
+    }
+
+    /**
+     * Finds the first food square ahead of a square within a number of steps.
+     *
+     * @param row The row of the starting square
+     * @param col The column of the starting square
+     * @param direction The direction of travel
+     * @param maxSteps The maximum number of squares to look ahead
+     * @return The number of steps to the nearest food square, or -1 if there is none in range
+     */
+    public int nextFood(int row, int col, Direction direction, int maxSteps) {
+        if (maxSteps <= 0) {
+            return -1;
+        }
+        int found;
+        switch (direction) {
+            case RIGHT -> {
+                found = Bitsets.nextSetBit(rowFood, row * rowWords, col + 1, col + maxSteps);
+                return found < 0 ? -1 : found - col;
+            }
+            case LEFT -> {
+                found = Bitsets.previousSetBit(rowFood, row * rowWords, col - 1, col - maxSteps);
+                return found < 0 ? -1 : col - found;
+            }
+            case DOWN -> {
+                found = Bitsets.nextSetBit(colFood, col * colWords, row + 1, row + maxSteps);
+                return found < 0 ? -1 : found - row;
+            }
+            case UP -> {
+                found = Bitsets.previousSetBit(colFood, col * colWords, row - 1, row - maxSteps);
+                return found < 0 ? -1 : row - found;
+            }
+            default -> throw new IllegalStateException("Unknown direction");
+        }
+    }
+
+    /**
+     * Updates the index after a square changed content.
+     *
+     * @param row The row of the changed square
+     * @param col The column of the changed square
+     * @param previous The kind stored before the change
+     * @param current The kind stored after the change
+     */
+    void update(int row, int col, CellKind previous, CellKind current) {
+        if ((previous == CellKind.FOOD) != (current == CellKind.FOOD)) {
+            Bitsets.toggle(rowFood, row * rowWords, col);
+            Bitsets.toggle(colFood, col * colWords, row);
+        }
+        if (previous.isBlocker() != current.isBlocker()) {
+            Bitsets.toggle(rowBlockers, row * rowWords, col);
+            Bitsets.toggle(colBlockers, col * colWords, row);
+        }
+    }
+
+    /**
+     * Calls the action with the row-major index of every occupied square (blockers and food),
+     * scanning one word per 64 squares, so a sparse grid is walked without reading its storage.
+     *
+     * @param action Receives {@code row * cols + col} of each occupied square
+     */
+    void forEachOccupied(IntConsumer action) {
+        for (int row = 0; row < rows; row++) {
+            int offset = row * rowWords;
+            for (int col = Bitsets.nextSetBit(rowBlockers, offset, 0, cols - 1); col >= 0;
+                 col = Bitsets.nextSetBit(rowBlockers, offset, col + 1, cols - 1)) {
+                action.accept(row * cols + col);
+            }
+            for (int col = Bitsets.nextSetBit(rowFood, offset, 0, cols - 1); col >= 0;
+                 col = Bitsets.nextSetBit(rowFood, offset, col + 1, cols - 1)) {
+                action.accept(row * cols + col);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from scratch for the given grid contents.
+     *
+     * @param grid The grid whose contents to index
+     */
+    void rebuild(TerrainGrid grid) {
+        Arrays.fill(rowBlockers, 0L);
+        Arrays.fill(colBlockers, 0L);
+        Arrays.fill(rowFood, 0L);
+        Arrays.fill(colFood, 0L);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                update(row, col, CellKind.EMPTY, grid.getKind(row, col));
+            }
+        }
+    }
+}
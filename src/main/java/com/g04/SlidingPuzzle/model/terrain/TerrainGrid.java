@@ -1,35 +1,194 @@
 package com.g04.SlidingPuzzle.model.terrain;
 
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
 import com.g04.SlidingPuzzle.exception.InvalidPositionException;
+import com.g04.SlidingPuzzle.interfaces.IGridListener;
+import com.g04.SlidingPuzzle.interfaces.IGridStorage;
 import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
- * Represents the 10x10 grid of terrain squares.
+ * Represents the grid of terrain squares (10x10 by default, any rows x cols otherwise).
  * This is a pure data structure for storing and accessing terrain objects.
- * Uses ArrayList of ArrayLists to fulfill homework requirements.
+ * Cells are kept in a pluggable {@link IGridStorage}: by default an ArrayList of
+ * ArrayLists to fulfill homework requirements, or {@link FlatGridStorage} for
+ * large batch simulations.
  */
-public class TerrainGrid {
+public final class TerrainGrid {
+    /** Default grid size used by the standard game (10x10). */
     public static final int GRID_SIZE = 10;
-    private final List<List<ITerrainObject>> grid;
+    private final IGridStorage storage;
+    private final int rows;
+    private final int cols;
+    private final List<Position> allPositions;
+    private final List<Position> edgePositions;
+    private final SlideIndex slideIndex;
+    private IGridListener[] listeners = new IGridListener[0];
+    private OccupancyBoards occupancy;
+    private FreeCellIndex freeCells;
 
     /**
      * Creates a new empty terrain grid of size 10x10.
      * All squares are initialized to null (empty).
      */
     public TerrainGrid() {
-        grid = new ArrayList<>(GRID_SIZE);
-        for (int row = 0; row < GRID_SIZE; row++) {
-            List<ITerrainObject> rowList = new ArrayList<>(GRID_SIZE);
-            for (int col = 0; col < GRID_SIZE; col++) {
-                rowList.add(null);
+        this(GRID_SIZE, GRID_SIZE);
+    }
+
+    /**
+     * Creates a new empty list-backed terrain grid with the given dimensions.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @throws InvalidGameStateException if either dimension is not positive
+     */
+    public TerrainGrid(int rows, int cols) {
+        this(new ListGridStorage(validateDimension("rows", rows), validateDimension("cols", cols)));
+    }
+
+    /**
+     * Creates a new empty terrain grid on top of the given storage.
+     * The grid takes its dimensions from the storage.
+     *
+     * @param storage The cell storage to use
+     * @throws InvalidGameStateException if storage is null or has a non-positive dimension
+     */
+    public TerrainGrid(IGridStorage storage) {
+        if (storage == null) {
+            throw InvalidGameStateException.nullParameter("storage");
+        }
+        this.rows = validateDimension("rows", storage.getRows());
+        this.cols = validateDimension("cols", storage.getCols());
+        this.storage = storage;
+        this.allPositions = new AllPositionsView();
+        this.edgePositions = new EdgePositionsView();
+        this.slideIndex = new SlideIndex(rows, cols);
+        slideIndex.rebuild(this);
+    }
+
+    /**
+     * Creates a new empty 10x10 terrain grid backed by flat primitive arrays.
+     *
+     * @return A new flat-array terrain grid
+     */
+    public static TerrainGrid flat() {
+        return flat(GRID_SIZE, GRID_SIZE);
+    }
+
+    /**
+     * Creates a new empty terrain grid of the given dimensions backed by flat primitive arrays.
+     *
+     * @param rows The number of rows
+     * @param cols The number of columns
+     * @return A new flat-array terrain grid
+     * @throws InvalidGameStateException if either dimension is not positive
+     */
+    public static TerrainGrid flat(int rows, int cols) {
+        return new TerrainGrid(new FlatGridStorage(validateDimension("rows", rows), validateDimension("cols", cols)));
+    }
+
+    private static int validateDimension(String name, int value) {
+        if (value <= 0) {
+            throw new InvalidGameStateException("Grid " + name + " must be positive, got: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the slide index of this grid.
+     * The index is kept up to date by every set, remove, move and clear,
+     * and costs four bits per square on top of the storage.
+     *
+     * @return The slide index
+     */
+    public SlideIndex getSlideIndex() {
+        return slideIndex;
+    }
+
+    /**
+     * Gets the occupancy bitboards of this grid, building them on first use.
+     * Once built, the boards are kept up to date by every grid change.
+     *
+     * @return The occupancy bitboards
+     */
+    public OccupancyBoards getOccupancy() {
+        if (occupancy == null) {
+            occupancy = new OccupancyBoards(this);
+            addListener(occupancy);
+        }
+        return occupancy;
+    }
+
+    /**
+     * Gets the index of the empty squares of this grid, building it on first use.
+     * Building visits only the occupied squares; once built, the index is kept up to date
+     * by every grid change.
+     *
+     * @return The free-square index
+     */
+    public FreeCellIndex getFreeCells() {
+        if (freeCells == null) {
+            freeCells = new FreeCellIndex(this);
+            addListener(freeCells);
+        }
+        return freeCells;
+    }
+
+    /**
+     * Registers a listener that is told about every square change.
+     *
+     * @param listener The listener to add
+     * @throws InvalidGameStateException if listener is null
+     */
+    public void addListener(IGridListener listener) {
+        if (listener == null) {
+            throw InvalidGameStateException.nullParameter("listener");
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Unregisters a listener. Does nothing if the listener was not registered.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(IGridListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                IGridListener[] remaining = new IGridListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
             }
-            grid.add(rowList);
         }
     }
 
+    /**
+     * Gets the number of rows of this grid.
+     *
+     * @return The row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of this grid.
+     *
+     * @return The column count
+     */
+    public int getCols() {
+        return cols;
+    }
+
     /**
      * Gets the object at the specified position.
      *
@@ -40,7 +199,48 @@ public class TerrainGrid {
         if (!isValidPosition(position)) {
             return null;
         }
-        return grid.get(position.getRow()).get(position.getCol());
+        return storage.get(position.getRow(), position.getCol());
+    }
+
+    /**
+     * Gets the object at the specified row and column without creating a Position.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return The object at that square, or null if empty or out of bounds
+     */
+    public ITerrainObject get(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            return null;
+        }
+        return storage.get(row, col);
+    }
+
+    /**
+     * Gets the kind of content at the specified row and column without creating a Position.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return The cell kind, or EMPTY if out of bounds
+     */
+    public CellKind getKind(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            return CellKind.EMPTY;
+        }
+        return storage.getKind(row, col);
+    }
+
+    /**
+     * Gets the kind of content at the specified position.
+     *
+     * @param position The position to check
+     * @return The cell kind, or EMPTY if the position is invalid
+     */
+    public CellKind getKind(Position position) {
+        if (!isValidPosition(position)) {
+            return CellKind.EMPTY;
+        }
+        return storage.getKind(position.getRow(), position.getCol());
     }
 
     /**
@@ -52,7 +252,7 @@ public class TerrainGrid {
      */
     public void set(Position position, ITerrainObject object) {
         validatePosition(position);
-        grid.get(position.getRow()).set(position.getCol(), object);
+        write(position.getRow(), position.getCol(), object);
         if (object != null) {
             object.setPosition(position);
         }
@@ -65,7 +265,7 @@ public class TerrainGrid {
      * @return true if empty, false if occupied or invalid
      */
     public boolean isEmpty(Position position) {
-        return isValidPosition(position) && get(position) == null;
+        return isValidPosition(position) && storage.getKind(position.getRow(), position.getCol()) == CellKind.EMPTY;
     }
 
     /**
@@ -75,7 +275,18 @@ public class TerrainGrid {
      * @return true if valid, false otherwise
      */
     public boolean isValidPosition(Position position) {
-        return position != null && position.isWithinBounds(GRID_SIZE);
+        return position != null && position.isWithinBounds(rows, cols);
+    }
+
+    /**
+     * Checks if a row and column are within the grid bounds.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return true if valid, false otherwise
+     */
+    public boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
     /**
@@ -88,8 +299,8 @@ public class TerrainGrid {
         if (position == null) {
             throw InvalidPositionException.nullPosition();
         }
-        if (!position.isWithinBounds(GRID_SIZE)) {
-            throw InvalidPositionException.outOfBounds(position.getRow(), position.getCol(), GRID_SIZE);
+        if (!position.isWithinBounds(rows, cols)) {
+            throw InvalidPositionException.outOfBounds(position.getRow(), position.getCol(), rows, cols);
         }
     }
 
@@ -107,6 +318,80 @@ public class TerrainGrid {
         return obj;
     }
 
+    /**
+     * Removes an object from the grid at the specified row and column without creating a Position.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @return The removed object, or null if the square was empty
+     * @throws InvalidPositionException if the coordinates are out of bounds
+     */
+    public ITerrainObject remove(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            throw InvalidPositionException.outOfBounds(row, col, rows, cols);
+        }
+        ITerrainObject obj = storage.get(row, col);
+        write(row, col, null);
+        return obj;
+    }
+
+    /**
+     * Plugs the Hole in Ice at the specified square and notifies the listeners,
+     * since a plugged hole is displayed differently.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @throws InvalidPositionException if the coordinates are out of bounds
+     * @throws InvalidGameStateException if the square holds no Hole in Ice
+     */
+    public void plugHole(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            throw InvalidPositionException.outOfBounds(row, col, rows, cols);
+        }
+        if (!(storage.get(row, col) instanceof HoleInIce hole)) {
+            throw new InvalidGameStateException("No Hole in Ice at " + Position.of(row, col));
+        }
+        hole.plug();
+        fireCellChanged(row, col, CellKind.HOLE_IN_ICE, CellKind.HOLE_IN_ICE);
+    }
+
+    /**
+     * Opens the plugged Hole in Ice at the specified square again and notifies the listeners.
+     * Used to undo the move that plugged it.
+     *
+     * @param row The row coordinate
+     * @param col The column coordinate
+     * @throws InvalidPositionException if the coordinates are out of bounds
+     * @throws InvalidGameStateException if the square holds no Hole in Ice
+     */
+    public void unplugHole(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            throw InvalidPositionException.outOfBounds(row, col, rows, cols);
+        }
+        if (!(storage.get(row, col) instanceof HoleInIce hole)) {
+            throw new InvalidGameStateException("No Hole in Ice at " + Position.of(row, col));
+        }
+        hole.unplug();
+        fireCellChanged(row, col, CellKind.HOLE_IN_ICE, CellKind.HOLE_IN_ICE);
+    }
+
+    /**
+     * Writes a validated square and keeps the slide index and listeners in sync.
+     */
+    private void write(int row, int col, ITerrainObject object) {
+        CellKind previous = storage.getKind(row, col);
+        storage.set(row, col, object);
+        CellKind current = storage.getKind(row, col);
+        slideIndex.update(row, col, previous, current);
+        fireCellChanged(row, col, previous, current);
+    }
+
+    private void fireCellChanged(int row, int col, CellKind previous, CellKind current) {
+        for (IGridListener listener : listeners) {
+            listener.cellChanged(row, col, previous, current);
+        }
+    }
+
     /**
      * Moves an object from one position to another.
      * The source position is cleared and the target position is set.
@@ -128,46 +413,87 @@ public class TerrainGrid {
     }
 
     /**
-     * Gets all positions on the grid edges (for penguin placement).
+     * Gets all positions on the grid edges (for penguin placement), in row-major order.
+     * The returned list is a shared read-only view; copy it before shuffling.
      *
      * @return List of edge positions
      */
     public List<Position> getEdgePositions() {
-        List<Position> edges = new ArrayList<>();
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                Position pos = new Position(row, col);
-                if (pos.isEdge(GRID_SIZE)) {
-                    edges.add(pos);
-                }
-            }
-        }
-        return edges;
+        return edgePositions;
     }
 
     /**
-     * Gets all positions on the grid (for random placement).
+     * Gets all positions on the grid (for random placement), in row-major order.
+     * The returned list is a shared read-only view computed on access.
      *
      * @return List of all positions
      */
     public List<Position> getAllPositions() {
-        List<Position> positions = new ArrayList<>();
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                positions.add(new Position(row, col));
-            }
-        }
-        return positions;
+        return allPositions;
     }
 
     /**
      * Clears the entire grid (sets all positions to null).
      */
     public void clear() {
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                grid.get(row).set(col, null);
+        storage.clear();
+        slideIndex.rebuild(this);
+        for (IGridListener listener : listeners) {
+            listener.gridCleared();
+        }
+    }
+
+    /**
+     * Read-only row-major view of every position, computed on access.
+     */
+    private class AllPositionsView extends AbstractList<Position> implements RandomAccess {
+        @Override
+        public Position get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+            }
+            return Position.of(index / cols, index % cols);
+        }
+
+        @Override
+        public int size() {
+            return rows * cols;
+        }
+    }
+
+    /**
+     * Read-only row-major view of the edge positions, computed on access.
+     * Order: top row, then the left/right squares of each middle row, then the bottom row.
+     */
+    private class EdgePositionsView extends AbstractList<Position> implements RandomAccess {
+        @Override
+        public Position get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+            }
+            if (rows == 1) {
+                return Position.of(0, index);
+            }
+            if (cols == 1) {
+                return Position.of(index, 0);
+            }
+            if (index < cols) {
+                return Position.of(0, index);
+            }
+            int middle = index - cols;
+            int middleCount = 2 * (rows - 2);
+            if (middle < middleCount) {
+                return Position.of(1 + middle / 2, (middle % 2 == 0) ? 0 : cols - 1);
+            }
+            return Position.of(rows - 1, middle - middleCount);
+        }
+
+        @Override
+        public int size() {
+            if (rows == 1 || cols == 1) {
+                return rows * cols;
             }
+            return 2 * cols + 2 * (rows - 2);
         }
     }
 }
@@ -0,0 +1,87 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable requirements for the boards made by a {@link ConstrainedBoardGenerator}.
+ *
+ * @param minReachableFood Number of food items each penguin must be able to reach by sliding
+ *                         from its spawn square (see {@link ConstrainedBoardGenerator#countReachableFood})
+ * @param noHoleNextToSpawn Whether a Hole in Ice may not border a penguin's spawn square
+ * @param hazardWeights Relative weight of each hazard type when drawing hazards; missing types are never drawn
+ * @param density Share of the squares covered by hazards and food, split in the ratio of the
+ *                game settings' counts, or 0 to use the settings' counts as they are
+ */
+public record BoardConstraints(int minReachableFood, boolean noHoleNextToSpawn,
+                               Map<HazardType, Integer> hazardWeights, double density) {
+
+    /** Every hazard type with the same weight, as in unconstrained boards. */
+    public static final Map<HazardType, Integer> UNIFORM_HAZARDS = uniformWeights();
+
+    /** No requirements: boards are accepted as generated. */
+    public static final BoardConstraints NONE = new BoardConstraints(0, false, UNIFORM_HAZARDS, 0);
+
+    /** Boards without degenerate starts: no hole next to a spawn square and food in reach of every penguin. */
+    public static final BoardConstraints PLAYABLE = new BoardConstraints(1, true, UNIFORM_HAZARDS, 0);
+
+    /**
+     * Validates the constraints and copies the weights.
+     *
+     * @throws InvalidGameStateException if hazardWeights is null, a value is out of range or no hazard type has weight
+     */
+    public BoardConstraints {
+        if (minReachableFood < 0) {
+            throw new InvalidGameStateException("Reachable food cannot be negative, got: " + minReachableFood);
+        }
+        if (hazardWeights == null) {
+            throw InvalidGameStateException.nullParameter("hazardWeights");
+        }
+        EnumMap<HazardType, Integer> weights = new EnumMap<>(HazardType.class);
+        long total = 0;
+        for (Map.Entry<HazardType, Integer> entry : hazardWeights.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null || entry.getValue() < 0) {
+                throw new InvalidGameStateException("Hazard weights must be non-negative, got: " + hazardWeights);
+            }
+            weights.put(entry.getKey(), entry.getValue());
+            total += entry.getValue();
+        }
+        if (total == 0 || total > Integer.MAX_VALUE) {
+            throw new InvalidGameStateException("Hazard weights must add up to a positive int, got: " + hazardWeights);
+        }
+        if (!(density >= 0 && density < 1)) {
+            throw new InvalidGameStateException("Density must be at least 0 and below 1, got: " + density);
+        }
+        hazardWeights = Collections.unmodifiableMap(weights);
+    }
+
+    /**
+     * Gets the number of hazards and food items for a board of the given settings.
+     *
+     * @param settings The game settings
+     * @return The hazard count and the food count
+     */
+    int[] objectCounts(GameSettings settings) {
+        if (density == 0) {
+            return new int[] {settings.numOfHazards(), settings.numOfFood()};
+        }
+        long area = (long) settings.rows() * settings.cols();
+        int objects = (int) Math.round(density * area);
+        int configured = settings.numOfHazards() + settings.numOfFood();
+        int hazards = configured == 0 ? objects / 2
+                : (int) Math.round((double) objects * settings.numOfHazards() / configured);
+        return new int[] {hazards, objects - hazards};
+    }
+
+    private static Map<HazardType, Integer> uniformWeights() {
+        EnumMap<HazardType, Integer> weights = new EnumMap<>(HazardType.class);
+        for (HazardType type : HazardType.values()) {
+            weights.put(type, 1);
+        }
+        return Collections.unmodifiableMap(weights);
+    }
+}
@@ -0,0 +1,535 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IHazard;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Binary dataset file of boards and their {@link Features}, for balancing work on large
+ * corpora of generated boards.
+ * Boards are appended from any number of producer threads, which compute the features and
+ * encode the record, and are handed to a single writer thread through a bounded queue. A
+ * full queue blocks the producers until the writer catches up, so memory stays flat however
+ * many boards are written. Records are written in the order they are appended, which for a
+ * parallel batch is not board order; every record carries its board index.
+ * <p>
+ * Layout: the file starts with the magic "SPDS" and a version byte. Each board follows as a
+ * varint payload length and the payload: varint board index, 8-byte seed, the board as a
+ * {@link GameSnapshotCodec} snapshot without turn progress, then per penguin the varint
+ * reachable food and the zigzag varint best single-move gain, and per {@link HazardType} (in
+ * declaration order) the varint hazard count.
+ */
+public class BoardDataset implements AutoCloseable {
+    /** The current format version. */
+    public static final int VERSION = 1;
+    /** Default number of encoded boards that may wait for the writer. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final byte[] MAGIC = {'S', 'P', 'D', 'S'};
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int SOLVER_TABLE_CAPACITY = 1 << 8;
+    private static final HazardType[] HAZARD_TYPES = HazardType.values();
+    private static final byte[] END = new byte[0];
+
+    private final FileChannel channel;
+    private final BlockingQueue<byte[]> queue;
+    private final Thread writer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<FoodSolver> solvers = ThreadLocal.withInitial(() -> new FoodSolver(SOLVER_TABLE_CAPACITY));
+    private final LongAdder boards = new LongAdder();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private volatile long bytesWritten;
+    private volatile IOException failure;
+    private boolean closed;
+
+    /**
+     * Creates a dataset file with the default queue capacity, replacing an existing file.
+     *
+     * @param path The dataset file
+     * @throws IOException if the file cannot be opened
+     * @throws InvalidGameStateException if path is null
+     */
+    public BoardDataset(Path path) throws IOException {
+        this(path, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a dataset file, replacing an existing file.
+     *
+     * @param path The dataset file
+     * @param queueCapacity The number of encoded boards that may wait for the writer
+     * @throws IOException if the file cannot be opened
+     * @throws InvalidGameStateException if path is null or queueCapacity is not positive
+     */
+    public BoardDataset(Path path, int queueCapacity) throws IOException {
+        if (path == null) {
+            throw InvalidGameStateException.nullParameter("path");
+        }
+        if (queueCapacity <= 0) {
+            throw new InvalidGameStateException("Queue capacity must be positive, got: " + queueCapacity);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        buffer.put(MAGIC).put((byte) VERSION);
+        this.writer = new Thread(this::drain, "board-dataset-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Appends a generated board. Convenient as the consumer of
+     * {@link ConstrainedBoardGenerator#generate(int, long, Consumer)}.
+     *
+     * @param board The board to append
+     * @throws InvalidGameStateException if board is null, the dataset is closed or the writer failed
+     */
+    public void append(ConstrainedBoardGenerator.Board board) {
+        if (board == null) {
+            throw InvalidGameStateException.nullParameter("board");
+        }
+        append(board.index(), board.seed(), board.grid(), board.penguins());
+    }
+
+    /**
+     * Computes the features of a board and appends it. The features and the encoding are
+     * computed on the calling thread; the call blocks while the writer's queue is full.
+     * The board is not modified and may be reused once the call returns.
+     *
+     * @param index The board index
+     * @param seed The seed the board was generated from
+     * @param grid The board
+     * @param penguins The penguins on the board in turn order
+     * @throws InvalidGameStateException if grid or penguins is null, the board cannot be
+     *         encoded, the dataset is closed or the writer failed
+     */
+    public void append(int index, long seed, TerrainGrid grid, List<Penguin> penguins) {
+        Features features = computeFeatures(grid, penguins, solvers.get());
+        int snapshot = GameSnapshotCodec.encodedSize(grid, penguins, null);
+        int payload = GameSnapshotCodec.varintSize(index) + Long.BYTES + snapshot + features.encodedSize();
+        ByteBuffer record = ByteBuffer.allocate(GameSnapshotCodec.varintSize(payload) + payload);
+        GameSnapshotCodec.putVarint(record, payload);
+        GameSnapshotCodec.putVarint(record, index);
+        record.putLong(seed);
+        GameSnapshotCodec.encode(grid, penguins, null, record);
+        features.encode(record);
+
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                throw new InvalidGameStateException("Board dataset is closed");
+            }
+            checkWriter();
+            queue.put(record.array());
+            boards.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("Appending to the board dataset was interrupted", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Generates a batch of boards and appends each as soon as it is ready.
+     *
+     * @param generator The generator producing the boards
+     * @param count The number of boards
+     * @param seed The batch seed
+     * @return The generator's report for the batch
+     * @throws InvalidGameStateException if generator is null, count is negative, a board cannot
+     *         be generated, the dataset is closed or the writer failed
+     */
+    public ConstrainedBoardGenerator.Report append(ConstrainedBoardGenerator generator, int count, long seed) {
+        if (generator == null) {
+            throw InvalidGameStateException.nullParameter("generator");
+        }
+        return generator.generate(count, seed, this::append);
+    }
+
+    /**
+     * Gets the number of boards appended through this instance.
+     *
+     * @return The number of appended boards
+     */
+    public long getAppendedBoards() {
+        return boards.sum();
+    }
+
+    /**
+     * Gets the number of bytes written to the file so far, including the header.
+     *
+     * @return The file size once all appended boards are written
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Waits for the writer to write every appended board and closes the file.
+     *
+     * @throws IOException if writing failed
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    queue.put(END);
+                    writer.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                throw e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Computes the features of a board.
+     *
+     * @param grid The board
+     * @param penguins The penguins on the board in turn order
+     * @return The features
+     * @throws InvalidGameStateException if a parameter is null
+     */
+    public static Features computeFeatures(TerrainGrid grid, List<Penguin> penguins) {
+        return computeFeatures(grid, penguins, new FoodSolver(SOLVER_TABLE_CAPACITY));
+    }
+
+    private static Features computeFeatures(TerrainGrid grid, List<Penguin> penguins, FoodSolver solver) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (penguins == null) {
+            throw InvalidGameStateException.nullParameter("penguins");
+        }
+        List<Integer> reachable = new ArrayList<>(penguins.size());
+        List<Integer> gains = new ArrayList<>(penguins.size());
+        for (Penguin penguin : penguins) {
+            if (penguin.isRemoved()) {
+                reachable.add(0);
+                gains.add(0);
+            } else {
+                reachable.add(ConstrainedBoardGenerator.countReachableFood(grid, penguin.getPosition()));
+                int best = solver.solve(grid, penguins, penguin, 1).totalWeight();
+                gains.add(best - penguin.getTotalFoodWeight());
+            }
+        }
+        Map<HazardType, Integer> hazards = new EnumMap<>(HazardType.class);
+        for (HazardType type : HAZARD_TYPES) {
+            hazards.put(type, 0);
+        }
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                if (grid.getKind(row, col).isHazard()) {
+                    hazards.merge(((IHazard) grid.get(row, col)).getHazardType(), 1, Integer::sum);
+                }
+            }
+        }
+        return new Features(reachable, gains, hazards);
+    }
+
+    /**
+     * Reads every board of a dataset in file order, one record at a time.
+     *
+     * @param path The dataset file
+     * @param consumer The consumer receiving each board
+     * @return The number of boards read
+     * @throws IOException if reading fails
+     * @throws InvalidGameStateException if a parameter is null or the dataset is corrupt
+     */
+    public static long read(Path path, Consumer<Entry> consumer) throws IOException {
+        if (path == null) {
+            throw InvalidGameStateException.nullParameter("path");
+        }
+        if (consumer == null) {
+            throw InvalidGameStateException.nullParameter("consumer");
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+            if (!fill(in, buffer, HEADER_SIZE)) {
+                throw new InvalidGameStateException("Corrupt board dataset: missing header in " + path);
+            }
+            checkHeader(buffer, path);
+
+            long count = 0;
+            while (fill(in, buffer, 1)) {
+                fill(in, buffer, MAX_VARINT_SIZE);
+                int payload = readVarint(buffer);
+                if (payload > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect(payload).put(buffer).flip();
+                }
+                if (!fill(in, buffer, payload)) {
+                    throw new InvalidGameStateException("Corrupt board dataset: board " + count + " is truncated");
+                }
+                int end = buffer.position() + payload;
+                Entry entry = readEntry(buffer, end);
+                if (buffer.position() != end) {
+                    throw new InvalidGameStateException("Corrupt board dataset: board " + count + " has a wrong length");
+                }
+                consumer.accept(entry);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static Entry readEntry(ByteBuffer in, int end) {
+        int limit = in.limit();
+        try {
+            in.limit(end);
+            int index = GameSnapshotCodec.getVarint(in);
+            long seed = in.getLong();
+            GameSnapshotCodec.Snapshot snapshot = GameSnapshotCodec.decode(in);
+            int penguins = snapshot.penguins().size();
+            List<Integer> reachable = new ArrayList<>(penguins);
+            List<Integer> gains = new ArrayList<>(penguins);
+            for (int i = 0; i < penguins; i++) {
+                reachable.add(GameSnapshotCodec.getVarint(in));
+                int zigzag = GameSnapshotCodec.getVarint(in);
+                gains.add((zigzag >>> 1) ^ -(zigzag & 1));
+            }
+            Map<HazardType, Integer> hazards = new EnumMap<>(HazardType.class);
+            for (HazardType type : HAZARD_TYPES) {
+                hazards.put(type, GameSnapshotCodec.getVarint(in));
+            }
+            return new Entry(index, seed, snapshot.grid(), snapshot.penguins(),
+                    new Features(reachable, gains, hazards));
+        } catch (BufferUnderflowException e) {
+            throw new InvalidGameStateException("Corrupt board dataset: board record is truncated", e);
+        } finally {
+            in.limit(limit);
+        }
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        try {
+            return GameSnapshotCodec.getVarint(in);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidGameStateException("Corrupt board dataset: board record is truncated", e);
+        }
+    }
+
+    /**
+     * Reads from the channel until the buffer has at least the given number of bytes remaining.
+     *
+     * @return false if the end of the file came first
+     */
+    private static boolean fill(FileChannel in, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < needed) {
+                if (in.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    private static void checkHeader(ByteBuffer header, Path path) {
+        for (byte b : MAGIC) {
+            if (header.remaining() == 0 || header.get() != b) {
+                throw new InvalidGameStateException(path + " is not a board dataset");
+            }
+        }
+        int version = header.hasRemaining() ? header.get() & 0xFF : -1;
+        if (version != VERSION) {
+            throw new InvalidGameStateException("Unsupported board dataset version " + version + " in " + path);
+        }
+    }
+
+    private void checkWriter() {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new InvalidGameStateException("Board dataset writer failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Writer thread: copies queued records into the buffer until the end marker arrives.
+     * After a failure the remaining records are taken and dropped, so producers never block forever.
+     */
+    private void drain() {
+        while (true) {
+            byte[] record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                continue; // Only close() ends the writer
+            }
+            if (record == END) {
+                break;
+            }
+            if (failure != null) {
+                continue;
+            }
+            try {
+                if (record.length > buffer.remaining()) {
+                    flushBuffer();
+                }
+                if (record.length > buffer.capacity()) {
+                    write(ByteBuffer.wrap(record));
+                } else {
+                    buffer.put(record);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure == null) {
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        write(buffer.flip());
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer source) throws IOException {
+        int size = source.remaining();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        bytesWritten += size;
+    }
+
+    /**
+     * Features of a board computed when it is written.
+     *
+     * @param reachableFood Per penguin in turn order, the food items reachable by safe slides
+     *                      (see {@link ConstrainedBoardGenerator#countReachableFood}); 0 for removed penguins
+     * @param bestMoveGain Per penguin in turn order, the most food weight a single move gains
+     *                     (see {@link FoodSolver}); 0 for removed penguins
+     * @param hazardCounts The number of hazards of every type
+     */
+    public record Features(List<Integer> reachableFood, List<Integer> bestMoveGain,
+                           Map<HazardType, Integer> hazardCounts) {
+        public Features {
+            if (reachableFood == null) {
+                throw InvalidGameStateException.nullParameter("reachableFood");
+            }
+            if (bestMoveGain == null) {
+                throw InvalidGameStateException.nullParameter("bestMoveGain");
+            }
+            if (hazardCounts == null) {
+                throw InvalidGameStateException.nullParameter("hazardCounts");
+            }
+            if (reachableFood.size() != bestMoveGain.size()) {
+                throw new InvalidGameStateException("Features need one entry per penguin, got " +
+                        reachableFood.size() + " and " + bestMoveGain.size());
+            }
+            reachableFood = List.copyOf(reachableFood);
+            bestMoveGain = List.copyOf(bestMoveGain);
+            Map<HazardType, Integer> counts = new EnumMap<>(HazardType.class);
+            for (HazardType type : HAZARD_TYPES) {
+                counts.put(type, hazardCounts.getOrDefault(type, 0));
+            }
+            hazardCounts = Collections.unmodifiableMap(counts);
+        }
+
+        /**
+         * Gets the total number of hazards.
+         *
+         * @return The sum of the hazard counts
+         */
+        public int hazardCount() {
+            int total = 0;
+            for (int count : hazardCounts.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        private int encodedSize() {
+            int size = 0;
+            for (int i = 0; i < reachableFood.size(); i++) {
+                size += GameSnapshotCodec.varintSize(reachableFood.get(i))
+                        + GameSnapshotCodec.varintSize(zigzag(bestMoveGain.get(i)));
+            }
+            for (HazardType type : HAZARD_TYPES) {
+                size += GameSnapshotCodec.varintSize(hazardCounts.get(type));
+            }
+            return size;
+        }
+
+        private void encode(ByteBuffer out) {
+            for (int i = 0; i < reachableFood.size(); i++) {
+                GameSnapshotCodec.putVarint(out, reachableFood.get(i));
+                GameSnapshotCodec.putVarint(out, zigzag(bestMoveGain.get(i)));
+            }
+            for (HazardType type : HAZARD_TYPES) {
+                GameSnapshotCodec.putVarint(out, hazardCounts.get(type));
+            }
+        }
+
+        private static int zigzag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+    }
+
+    /**
+     * A board read back from a dataset.
+     *
+     * @param index The board index
+     * @param seed The seed the board was generated from
+     * @param grid The decoded board on a flat-array grid
+     * @param penguins The penguins on the board in turn order
+     * @param features The features computed when the board was written
+     */
+    public record Entry(int index, long seed, TerrainGrid grid, List<Penguin> penguins, Features features) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Hazard;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.hazards.LightIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.penguins.EmperorPenguin;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.penguins.RoyalPenguin;
+import com.g04.SlidingPuzzle.model.terrain.FreeCellIndex;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Service class for populating a terrain grid with penguins, hazards, and food.
+ * Used by the interactive game and by headless simulations.
+ */
+public class BoardGenerator {
+    private final TerrainGrid grid;
+    private final RandomGenerator rng;
+
+    /**
+     * Creates a new board generator for the specified grid using the calling thread's random
+     * generator. The generator must then only be used on that thread.
+     *
+     * @param grid The terrain grid to populate
+     */
+    public BoardGenerator(TerrainGrid grid) {
+        this(grid, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a new board generator for the specified grid.
+     * A generator seeded with the same value produces the same board.
+     *
+     * @param grid The terrain grid to populate
+     * @param rng The random number generator used for all placement decisions
+     */
+    public BoardGenerator(TerrainGrid grid, RandomGenerator rng) {
+        this.grid = grid;
+        this.rng = rng;
+    }
+
+    /**
+     * Populates the grid according to the given settings.
+     * Penguins are placed first on edge squares, then hazards, then food.
+     *
+     * @param settings The game settings
+     * @return The placed penguins in turn order
+     */
+    public List<Penguin> generate(GameSettings settings) {
+        List<Penguin> penguins = placePenguins(settings.numOfPenguins());
+        placeHazards(settings.numOfHazards());
+        placeFood(settings.numOfFood());
+        return penguins;
+    }
+
+    /**
+     * Populates the grid according to the given settings with penguins of the given types.
+     *
+     * @param settings The game settings
+     * @param types The type of each penguin in turn order; one per penguin of the settings
+     * @return The placed penguins in turn order
+     * @throws InvalidGameStateException if the number of types does not match the settings
+     */
+    public List<Penguin> generate(GameSettings settings, List<PenguinType> types) {
+        if (types == null || types.size() != settings.numOfPenguins()) {
+            throw new InvalidGameStateException("Expected " + settings.numOfPenguins() + " penguin types");
+        }
+        List<Penguin> penguins = placePenguins(types);
+        placeHazards(settings.numOfHazards());
+        placeFood(settings.numOfFood());
+        return penguins;
+    }
+
+    /**
+     * Places given number of penguins (at most 4) on distinct random edge positions.
+     * Each penguin has a random type (King, Emperor, Royal, or Rockhopper).
+     *
+     * @param numOfPenguins Number of penguins to place
+     * @return The placed penguins, named P1, P2, ...
+     * @throws InvalidGameStateException if more than 4 penguins are requested or the grid has too few edges
+     */
+    public List<Penguin> placePenguins(int numOfPenguins) {
+        return placePenguins(numOfPenguins, null);
+    }
+
+    /**
+     * Places penguins of the given types on random edge positions.
+     *
+     * @param types The type of each penguin in turn order (at most 4)
+     * @return The placed penguins, named P1, P2, ...
+     * @throws InvalidGameStateException if more than 4 types are given or the grid has too few edges
+     */
+    public List<Penguin> placePenguins(List<PenguinType> types) {
+        if (types == null) {
+            throw InvalidGameStateException.nullParameter("types");
+        }
+        return placePenguins(types.size(), types);
+    }
+
+    private List<Penguin> placePenguins(int numOfPenguins, List<PenguinType> types) {
+        if (numOfPenguins > 4)
+            throw new InvalidGameStateException("Number of penguins cannot be greater than 4.");
+
+        List<Position> edgePositions = grid.getEdgePositions();
+        if (edgePositions.size() < numOfPenguins)
+            throw new InvalidGameStateException("Grid has too few edge squares for " + numOfPenguins + " penguins.");
+        // Draw distinct edge indexes without copying or shuffling the edges
+        FreeCellIndex edges = new FreeCellIndex(1, edgePositions.size());
+
+        List<Penguin> penguins = new ArrayList<>(numOfPenguins);
+        for (int i = 0; i < numOfPenguins; i++) {
+            String name = "P" + (i + 1); // P1, P2, P3
+            PenguinType type = types == null ? PenguinType.random(rng) : types.get(i);
+            Penguin penguin = createPenguin(type, name);
+            grid.set(edgePositions.get(edges.take(rng)), penguin);
+            penguins.add(penguin);
+        }
+        return penguins;
+    }
+
+    /**
+     * Creates a penguin of the given type.
+     *
+     * @param type The penguin type
+     * @param name The penguin's identifier
+     * @return A new Penguin object of that type
+     */
+    public static Penguin createPenguin(PenguinType type, String name) {
+        return switch (type) {
+            case KING -> new KingPenguin(name);
+            case EMPEROR -> new EmperorPenguin(name);
+            case ROYAL -> new RoyalPenguin(name);
+            case ROCKHOPPER -> new RockhopperPenguin(name);
+        };
+    }
+
+    /**
+     * Places the given number of hazards randomly on the grid, or as many as there are empty squares.
+     * Hazards cannot occupy the same space as penguins.
+     *
+     * @param numOfHazards Number of hazards to be placed on the grid
+     */
+    public void placeHazards(int numOfHazards) {
+        FreeCellIndex free = grid.getFreeCells();
+        for (int i = 0; i < numOfHazards && free.count() > 0; i++) {
+            grid.set(randomEmptyPosition(free), createHazard(HazardType.random(rng)));
+        }
+    }
+
+    /**
+     * Places the given number of hazards randomly on the grid, or as many as there are empty
+     * squares, drawing each type with a probability proportional to its weight.
+     *
+     * @param numOfHazards Number of hazards to be placed on the grid
+     * @param weights The relative weight of each hazard type; missing types are never drawn
+     * @throws InvalidGameStateException if weights is null or its weights do not add up to a positive int
+     */
+    public void placeHazards(int numOfHazards, Map<HazardType, Integer> weights) {
+        if (weights == null) {
+            throw InvalidGameStateException.nullParameter("weights");
+        }
+        HazardType[] types = HazardType.values();
+        int[] cumulative = new int[types.length];
+        int total = 0;
+        for (int i = 0; i < types.length; i++) {
+            total += Math.max(0, weights.getOrDefault(types[i], 0));
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new InvalidGameStateException("Hazard weights must add up to a positive int, got: " + weights);
+        }
+
+        FreeCellIndex free = grid.getFreeCells();
+        for (int i = 0; i < numOfHazards && free.count() > 0; i++) {
+            int draw = rng.nextInt(total);
+            int type = 0;
+            while (cumulative[type] <= draw) {
+                type++;
+            }
+            grid.set(randomEmptyPosition(free), createHazard(types[type]));
+        }
+    }
+
+    /**
+     * Creates a hazard of the given type.
+     *
+     * @param type The hazard type
+     * @return A new hazard of that type
+     */
+    public static Hazard createHazard(HazardType type) {
+        return switch (type) {
+            case LIGHT_ICE_BLOCK -> new LightIceBlock();
+            case HEAVY_ICE_BLOCK -> new HeavyIceBlock();
+            case SEA_LION -> new SeaLion();
+            case HOLE_IN_ICE -> new HoleInIce();
+        };
+    }
+
+    /**
+     * Places given number of food items randomly on the grid, or as many as there are empty squares.
+     * Food items cannot occupy the same space as penguins or hazards.
+     *
+     * @param numOfFood Number of food to be placed on the grid
+     */
+    public void placeFood(int numOfFood) {
+        FreeCellIndex free = grid.getFreeCells();
+        for (int i = 0; i < numOfFood && free.count() > 0; i++) {
+            grid.set(randomEmptyPosition(free), Food.createRandom(rng));
+        }
+    }
+
+    /**
+     * Copies a game position onto an empty grid of the same dimensions.
+     * Every penguin, hazard and food item is recreated with the same state (food inventory,
+     * ability usage, stun, removal, prepared jump, plugged holes), so playing on the copy
+     * leaves the original untouched. Collected food items are immutable and are shared.
+     *
+     * @param source The grid to copy
+     * @param penguins The penguins of the game in turn order, including removed ones
+     * @param target The empty grid to copy onto
+     * @return The copied penguins in the same order
+     * @throws InvalidGameStateException if the grids differ in size
+     */
+    public static List<Penguin> copyBoard(TerrainGrid source, List<Penguin> penguins, TerrainGrid target) {
+        if (source.getRows() != target.getRows() || source.getCols() != target.getCols()) {
+            throw new InvalidGameStateException("Cannot copy a " + source.getRows() + "x" + source.getCols() +
+                    " board onto a " + target.getRows() + "x" + target.getCols() + " grid");
+        }
+        List<Penguin> copies = new ArrayList<>(penguins.size());
+        for (Penguin penguin : penguins) {
+            Penguin copy = createPenguin(penguin.getPenguinType(), penguin.getName());
+            for (Food food : penguin.getFoodInventory()) {
+                copy.collectFood(food);
+            }
+            if (penguin.hasUsedSpecialAbility()) {
+                copy.useSpecialAbility();
+            }
+            if (penguin instanceof RockhopperPenguin rockhopper && rockhopper.isJumpPrepared()) {
+                ((RockhopperPenguin) copy).prepareJump(rockhopper.getJumpDirection());
+            }
+            copy.setStunned(penguin.isStunned());
+            if (penguin.isRemoved()) {
+                copy.remove();
+            } else {
+                target.set(penguin.getPosition(), copy);
+            }
+            copies.add(copy);
+        }
+
+        for (int row = 0; row < source.getRows(); row++) {
+            for (int col = 0; col < source.getCols(); col++) {
+                CellKind kind = source.getKind(row, col);
+                if (kind == CellKind.FOOD) {
+                    Food food = (Food) source.get(row, col);
+                    target.set(Position.of(row, col), new Food(food.getFoodType(), food.getWeight()));
+                } else if (kind.isHazard()) {
+                    Hazard hazard = (Hazard) source.get(row, col);
+                    target.set(Position.of(row, col), createHazard(hazard.getHazardType()));
+                    if (hazard instanceof HoleInIce hole && hole.isPlugged()) {
+                        target.plugHole(row, col);
+                    }
+                }
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Picks a uniformly random empty square. Filling it removes it from the grid's free-square
+     * index, which makes the placement loops a partial Fisher-Yates shuffle of the empty squares.
+     */
+    private Position randomEmptyPosition(FreeCellIndex free) {
+        int cell = free.random(rng);
+        return Position.of(cell / grid.getCols(), cell % grid.getCols());
+    }
+}
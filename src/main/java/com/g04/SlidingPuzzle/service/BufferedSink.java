@@ -0,0 +1,141 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+
+import java.io.PrintStream;
+
+/**
+ * Output sink that collects the game's text in memory and hands it to the stream in one write
+ * (taking the stream's lock and flushing once) every given number of turns.
+ * Writing once per turn keeps an interactive game responsive; fast games, e.g. AI-only or
+ * redirected to a file, can batch many turns. Text is also written early when the buffer
+ * reaches its capacity, and whenever {@link #flush()} is called (the game flushes before
+ * waiting for the player's answer, so prompts are always shown).
+ * <p>
+ * Not thread-safe: a sink belongs to one game.
+ */
+public class BufferedSink implements IOutputSink {
+    /** Default number of characters held back before they are written regardless of turns. */
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final PrintStream out;
+    private final int turnsPerFlush;
+    private final int capacity;
+    private final StringBuilder buffer;
+    private int pendingTurns;
+    private long writeCount;
+
+    /**
+     * Creates a sink that writes to the given stream once per turn.
+     *
+     * @param out The stream to write to
+     * @throws InvalidGameStateException if out is null
+     */
+    public BufferedSink(PrintStream out) {
+        this(out, 1);
+    }
+
+    /**
+     * Creates a sink that writes to the given stream every given number of turns.
+     *
+     * @param out The stream to write to
+     * @param turnsPerFlush The number of turns collected per write
+     * @throws InvalidGameStateException if out is null or turnsPerFlush is not positive
+     */
+    public BufferedSink(PrintStream out, int turnsPerFlush) {
+        this(out, turnsPerFlush, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a sink that writes to the given stream every given number of turns, or as soon
+     * as the given number of characters is held back.
+     *
+     * @param out The stream to write to
+     * @param turnsPerFlush The number of turns collected per write
+     * @param capacity The number of characters held back at most
+     * @throws InvalidGameStateException if out is null or a number is not positive
+     */
+    public BufferedSink(PrintStream out, int turnsPerFlush, int capacity) {
+        if (out == null) {
+            throw InvalidGameStateException.nullParameter("out");
+        }
+        if (turnsPerFlush <= 0) {
+            throw new InvalidGameStateException("Turns per flush must be positive, got: " + turnsPerFlush);
+        }
+        if (capacity <= 0) {
+            throw new InvalidGameStateException("Buffer capacity must be positive, got: " + capacity);
+        }
+        this.out = out;
+        this.turnsPerFlush = turnsPerFlush;
+        this.capacity = capacity;
+        this.buffer = new StringBuilder(Math.min(capacity, 8192));
+    }
+
+    @Override
+    public void print(CharSequence text) {
+        buffer.append(text);
+        if (buffer.length() >= capacity) {
+            write();
+        }
+    }
+
+    @Override
+    public void println(CharSequence line) {
+        buffer.append(line);
+        println();
+    }
+
+    @Override
+    public void println() {
+        buffer.append(LINE_SEPARATOR);
+        if (buffer.length() >= capacity) {
+            write();
+        }
+    }
+
+    /**
+     * Counts the turn and writes the collected text once enough turns are collected.
+     */
+    @Override
+    public void endTurn() {
+        if (++pendingTurns >= turnsPerFlush) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        pendingTurns = 0;
+        write();
+        out.flush();
+    }
+
+    /**
+     * Gets the number of writes made to the stream so far.
+     *
+     * @return The number of writes
+     */
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Gets the number of characters held back.
+     *
+     * @return The buffered length
+     */
+    public int getBufferedLength() {
+        return buffer.length();
+    }
+
+    private void write() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        out.append(buffer);
+        buffer.setLength(0);
+        writeCount++;
+    }
+}
@@ -0,0 +1,197 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulated players for load tests of a {@link GameServer}.
+ * Each player connects on its own virtual thread, answers every prompt of the line protocol
+ * with a random but valid answer and reads until the server says {@code BYE}.
+ */
+public final class ClientSimulator {
+    /** Default time a player waits to connect or for the server, and the whole simulation may take. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String PROMPT_END = " --> ";
+    private static final String[] DIRECTIONS = {"U", "D", "L", "R"};
+
+    private ClientSimulator() {
+    }
+
+    /**
+     * Connects the given number of players at once to a server on the loopback interface and
+     * waits until all sessions ended, with the {@link #DEFAULT_TIMEOUT}.
+     *
+     * @param port The port of the server
+     * @param players The number of simulated players
+     * @param seed The seed of the players' answers
+     * @return How the sessions ended and how long they took
+     * @throws InvalidGameStateException if players is negative or the simulation is interrupted
+     */
+    public static Result run(int port, int players, long seed) {
+        return run(port, players, seed, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Connects the given number of players at once to a server on the loopback interface and
+     * waits until all sessions ended. A player that cannot connect, waits longer than the
+     * timeout for the server or is still playing when the timeout has passed since the start
+     * counts as a failure.
+     *
+     * @param port The port of the server
+     * @param players The number of simulated players
+     * @param seed The seed of the players' answers
+     * @param timeout The time a player waits to connect or for the server's next message, and
+     *                the time the whole simulation may take
+     * @return How the sessions ended and how long they took
+     * @throws InvalidGameStateException if players is negative, timeout is null or not
+     *         positive, or the simulation is interrupted
+     */
+    public static Result run(int port, int players, long seed, Duration timeout) {
+        if (players < 0) {
+            throw new InvalidGameStateException("Number of players cannot be negative, got: " + players);
+        }
+        if (timeout == null) {
+            throw InvalidGameStateException.nullParameter("timeout");
+        }
+        if (timeout.compareTo(Duration.ofMillis(1)) < 0 || timeout.toMillis() > Integer.MAX_VALUE) {
+            throw new InvalidGameStateException("Timeout must be between 1 ms and " + Integer.MAX_VALUE +
+                    " ms, got: " + timeout);
+        }
+        int timeoutMillis = (int) timeout.toMillis();
+        Map<String, Long> counts = new TreeMap<>();
+        long failures = 0;
+        LongAdder prompts = new LongAdder();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<String>> futures = new ArrayList<>(players);
+            for (int player = 0; player < players; player++) {
+                SplittableRandom rng = new SplittableRandom(SimulationEngine.gameSeed(seed, player));
+                futures.add(executor.submit(() -> {
+                    try {
+                        return play(port, timeoutMillis, rng, prompts);
+                    } catch (IOException e) {
+                        return null;
+                    }
+                }));
+            }
+            for (Future<String> future : futures) {
+                String bye;
+                try {
+                    bye = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    bye = null;
+                }
+                if (bye == null) {
+                    failures++;
+                } else {
+                    counts.merge(bye, 1L, Long::sum);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("Client simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new InvalidGameStateException("Client simulation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(counts, failures, prompts.sum(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Plays one session and returns the reason the server gave for ending it.
+     *
+     * @throws IOException if the connection fails or the server is silent for longer than the timeout
+     */
+    private static String play(int port, int timeoutMillis, SplittableRandom rng, LongAdder prompts)
+            throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+            Reader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) >= 0) {
+                if (c == '\n') {
+                    if (line.toString().startsWith("BYE ")) {
+                        return line.substring(4);
+                    }
+                    line.setLength(0);
+                } else {
+                    line.append((char) c);
+                    if (isPrompt(line)) {
+                        prompts.increment();
+                        out.println(answer(line.toString(), rng));
+                        line.setLength(0);
+                    }
+                }
+            }
+            throw new IOException("Server closed the connection without BYE");
+        }
+    }
+
+    /**
+     * Checks if the text received since the last line break is a complete prompt.
+     *
+     * @param line The text of the current line
+     * @return true if the line ends like a prompt
+     */
+    static boolean isPrompt(CharSequence line) {
+        int start = line.length() - PROMPT_END.length();
+        return start >= 0 && PROMPT_END.contentEquals(line.subSequence(start, line.length()));
+    }
+
+    private static String answer(String prompt, SplittableRandom rng) {
+        if (prompt.contains("Y or N")) {
+            return rng.nextBoolean() ? "Y" : "N";
+        }
+        return DIRECTIONS[rng.nextInt(DIRECTIONS.length)];
+    }
+
+    /**
+     * Outcome of a simulation.
+     *
+     * @param byes The number of sessions per reason the server gave for ending them
+     * @param failures The number of players whose connection failed or timed out
+     * @param prompts The number of prompts answered
+     * @param elapsed The time until all sessions ended
+     */
+    public record Result(Map<String, Long> byes, long failures, long prompts, Duration elapsed) {
+
+        /**
+         * Gets the number of sessions that ended for the given reason.
+         *
+         * @param reason The reason, e.g. {@code "game over"}
+         * @return The number of sessions
+         */
+        public long count(String reason) {
+            return byes.getOrDefault(reason, 0L);
+        }
+    }
+}
@@ -1,8 +1,28 @@
 package com.g04.SlidingPuzzle.service;
 
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
 import com.g04.SlidingPuzzle.exception.InvalidMoveException;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FellIntoHole;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FellIntoWater;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FoodCollected;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FoodDestroyed;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FoodLost;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HazardFellOff;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HazardStopped;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HoleCrossed;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HolePlugged;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.JumpPrepared;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinBounced;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinRemoved;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinSlides;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinStepped;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinStunned;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinsCollided;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.WaterFall;
 import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
 import com.g04.SlidingPuzzle.model.*;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
 import com.g04.SlidingPuzzle.model.enums.Direction;
 import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
 import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
@@ -13,17 +33,28 @@ import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
 import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
 import com.g04.SlidingPuzzle.model.penguins.RoyalPenguin;
 import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.SlideIndex;
 import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Handles movement and collision logic for objects on the icy terrain.
  * This is a helper class that coordinates sliding, pathfinding, and collision resolution.
+ * A handler reuses internal buffers between moves and must not be shared across threads.
  */
 public class CollisionHandler {
+    private static final int INITIAL_PATH_CAPACITY = 16;
+
     private final TerrainGrid grid;
+    /** Reusable buffer of packed path coordinates; makes a handler single-threaded. */
+    private long[] pathBuffer = new long[INITIAL_PATH_CAPACITY];
+    private boolean recordEvents = true;
+    private MoveJournal journal;
+    private EngineMetrics metrics;
 
     /**
      * Creates a new collision handler for the specified grid.
@@ -34,6 +65,91 @@ public class CollisionHandler {
         this.grid = grid;
     }
 
+    /**
+     * Sets whether movement events are recorded. Headless callers that never read the
+     * events or messages can turn recording off.
+     *
+     * @param recordEvents true to record events (the default), false to drop them
+     */
+    public void setRecordEvents(boolean recordEvents) {
+        this.recordEvents = recordEvents;
+    }
+
+    /**
+     * Sets the journal that records every mutation made by the following moves so they can
+     * be undone. Each turn played by {@code executeTurn} and each direct {@code movePenguin}
+     * call is recorded as one move.
+     *
+     * @param journal The journal for the handler's grid, or null to stop recording (the default)
+     * @throws InvalidGameStateException if the journal belongs to another grid
+     */
+    public void setJournal(MoveJournal journal) {
+        if (journal != null && journal.getGrid() != grid) {
+            throw new InvalidGameStateException("Journal belongs to another grid");
+        }
+        this.journal = journal;
+    }
+
+    /**
+     * Sets the metrics that the following turns and moves are counted in. The same metrics
+     * may be shared by the handlers of many games.
+     *
+     * @param metrics The metrics to update, or null to record nothing (the default)
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Plays a full turn: moves the penguin, then resolves a bounce-back slide or a slide
+     * triggered on another penguin, if the move caused one.
+     *
+     * @param penguin The penguin to move
+     * @param direction The direction to move
+     * @param useSpecialAbility Whether the penguin is using its special ability
+     * @return Turn result holding the primary movement and any follow-up slide
+     * @throws InvalidMoveException if penguin is removed or direction is null
+     */
+    public TurnResult executeTurn(Penguin penguin, Direction direction, boolean useSpecialAbility) {
+        return executeTurn(penguin, direction, useSpecialAbility, new TurnResult());
+    }
+
+    /**
+     * Plays a full turn like {@link #executeTurn(Penguin, Direction, boolean)}, refilling the given
+     * turn result instead of allocating a new one.
+     *
+     * @param penguin The penguin to move
+     * @param direction The direction to move
+     * @param useSpecialAbility Whether the penguin is using its special ability
+     * @param turn The turn result to refill
+     * @return The refilled turn result
+     * @throws InvalidMoveException if penguin is removed or direction is null
+     */
+    public TurnResult executeTurn(Penguin penguin, Direction direction, boolean useSpecialAbility, TurnResult turn) {
+        validateMove(penguin, direction);
+        long startNanos = metrics != null ? System.nanoTime() : 0L;
+        if (journal != null) {
+            journal.beginMove();
+        }
+        MovementResult result = move(penguin, direction, useSpecialAbility, turn.primary);
+        turn.bounce = null;
+        turn.triggered = null;
+
+        if (result.penguinBouncedBack) {
+            // Penguin bounced back, slide in opposite direction
+            turn.bounce = move(penguin, result.bounceDirection, false, turn.bounceBuffer());
+        }
+        if (result.triggeredPenguinSlide != null) {
+            // Another penguin started sliding
+            turn.triggered = move(result.triggeredPenguinSlide, result.slideDirection, false,
+                    turn.triggeredBuffer());
+        }
+        if (metrics != null) {
+            metrics.recordTurn(System.nanoTime() - startNanos);
+        }
+        return turn;
+    }
+
     /**
      * Moves a penguin in the specified direction, handling all collisions and special abilities.
      *
@@ -44,158 +160,256 @@ public class CollisionHandler {
      * @throws InvalidMoveException if penguin is removed or direction is null
      */
     public MovementResult movePenguin(Penguin penguin, Direction direction, boolean useSpecialAbility) {
-        // Validate penguin can move
+        return movePenguin(penguin, direction, useSpecialAbility, new MovementResult(penguin));
+    }
+
+    /**
+     * Moves a penguin like {@link #movePenguin(Penguin, Direction, boolean)}, refilling the given
+     * movement result instead of allocating a new one.
+     *
+     * @param penguin The penguin to move
+     * @param direction The direction to move
+     * @param useSpecialAbility Whether the penguin is using its special ability
+     * @param result The movement result to refill
+     * @return The refilled movement result
+     * @throws InvalidMoveException if penguin is removed or direction is null
+     */
+    public MovementResult movePenguin(Penguin penguin, Direction direction, boolean useSpecialAbility,
+                                      MovementResult result) {
+        validateMove(penguin, direction);
+        if (journal != null) {
+            journal.beginMove();
+        }
+        return move(penguin, direction, useSpecialAbility, result);
+    }
+
+    /**
+     * Checks that a penguin can move in a direction.
+     *
+     * @throws InvalidMoveException if penguin is removed or direction is null
+     */
+    private void validateMove(Penguin penguin, Direction direction) {
         if (penguin.isRemoved()) {
             throw InvalidMoveException.penguinRemoved(penguin.getName());
         }
         if (direction == null) {
             throw new InvalidMoveException("Direction cannot be null");
         }
+    }
 
-        MovementResult result = new MovementResult(penguin);
+    /**
+     * Moves a penguin as part of the current journaled move.
+     */
+    private MovementResult move(Penguin penguin, Direction direction, boolean useSpecialAbility,
+                                MovementResult result) {
+        validateMove(penguin, direction);
+        result.reset(penguin, recordEvents);
         Position startPos = penguin.getPosition();
 
         // Handle RoyalPenguin special ability (adjacent step before sliding)
         if (useSpecialAbility && penguin instanceof RoyalPenguin && penguin.canUseSpecialAbility()) {
-            penguin.useSpecialAbility();
+            useSpecialAbility(penguin);
             Position adjacentPos = startPos.move(direction);
 
-            if (!adjacentPos.isWithinBounds(TerrainGrid.GRID_SIZE)) {
+            if (!grid.isValidPosition(adjacentPos)) {
                 // Fell off edge
-                penguin.remove();
-                grid.remove(startPos);
+                removePenguin(penguin);
+                removeFromGrid(startPos);
                 result.fellOffEdge = true;
                 result.finalPosition = null;
-                result.addMessage(penguin.getName() + " steps off the grid and falls into the water!");
-                result.addMessage("*** " + penguin.getName() + " IS REMOVED FROM THE GAME!");
+                if (metrics != null) {
+                    metrics.recordFall(WaterFall.STEPPED_OFF);
+                }
+                result.addEvent(new FellIntoWater(penguin, WaterFall.STEPPED_OFF));
+                result.addEvent(new PenguinRemoved(penguin));
                 return result;
             }
 
-            // Move to adjacent square
-            grid.move(startPos, adjacentPos);
-            result.finalPosition = adjacentPos;
-            result.addMessage(penguin.getName() + " moves one square to the " + direction.getDisplayName() + ".");
-            startPos = adjacentPos; // Continue from new position
+            // Move to adjacent square, unless another penguin stands there: stepping onto it
+            // would take it off the grid while it is still in play, so the step bumps into it
+            // and the slide below resolves the collision
+            if (grid.getKind(adjacentPos) != CellKind.PENGUIN) {
+                moveOnGrid(startPos, adjacentPos);
+                result.finalPosition = adjacentPos;
+                result.addEvent(new PenguinStepped(penguin, direction));
+                startPos = adjacentPos; // Continue from new position
+            }
         }
 
         // Handle RockhopperPenguin special ability (prepare jump)
         if (useSpecialAbility && penguin instanceof RockhopperPenguin && penguin.canUseSpecialAbility()) {
             RockhopperPenguin rockhopper = (RockhopperPenguin) penguin;
-            rockhopper.useSpecialAbility();
-            rockhopper.prepareJump(direction);
-            result.addMessage(penguin.getName() + " will automatically USE its special action.");
+            useSpecialAbility(rockhopper);
+            prepareJump(rockhopper, direction);
+            result.addEvent(new JumpPrepared(penguin));
         }
 
         // Calculate sliding path
-        List<Position> path = calculateSlidingPath(penguin, startPos, direction, useSpecialAbility);
+        int pathLength = calculateSlidingPath(penguin, startPos, direction, useSpecialAbility);
 
         // Execute slide along path
-        slideAlongPath(penguin, path, direction, result);
+        slideAlongPath(penguin, pathLength, direction, result);
 
         return result;
     }
 
     /**
      * Calculates the sliding path for a penguin in the specified direction.
+     * Each free run is resolved with one slide index lookup, and only the food squares
+     * crossed and the final square are written (as packed coordinates) to the reusable
+     * path buffer. Squares are counted as if walked one by one, so King/Emperor stop
+     * squares and Rockhopper jumps behave exactly as on a square-by-square slide.
      *
      * @param penguin The penguin sliding
      * @param start The starting position
      * @param direction The direction of movement
      * @param usingSpecialAbility Whether special ability is active
-     * @return List of positions in the sliding path
+     * @return Number of squares written to the path buffer
      */
-    private List<Position> calculateSlidingPath(Penguin penguin, Position start, Direction direction,
-                                                 boolean usingSpecialAbility) {
-        List<Position> path = new ArrayList<>();
-        Position current = start;
+    private int calculateSlidingPath(Penguin penguin, Position start, Direction direction,
+                                     boolean usingSpecialAbility) {
+        SlideIndex index = grid.getSlideIndex();
+        int stopAtSquare = getStopSquare(penguin, usingSpecialAbility);
+        int pathLength = 0;
+        int row = start.getRow();
+        int col = start.getCol();
+        int rowDelta = direction.getRowDelta();
+        int colDelta = direction.getColDelta();
         int squareCount = 0;
-
-        // Check for King/Emperor special ability stop condition
-        int stopAtSquare = -1;
-        if (usingSpecialAbility && penguin instanceof KingPenguin && penguin.canUseSpecialAbility()) {
-            stopAtSquare = ((KingPenguin) penguin).getStopSquare();
-        } else if (usingSpecialAbility && penguin instanceof EmperorPenguin && penguin.canUseSpecialAbility()) {
-            stopAtSquare = ((EmperorPenguin) penguin).getStopSquare();
-        }
+        boolean moved = false;
 
         while (true) {
-            Position next = current.move(direction);
-            squareCount++;
+            int run = index.freeRun(row, col, direction);
+            int segment = run;
+            boolean stopped = false;
+
+            // King/Emperor stop only if the counted square is empty ice (not food)
+            int stopOffset = stopAtSquare - squareCount;
+            if (stopAtSquare > 0 && stopOffset >= 1 && stopOffset <= run
+                    && grid.getKind(row + stopOffset * rowDelta, col + stopOffset * colDelta) == CellKind.EMPTY) {
+                segment = stopOffset;
+                stopped = true;
+            }
 
-            // Check boundary
-            if (!next.isWithinBounds(TerrainGrid.GRID_SIZE)) {
-                break; // Will fall off edge
+            // Record the food crossed in this segment, nearest first
+            int offset = index.nextFood(row, col, direction, segment);
+            while (offset > 0) {
+                pathLength = appendToPath(pathLength, row + offset * rowDelta, col + offset * colDelta);
+                int nextOffset = index.nextFood(row + offset * rowDelta, col + offset * colDelta,
+                                                direction, segment - offset);
+                offset = nextOffset < 0 ? -1 : offset + nextOffset;
             }
 
-            // Check for obstacles
-            ITerrainObject obstacle = grid.get(next);
+            row += segment * rowDelta;
+            col += segment * colDelta;
+            squareCount += segment;
+            moved |= segment > 0;
+            if (stopped) {
+                break;
+            }
 
-            // Food doesn't stop sliding - collect and continue
-            if (obstacle instanceof Food) {
-                path.add(next);
-                current = next;
-                continue;
+            // The next square is a blocker or off the grid
+            int nextRow = row + rowDelta;
+            int nextCol = col + colDelta;
+            squareCount++;
+            if (!grid.isValidPosition(nextRow, nextCol)) {
+                break;
             }
 
-            // Check for Rockhopper jump over hazard
-            if (penguin instanceof RockhopperPenguin) {
-                RockhopperPenguin rockhopper = (RockhopperPenguin) penguin;
-                if (rockhopper.isJumpPrepared() && obstacle instanceof Hazard) {
-                    Position landingPos = next.move(direction);
-                    if (landingPos.isWithinBounds(TerrainGrid.GRID_SIZE) && grid.isEmpty(landingPos)) {
-                        // Successful jump
-                        path.add(landingPos);
-                        current = landingPos;
-                        rockhopper.clearJump();
-                        continue;
-                    } else {
-                        // Failed jump - will collide with hazard
-                        rockhopper.clearJump();
-                    }
+            if (penguin instanceof RockhopperPenguin rockhopper && rockhopper.isJumpPrepared()
+                    && grid.getKind(nextRow, nextCol).isHazard()) {
+                int landingRow = nextRow + rowDelta;
+                int landingCol = nextCol + colDelta;
+                clearJump(rockhopper);
+                if (grid.isValidPosition(landingRow, landingCol)
+                        && grid.getKind(landingRow, landingCol) == CellKind.EMPTY) {
+                    // Successful jump
+                    pathLength = appendToPath(pathLength, landingRow, landingCol);
+                    row = landingRow;
+                    col = landingCol;
+                    moved = true;
+                    continue;
                 }
             }
+            break;
+        }
 
-            // Obstacle encountered
-            if (obstacle != null) {
-                break; // Collision
-            }
+        return appendFinalSquare(pathLength, row, col, moved);
+    }
 
-            // Empty square
-            path.add(next);
-            current = next;
+    /**
+     * Appends the square the slide ends on, unless nothing moved or it is already recorded.
+     */
+    private int appendFinalSquare(int pathLength, int row, int col, boolean moved) {
+        if (!moved || (pathLength > 0 && pathBuffer[pathLength - 1] == Position.pack(row, col))) {
+            return pathLength;
+        }
+        return appendToPath(pathLength, row, col);
+    }
 
-            // Check special ability stop condition
-            if (stopAtSquare > 0 && squareCount == stopAtSquare) {
-                break; // King/Emperor stops at specific square
-            }
+    /**
+     * Gets the King/Emperor stop square when the special ability is being used.
+     *
+     * @return The square number to stop at, or -1 if not applicable
+     */
+    private int getStopSquare(Penguin penguin, boolean usingSpecialAbility) {
+        if (usingSpecialAbility && penguin instanceof KingPenguin && penguin.canUseSpecialAbility()) {
+            return ((KingPenguin) penguin).getStopSquare();
+        } else if (usingSpecialAbility && penguin instanceof EmperorPenguin && penguin.canUseSpecialAbility()) {
+            return ((EmperorPenguin) penguin).getStopSquare();
         }
+        return -1;
+    }
 
-        return path;
+    /**
+     * Appends a square to the reusable path buffer, growing it when needed.
+     *
+     * @return The new path length
+     */
+    private int appendToPath(int pathLength, int row, int col) {
+        if (pathLength == pathBuffer.length) {
+            pathBuffer = Arrays.copyOf(pathBuffer, pathBuffer.length * 2);
+        }
+        pathBuffer[pathLength] = Position.pack(row, col);
+        return pathLength + 1;
     }
 
     /**
      * Slides the penguin along the calculated path, handling collisions and food collection.
      *
      * @param penguin The penguin sliding
-     * @param path The path to slide along
+     * @param pathLength Number of squares in the path buffer
      * @param direction The direction of movement
      * @param result The movement result to update
      */
-    private void slideAlongPath(Penguin penguin, List<Position> path, Direction direction, MovementResult result) {
+    private void slideAlongPath(Penguin penguin, int pathLength, Direction direction, MovementResult result) {
         Position startPos = penguin.getPosition();
+        if (metrics != null) {
+            // Squares between the start and the last square on the ice, whatever ends the slide
+            int distance = 0;
+            if (pathLength > 0) {
+                long end = pathBuffer[pathLength - 1];
+                distance = Math.abs(Position.rowOf(end) - startPos.getRow())
+                        + Math.abs(Position.colOf(end) - startPos.getCol());
+            }
+            metrics.recordSlide(distance);
+        }
 
-        if (path.isEmpty()) {
+        if (pathLength == 0) {
             // Immediate collision or boundary
             Position next = startPos.move(direction);
 
-            if (!next.isWithinBounds(TerrainGrid.GRID_SIZE)) {
+            if (!grid.isValidPosition(next)) {
                 // Fell off edge
-                penguin.remove();
-                grid.remove(startPos);
+                removePenguin(penguin);
+                removeFromGrid(startPos);
                 result.fellOffEdge = true;
                 result.finalPosition = null;
-                result.addMessage(penguin.getName() + " falls into the water!");
-                result.addMessage("*** " + penguin.getName() + " IS REMOVED FROM THE GAME!");
+                if (metrics != null) {
+                    metrics.recordFall(WaterFall.FELL);
+                }
+                result.addEvent(new FellIntoWater(penguin, WaterFall.FELL));
+                result.addEvent(new PenguinRemoved(penguin));
             } else {
                 // Immediate collision
                 ITerrainObject obstacle = grid.get(next);
@@ -205,35 +419,39 @@ public class CollisionHandler {
         }
 
         // Slide through path, collecting food
-        Position currentPos = startPos;
-        for (Position pos : path) {
-            ITerrainObject obj = grid.get(pos);
+        for (int i = 0; i < pathLength; i++) {
+            int row = Position.rowOf(pathBuffer[i]);
+            int col = Position.colOf(pathBuffer[i]);
+            ITerrainObject obj = grid.get(row, col);
             if (obj instanceof Food) {
                 Food food = (Food) obj;
-                penguin.collectFood(food);
-                grid.remove(pos);
-                result.addMessage(penguin.getName() + " takes the " + food.getFoodType().getDisplaySymbol() +
-                                  " on the ground. (Weight=" + food.getWeight() + " units)");
+                collectFood(penguin, food);
+                removeFromGrid(row, col);
+                result.addEvent(new FoodCollected(penguin, food.getFoodType(), food.getWeight()));
             }
-            currentPos = pos;
         }
 
         // Move penguin to final position in path
-        grid.move(startPos, currentPos);
+        Position currentPos = Position.unpack(pathBuffer[pathLength - 1]);
+        moveOnGrid(startPos, currentPos);
         result.finalPosition = currentPos;
 
         // Check if there's an obstacle beyond the path (collision at end)
-        Position beyond = currentPos.move(direction);
-        if (!beyond.isWithinBounds(TerrainGrid.GRID_SIZE)) {
+        int beyondRow = currentPos.getRow() + direction.getRowDelta();
+        int beyondCol = currentPos.getCol() + direction.getColDelta();
+        if (!grid.isValidPosition(beyondRow, beyondCol)) {
             // Slides off edge at end
-            penguin.remove();
-            grid.remove(currentPos);
+            removePenguin(penguin);
+            removeFromGrid(currentPos);
             result.fellOffEdge = true;
             result.finalPosition = null;
-            result.addMessage(penguin.getName() + " slides off the edge and falls into the water!");
-            result.addMessage("*** " + penguin.getName() + " IS REMOVED FROM THE GAME!");
+            if (metrics != null) {
+                metrics.recordFall(WaterFall.SLID_OFF);
+            }
+            result.addEvent(new FellIntoWater(penguin, WaterFall.SLID_OFF));
+            result.addEvent(new PenguinRemoved(penguin));
         } else {
-            ITerrainObject obstacle = grid.get(beyond);
+            ITerrainObject obstacle = grid.get(beyondRow, beyondCol);
             if (obstacle != null) {
                 handleCollision(penguin, currentPos, obstacle, direction, result);
             }
@@ -251,6 +469,9 @@ public class CollisionHandler {
      */
     private void handleCollision(Penguin penguin, Position penguinPos, ITerrainObject obstacle,
                                   Direction direction, MovementResult result) {
+        if (metrics != null) {
+            metrics.recordCollision(CellKind.of(obstacle));
+        }
         if (obstacle instanceof Penguin) {
             handlePenguinPenguinCollision(penguin, (Penguin) obstacle, direction, result);
         } else if (obstacle instanceof LightIceBlock) {
@@ -269,8 +490,7 @@ public class CollisionHandler {
      */
     private void handlePenguinPenguinCollision(Penguin movingPenguin, Penguin stationaryPenguin,
                                                Direction direction, MovementResult result) {
-        result.addMessage(movingPenguin.getName() + " collides with " + stationaryPenguin.getName() +
-                          ". Momentum is transferred.");
+        result.addEvent(new PenguinsCollided(movingPenguin, stationaryPenguin));
         // The stationary penguin now slides in the same direction
         // This would trigger a new movement for the stationary penguin
         result.triggeredPenguinSlide = stationaryPenguin;
@@ -282,9 +502,8 @@ public class CollisionHandler {
      */
     private void handleLightIceBlockCollision(Penguin penguin, Position penguinPos, LightIceBlock block,
                                               Direction direction, MovementResult result) {
-        penguin.setStunned(true);
-        result.addMessage(penguin.getName() + " hits a Light Ice Block and is temporarily stunned!");
-        result.addMessage(penguin.getName() + "'s next turn will be skipped.");
+        stun(penguin);
+        result.addEvent(new PenguinStunned(penguin));
 
         // Block starts sliding
         Position blockPos = block.getPosition();
@@ -295,12 +514,11 @@ public class CollisionHandler {
      * Handles collision with a Heavy Ice Block (penguin loses lightest food).
      */
     private void handleHeavyIceBlockCollision(Penguin penguin, MovementResult result) {
-        Food lostFood = penguin.removeLightestFood();
+        Food lostFood = removeLightestFood(penguin);
         if (lostFood != null) {
-            result.addMessage(penguin.getName() + " hits a Heavy Ice Block and loses " +
-                              lostFood.getFoodType().getDisplaySymbol() + " (" + lostFood.getWeight() + " units)!");
+            result.addEvent(new FoodLost(penguin, lostFood.getFoodType(), lostFood.getWeight()));
         } else {
-            result.addMessage(penguin.getName() + " hits a Heavy Ice Block but carries no food.");
+            result.addEvent(new FoodLost(penguin, null, 0));
         }
     }
 
@@ -309,7 +527,7 @@ public class CollisionHandler {
      */
     private void handleSeaLionCollision(Penguin penguin, Position penguinPos, SeaLion lion,
                                        Direction direction, MovementResult result) {
-        result.addMessage(penguin.getName() + " hits a Sea Lion and bounces back!");
+        result.addEvent(new PenguinBounced(penguin));
 
         // Lion slides in original direction
         Position lionPos = lion.getPosition();
@@ -317,7 +535,7 @@ public class CollisionHandler {
 
         // Penguin bounces in opposite direction
         Direction opposite = direction.getOpposite();
-        result.addMessage(penguin.getName() + " slides " + opposite.getDisplayName() + "!");
+        result.addEvent(new PenguinSlides(penguin, opposite));
         // This would trigger a new slide for the penguin
         result.penguinBouncedBack = true;
         result.bounceDirection = opposite;
@@ -329,70 +547,173 @@ public class CollisionHandler {
     private void handleHoleInIceCollision(Penguin penguin, Position penguinPos, HoleInIce hole,
                                          MovementResult result) {
         if (hole.isPlugged()) {
-            result.addMessage(penguin.getName() + " passes over a plugged hole.");
+            if (metrics != null) {
+                metrics.recordHoleCrossed();
+            }
+            result.addEvent(new HoleCrossed(penguin));
         } else {
-            penguin.remove();
-            grid.remove(penguinPos);
+            if (metrics != null) {
+                metrics.recordFallIntoHole();
+            }
+            removePenguin(penguin);
+            removeFromGrid(penguinPos);
             result.fellIntoHole = true;
             result.finalPosition = null;
-            result.addMessage(penguin.getName() + " falls into a Hole in Ice!");
-            result.addMessage("*** " + penguin.getName() + " IS REMOVED FROM THE GAME!");
+            result.addEvent(new FellIntoHole(penguin));
+            result.addEvent(new PenguinRemoved(penguin));
         }
     }
 
     /**
      * Slides a hazard in the specified direction until it hits an obstacle or falls off.
+     * The stop square comes from one slide index lookup and the food destroyed on the
+     * way from the food index; the hazard is moved on the grid once, at the end.
      */
     private void slideHazard(Hazard hazard, Position start, Direction direction, MovementResult result) {
-        Position current = start;
+        SlideIndex index = grid.getSlideIndex();
+        int rowDelta = direction.getRowDelta();
+        int colDelta = direction.getColDelta();
+        int run = index.freeRun(start.getRow(), start.getCol(), direction);
+        if (metrics != null) {
+            metrics.recordHazardSlide(run);
+        }
 
-        while (true) {
-            Position next = current.move(direction);
+        // Destroy food on the way, nearest first
+        int offset = index.nextFood(start.getRow(), start.getCol(), direction, run);
+        while (offset > 0) {
+            int foodRow = start.getRow() + offset * rowDelta;
+            int foodCol = start.getCol() + offset * colDelta;
+            removeFromGrid(foodRow, foodCol);
+            if (metrics != null) {
+                metrics.recordFoodDestroyed();
+            }
+            result.addEvent(new FoodDestroyed(hazard.getHazardType(), foodRow, foodCol));
+            int nextOffset = index.nextFood(foodRow, foodCol, direction, run - offset);
+            offset = nextOffset < 0 ? -1 : offset + nextOffset;
+        }
+
+        int row = start.getRow() + run * rowDelta;
+        int col = start.getCol() + run * colDelta;
+        int nextRow = row + rowDelta;
+        int nextCol = col + colDelta;
 
-            // Check boundary
-            if (!next.isWithinBounds(TerrainGrid.GRID_SIZE)) {
-                grid.remove(current);
-                result.addMessage(hazard.getDisplaySymbol() + " slides off the edge.");
+        // Check boundary
+        if (!grid.isValidPosition(nextRow, nextCol)) {
+            removeFromGrid(start);
+            result.addEvent(new HazardFellOff(hazard.getHazardType()));
+            return;
+        }
+
+        // Hit hole - plug it
+        if (grid.getKind(nextRow, nextCol) == CellKind.HOLE_IN_ICE) {
+            HoleInIce hole = (HoleInIce) grid.get(nextRow, nextCol);
+            if (!hole.isPlugged()) {
+                plugHole(nextRow, nextCol);
+                removeFromGrid(start);
+                result.addEvent(new HolePlugged(hazard.getHazardType()));
                 return;
             }
+        }
 
-            ITerrainObject obstacle = grid.get(next);
+        // Hit something else - stop
+        if (run > 0) {
+            moveOnGrid(start, Position.of(row, col));
+        }
+        result.addEvent(new HazardStopped(hazard.getHazardType(), row, col));
+    }
 
-            // Empty square - continue sliding
-            if (obstacle == null) {
-                grid.move(current, next);
-                current = next;
-                continue;
-            }
+    // Mutations, recorded in the journal (if any) before they are made
 
-            // Hit food - remove food and continue
-            if (obstacle instanceof Food) {
-                grid.remove(next);
-                grid.move(current, next);
-                result.addMessage(hazard.getDisplaySymbol() + " destroys food at " + next);
-                current = next;
-                continue;
-            }
+    private void removeFromGrid(Position position) {
+        if (journal != null) {
+            journal.recordCell(position.getRow(), position.getCol());
+        }
+        grid.remove(position);
+    }
 
-            // Hit hole - plug it
-            if (obstacle instanceof HoleInIce) {
-                HoleInIce hole = (HoleInIce) obstacle;
-                if (!hole.isPlugged()) {
-                    hole.plug();
-                    grid.remove(current);
-                    result.addMessage(hazard.getDisplaySymbol() + " falls into a hole and plugs it!");
-                    return;
-                }
-            }
+    private void removeFromGrid(int row, int col) {
+        if (journal != null) {
+            journal.recordCell(row, col);
+        }
+        grid.remove(row, col);
+    }
 
-            // Hit something else - stop
-            result.addMessage(hazard.getDisplaySymbol() + " stops at " + current);
-            return;
+    private void moveOnGrid(Position from, Position to) {
+        if (journal != null) {
+            journal.recordCell(from.getRow(), from.getCol());
+            journal.recordCell(to.getRow(), to.getCol());
+        }
+        grid.move(from, to);
+    }
+
+    private void plugHole(int row, int col) {
+        if (journal != null) {
+            journal.recordPlug(row, col);
+        }
+        grid.plugHole(row, col);
+    }
+
+    private void removePenguin(Penguin penguin) {
+        if (journal != null) {
+            journal.recordFlags(penguin);
+        }
+        penguin.remove();
+    }
+
+    private void stun(Penguin penguin) {
+        if (journal != null) {
+            journal.recordFlags(penguin);
+        }
+        penguin.setStunned(true);
+    }
+
+    private void useSpecialAbility(Penguin penguin) {
+        if (journal != null) {
+            journal.recordFlags(penguin);
+        }
+        penguin.useSpecialAbility();
+    }
+
+    private void prepareJump(RockhopperPenguin rockhopper, Direction direction) {
+        if (journal != null) {
+            journal.recordJump(rockhopper);
+        }
+        rockhopper.prepareJump(direction);
+    }
+
+    private void clearJump(RockhopperPenguin rockhopper) {
+        if (journal != null) {
+            journal.recordJump(rockhopper);
+        }
+        rockhopper.clearJump();
+    }
+
+    private void collectFood(Penguin penguin, Food food) {
+        if (journal != null) {
+            journal.recordFoodCollected(penguin);
+        }
+        if (metrics != null) {
+            metrics.recordFoodCollected(food.getWeight());
+        }
+        penguin.collectFood(food);
+    }
+
+    private Food removeLightestFood(Penguin penguin) {
+        if (journal != null) {
+            journal.recordFoodLost(penguin);
+        }
+        Food lost = penguin.removeLightestFood();
+        if (metrics != null && lost != null) {
+            metrics.recordFoodLost(lost.getWeight());
         }
+        return lost;
     }
 
     /**
      * Result object for movement operations.
+     * What happened is recorded as typed events; message text is only built on request.
+     * A result can be refilled by {@link #movePenguin(Penguin, Direction, boolean, MovementResult)},
+     * which keeps its event buffer.
      */
     public static class MovementResult {
         public Penguin penguin;
@@ -403,19 +724,81 @@ public class CollisionHandler {
         public Direction bounceDirection;
         public Penguin triggeredPenguinSlide;
         public Direction slideDirection;
-        private List<String> messages;
+        private final List<IMovementEvent> events;
+        private boolean recordEvents;
 
         public MovementResult(Penguin penguin) {
+            this.events = new ArrayList<>();
+            reset(penguin, true);
+        }
+
+        /**
+         * Clears the result for a new movement, keeping the event buffer's capacity.
+         */
+        private void reset(Penguin penguin, boolean recordEvents) {
             this.penguin = penguin;
-            this.messages = new ArrayList<>();
+            this.finalPosition = null;
+            this.fellOffEdge = false;
+            this.fellIntoHole = false;
+            this.penguinBouncedBack = false;
+            this.bounceDirection = null;
+            this.triggeredPenguinSlide = null;
+            this.slideDirection = null;
+            this.recordEvents = recordEvents;
+            events.clear();
+        }
+
+        public void addEvent(IMovementEvent event) {
+            if (recordEvents) {
+                events.add(event);
+            }
         }
 
-        public void addMessage(String message) {
-            messages.add(message);
+        public List<IMovementEvent> getEvents() {
+            return Collections.unmodifiableList(events);
         }
 
+        /**
+         * Formats the recorded events into console messages.
+         *
+         * @return The message lines, in order
+         */
         public List<String> getMessages() {
-            return messages;
+            return MovementEventFormatter.format(events);
+        }
+    }
+
+    /**
+     * Result object for a full turn: the primary movement plus the follow-up slide, if any.
+     * A result can be refilled by {@link #executeTurn(Penguin, Direction, boolean, TurnResult)}.
+     */
+    public static class TurnResult {
+        public final MovementResult primary;
+        public MovementResult bounce;
+        public MovementResult triggered;
+        private MovementResult bounceBuffer;
+        private MovementResult triggeredBuffer;
+
+        public TurnResult() {
+            this(new MovementResult(null));
+        }
+
+        public TurnResult(MovementResult primary) {
+            this.primary = primary;
+        }
+
+        private MovementResult bounceBuffer() {
+            if (bounceBuffer == null) {
+                bounceBuffer = new MovementResult(null);
+            }
+            return bounceBuffer;
+        }
+
+        private MovementResult triggeredBuffer() {
+            if (triggeredBuffer == null) {
+                triggeredBuffer = new MovementResult(null);
+            }
+            return triggeredBuffer;
         }
     }
 }
@@ -0,0 +1,94 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+
+import java.util.Scanner;
+
+/**
+ * Controller for a penguin played by a person at the console.
+ * Asks whether to use the special ability (if still available) and which direction to move,
+ * repeating each question until the answer is valid.
+ */
+public class ConsolePlayer implements IPenguinController {
+    private final Scanner scanner;
+    private final IOutputSink out;
+
+    /**
+     * Creates a new console player that asks through the given sink.
+     * The sink is flushed before every answer is read, so buffered text and the question are shown.
+     *
+     * @param scanner The scanner the answers are read from
+     * @param out The sink the questions are written to
+     * @throws InvalidGameStateException if a parameter is null
+     */
+    public ConsolePlayer(Scanner scanner, IOutputSink out) {
+        if (scanner == null) {
+            throw InvalidGameStateException.nullParameter("scanner");
+        }
+        if (out == null) {
+            throw InvalidGameStateException.nullParameter("out");
+        }
+        this.scanner = scanner;
+        this.out = out;
+    }
+
+    @Override
+    public Decision decide(Penguin penguin, int turn) {
+        boolean useSpecialAbility = false;
+
+        // Ask about special ability
+        if (penguin.canUseSpecialAbility()) {
+            out.print("Will " + penguin.getName() + " use its special action? Answer with Y or N --> ");
+            useSpecialAbility = promptYesNo();
+        }
+
+        // Get movement direction
+        out.print("Which direction will " + penguin.getName() +
+                " move? Answer with U (Up), D (Down), L (Left), R (Right) --> ");
+        Direction direction = promptDirection();
+
+        return new Decision(direction, useSpecialAbility, false);
+    }
+
+    @Override
+    public boolean isHuman() {
+        return true;
+    }
+
+    /**
+     * Prompts user for yes/no input (case-insensitive).
+     */
+    private boolean promptYesNo() {
+        while (true) {
+            out.flush();
+            String input = scanner.nextLine().trim().toUpperCase();
+            if (input.equals("Y") || input.equals("YES")) {
+                return true;
+            } else if (input.equals("N") || input.equals("NO")) {
+                return false;
+            }
+            out.print("Invalid input. Please answer with Y or N --> ");
+        }
+    }
+
+    /**
+     * Prompts user for direction input (case-insensitive).
+     */
+    private Direction promptDirection() {
+        while (true) {
+            out.flush();
+            String input = scanner.nextLine().trim();
+            try {
+                return Direction.fromInput(input);
+            }
+            catch (IllegalArgumentException e) {
+                out.print("Invalid input. Please answer with U (Up), D (Down), L (Left), R (Right) --> ");
+            }
+        }
+    }
+}
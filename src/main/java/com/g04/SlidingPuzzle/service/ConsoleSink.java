@@ -0,0 +1,55 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+
+import java.io.PrintStream;
+
+/**
+ * Output sink that writes every call straight through to a stream (the console by default).
+ * Each call takes the stream's lock, and with auto-flushing every line is flushed,
+ * so prefer {@link BufferedSink} when the output is redirected.
+ */
+public class ConsoleSink implements IOutputSink {
+    private final PrintStream out;
+
+    /**
+     * Creates a sink writing to {@code System.out}.
+     */
+    public ConsoleSink() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a sink writing to the given stream.
+     *
+     * @param out The stream to write to
+     * @throws InvalidGameStateException if out is null
+     */
+    public ConsoleSink(PrintStream out) {
+        if (out == null) {
+            throw InvalidGameStateException.nullParameter("out");
+        }
+        this.out = out;
+    }
+
+    @Override
+    public void print(CharSequence text) {
+        out.append(text);
+    }
+
+    @Override
+    public void println(CharSequence line) {
+        out.println(line);
+    }
+
+    @Override
+    public void println() {
+        out.println();
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
@@ -0,0 +1,364 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.SlideIndex;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates boards that meet {@link BoardConstraints}, by rejection sampling: a board is placed
+ * like an unconstrained one (with the constraints' hazard mix and density) and generated
+ * again until it passes the checks. The cheap spawn check runs before food is placed, and
+ * reachability is a breadth-first search over the squares where slides stop, with each slide
+ * resolved by slide index lookups.
+ * <p>
+ * Batches of boards are generated in parallel on a ForkJoin pool, created on first use, so the
+ * generator must be closed after a batch. Each board gets its own random generator, seeded
+ * from the batch seed and the board index, so a batch is the same for any number of workers.
+ */
+public class ConstrainedBoardGenerator implements AutoCloseable {
+    /** Number of attempts per board before the constraints are considered unsatisfiable. */
+    public static final int MAX_ATTEMPTS = 10_000;
+    private static final int CHUNKS_PER_WORKER = 8;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final GameSettings settings;
+    private final BoardConstraints constraints;
+    private final int hazardCount;
+    private final int foodCount;
+    private final int parallelism;
+    private final LongAdder boards = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a generator whose batches use one worker per available processor.
+     *
+     * @param settings The board size and object counts
+     * @param constraints The requirements every board must meet
+     * @throws InvalidGameStateException if a parameter is null
+     */
+    public ConstrainedBoardGenerator(GameSettings settings, BoardConstraints constraints) {
+        this(settings, constraints, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a generator whose batches use the given number of workers.
+     *
+     * @param settings The board size and object counts
+     * @param constraints The requirements every board must meet
+     * @param parallelism The number of worker threads
+     * @throws InvalidGameStateException if a parameter is null or parallelism is not positive
+     */
+    public ConstrainedBoardGenerator(GameSettings settings, BoardConstraints constraints, int parallelism) {
+        if (settings == null) {
+            throw InvalidGameStateException.nullParameter("settings");
+        }
+        if (constraints == null) {
+            throw InvalidGameStateException.nullParameter("constraints");
+        }
+        if (parallelism <= 0) {
+            throw new InvalidGameStateException("Parallelism must be positive, got: " + parallelism);
+        }
+        this.settings = settings;
+        this.constraints = constraints;
+        int[] counts = constraints.objectCounts(settings);
+        this.hazardCount = counts[0];
+        this.foodCount = counts[1];
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Populates an empty grid with a board that meets the constraints.
+     * The grid is cleared between attempts.
+     *
+     * @param grid The empty grid of the settings' size
+     * @param rng The random number generator used for all placement decisions
+     * @return The placed penguins in turn order
+     * @throws InvalidGameStateException if a parameter is null, the grid size does not match the
+     *         settings or no board met the constraints within {@link #MAX_ATTEMPTS} attempts
+     */
+    public List<Penguin> generate(TerrainGrid grid, RandomGenerator rng) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (rng == null) {
+            throw InvalidGameStateException.nullParameter("rng");
+        }
+        if (grid.getRows() != settings.rows() || grid.getCols() != settings.cols()) {
+            throw new InvalidGameStateException("Cannot generate a " + settings.rows() + "x" + settings.cols() +
+                    " board on a " + grid.getRows() + "x" + grid.getCols() + " grid");
+        }
+        BoardGenerator generator = new BoardGenerator(grid, rng);
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            attempts.increment();
+            if (attempt > 1) {
+                grid.clear();
+            }
+            List<Penguin> penguins = generator.placePenguins(settings.numOfPenguins());
+            generator.placeHazards(hazardCount, constraints.hazardWeights());
+            if (constraints.noHoleNextToSpawn() && hasHoleNextToSpawn(grid, penguins)) {
+                continue; // Rejected before placing food
+            }
+            generator.placeFood(foodCount);
+            if (reachesEnoughFood(grid, penguins)) {
+                boards.increment();
+                return penguins;
+            }
+        }
+        throw new InvalidGameStateException("No board met the constraints in " + MAX_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * Generates a batch of boards in parallel and collects them in board order.
+     *
+     * @param count The number of boards
+     * @param seed The batch seed from which every board's seed is derived
+     * @return The boards
+     * @throws InvalidGameStateException if count is negative or a board cannot be generated
+     */
+    public List<Board> generate(int count, long seed) {
+        ConcurrentLinkedQueue<Board> generated = new ConcurrentLinkedQueue<>();
+        generate(count, seed, generated::add);
+        List<Board> sorted = new ArrayList<>(generated);
+        sorted.sort(Comparator.comparingInt(Board::index));
+        return sorted;
+    }
+
+    /**
+     * Generates a batch of boards in parallel and streams each board to a consumer as soon as
+     * it is ready. The consumer is called from the worker threads.
+     *
+     * @param count The number of boards
+     * @param seed The batch seed from which every board's seed is derived
+     * @param consumer Receives each board; must be thread-safe
+     * @return The number of boards and attempts and the time they took
+     * @throws InvalidGameStateException if count is negative, consumer is null or a board cannot be generated
+     */
+    public Report generate(int count, long seed, Consumer<Board> consumer) {
+        if (count < 0) {
+            throw new InvalidGameStateException("Number of boards cannot be negative, got: " + count);
+        }
+        if (consumer == null) {
+            throw InvalidGameStateException.nullParameter("consumer");
+        }
+        long attemptsBefore = attempts.sum();
+        long start = System.nanoTime();
+        int chunkSize = Math.max(1, count / (parallelism * CHUNKS_PER_WORKER));
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < count; from += chunkSize) {
+            int first = from;
+            int last = Math.min(count, from + chunkSize);
+            tasks.add(() -> {
+                for (int index = first; index < last; index++) {
+                    long boardSeed = SimulationEngine.gameSeed(seed, index);
+                    TerrainGrid grid = TerrainGrid.flat(settings.rows(), settings.cols());
+                    List<Penguin> penguins = generate(grid, new SplittableRandom(boardSeed));
+                    consumer.accept(new Board(index, boardSeed, grid, penguins));
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("Board generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new InvalidGameStateException("Board generation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return new Report(count, attempts.sum() - attemptsBefore, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Gets the number of boards accepted by this generator so far.
+     *
+     * @return The number of boards
+     */
+    public long getBoardCount() {
+        return boards.sum();
+    }
+
+    /**
+     * Gets the number of boards generated so far, including the rejected ones.
+     *
+     * @return The number of attempts
+     */
+    public long getAttemptCount() {
+        return attempts.sum();
+    }
+
+    /**
+     * Shuts the worker pool down, if one was started.
+     */
+    @Override
+    public synchronized void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Counts the food items a penguin can collect by sliding from a square on the current board.
+     * Slides are followed as the board stands: food is collected on the way but stays on the
+     * board, and penguins (the sliding one's start square included) and hazards stay in place. A slide counts if it ends on the ice,
+     * i.e. it stops before a penguin, an ice block or a plugged hole; slides that end in the
+     * water, in an open hole or at a Sea Lion (which bounces the penguin on) are not followed.
+     * Special abilities are not used.
+     *
+     * @param grid The board
+     * @param start The square the penguin stands on
+     * @return The number of distinct food items on safe slides reachable from the square
+     * @throws InvalidGameStateException if a parameter is null or start is off the grid
+     */
+    public static int countReachableFood(TerrainGrid grid, Position start) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (start == null || !grid.isValidPosition(start)) {
+            throw new InvalidGameStateException("Start square must be on the grid, got: " + start);
+        }
+        SlideIndex index = grid.getSlideIndex();
+        int cols = grid.getCols();
+        int cells = grid.getRows() * cols;
+        boolean[] visited = new boolean[cells];
+        int[] queue = new int[cells];
+        BitSet food = new BitSet(cells);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start.getRow() * cols + start.getCol();
+        visited[queue[0]] = true;
+
+        while (head < tail) {
+            int row = queue[head] / cols;
+            int col = queue[head++] % cols;
+            for (Direction direction : DIRECTIONS) {
+                int run = index.freeRun(row, col, direction);
+                int rowDelta = direction.getRowDelta();
+                int colDelta = direction.getColDelta();
+                if (run == 0 || !endsOnIce(grid, row + (run + 1) * rowDelta, col + (run + 1) * colDelta)) {
+                    continue;
+                }
+                for (int offset = index.nextFood(row, col, direction, run); offset > 0; ) {
+                    food.set((row + offset * rowDelta) * cols + col + offset * colDelta);
+                    int next = index.nextFood(row + offset * rowDelta, col + offset * colDelta, direction, run - offset);
+                    offset = next < 0 ? -1 : offset + next;
+                }
+                int stop = (row + run * rowDelta) * cols + col + run * colDelta;
+                if (!visited[stop]) {
+                    visited[stop] = true;
+                    queue[tail++] = stop;
+                }
+            }
+        }
+        return food.cardinality();
+    }
+
+    /**
+     * Checks if a slide that is stopped by the given square ends on the ice.
+     */
+    private static boolean endsOnIce(TerrainGrid grid, int row, int col) {
+        if (!grid.isValidPosition(row, col)) {
+            return false;
+        }
+        CellKind kind = grid.getKind(row, col);
+        if (kind == CellKind.HOLE_IN_ICE) {
+            return ((HoleInIce) grid.get(row, col)).isPlugged();
+        }
+        return kind != CellKind.SEA_LION;
+    }
+
+    private static boolean hasHoleNextToSpawn(TerrainGrid grid, List<Penguin> penguins) {
+        for (Penguin penguin : penguins) {
+            Position spawn = penguin.getPosition();
+            for (Direction direction : DIRECTIONS) {
+                int row = spawn.getRow() + direction.getRowDelta();
+                int col = spawn.getCol() + direction.getColDelta();
+                if (grid.isValidPosition(row, col) && grid.getKind(row, col) == CellKind.HOLE_IN_ICE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean reachesEnoughFood(TerrainGrid grid, List<Penguin> penguins) {
+        if (constraints.minReachableFood() == 0) {
+            return true;
+        }
+        for (Penguin penguin : penguins) {
+            if (countReachableFood(grid, penguin.getPosition()) < constraints.minReachableFood()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism);
+        }
+        return pool;
+    }
+
+    /**
+     * A generated board.
+     *
+     * @param index The index of the board within its batch
+     * @param seed The seed the board was generated from
+     * @param grid The populated grid
+     * @param penguins The penguins in turn order
+     */
+    public record Board(int index, long seed, TerrainGrid grid, List<Penguin> penguins) {
+    }
+
+    /**
+     * Throughput of a batch.
+     *
+     * @param boards The number of boards generated
+     * @param attempts The number of boards generated including the rejected ones
+     * @param elapsed The time the batch took
+     */
+    public record Report(int boards, long attempts, Duration elapsed) {
+
+        /**
+         * Gets the number of boards generated per second.
+         *
+         * @return The throughput
+         */
+        public double boardsPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return boards * 1e9 / nanos;
+        }
+
+        /**
+         * Gets the share of generated boards that met the constraints.
+         *
+         * @return The acceptance rate, 1 for an empty batch
+         */
+        public double acceptanceRate() {
+            return attempts == 0 ? 1 : (double) boards / attempts;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Elo ratings of a fixed set of players, updated concurrently from many games.
+ * A game with several players counts as one match between every pair of different players:
+ * the one with more food wins, equal food is a draw. The rating change of each pair is
+ * scaled by 1 / (players - 1), so a game moves a rating about as much as one two-player match.
+ * Ratings are stored as double bits in an {@link AtomicLongArray}; a game reads the ratings
+ * it needs and then adds its changes with compare-and-set, so games finishing at the same
+ * time never lose updates (each is computed from ratings at most a few games old).
+ */
+public class EloRatings {
+    /** Rating of a player before any game. */
+    public static final double INITIAL_RATING = 1500.0;
+    /** Default maximum rating change of a two-player match. */
+    public static final double DEFAULT_K_FACTOR = 16.0;
+
+    private final AtomicLongArray ratings;
+    private final double kFactor;
+
+    /**
+     * Creates ratings for the given number of players, all starting at {@link #INITIAL_RATING}.
+     *
+     * @param players The number of players
+     * @param kFactor The maximum rating change of a two-player match
+     * @throws InvalidGameStateException if players or kFactor is not positive
+     */
+    public EloRatings(int players, double kFactor) {
+        if (players <= 0) {
+            throw new InvalidGameStateException("Number of players must be positive, got: " + players);
+        }
+        if (!(kFactor > 0)) {
+            throw new InvalidGameStateException("K-factor must be positive, got: " + kFactor);
+        }
+        this.ratings = new AtomicLongArray(players);
+        this.kFactor = kFactor;
+        for (int i = 0; i < players; i++) {
+            ratings.set(i, Double.doubleToRawLongBits(INITIAL_RATING));
+        }
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return The number of players
+     */
+    public int getPlayerCount() {
+        return ratings.length();
+    }
+
+    /**
+     * Gets the current rating of a player.
+     *
+     * @param player The player index
+     * @return The rating
+     */
+    public double getRating(int player) {
+        return Double.longBitsToDouble(ratings.get(player));
+    }
+
+    /**
+     * Updates the ratings with the outcome of one game.
+     *
+     * @param players The player of each seat; a player may hold several seats
+     * @param scores The score of each seat (e.g. food weight); higher is better
+     * @throws InvalidGameStateException if the arrays differ in length or a player is out of range
+     */
+    public void recordGame(int[] players, int[] scores) {
+        if (players.length != scores.length) {
+            throw new InvalidGameStateException("Expected one score per seat");
+        }
+        int seats = players.length;
+        double[] current = new double[seats];
+        for (int i = 0; i < seats; i++) {
+            if (players[i] < 0 || players[i] >= ratings.length()) {
+                throw new InvalidGameStateException("Player index out of range: " + players[i]);
+            }
+            current[i] = getRating(players[i]);
+        }
+
+        double k = kFactor / Math.max(1, seats - 1);
+        double[] changes = new double[seats];
+        for (int i = 0; i < seats; i++) {
+            for (int j = i + 1; j < seats; j++) {
+                if (players[i] == players[j]) {
+                    continue;
+                }
+                double expected = 1.0 / (1.0 + Math.pow(10.0, (current[j] - current[i]) / 400.0));
+                double actual = scores[i] > scores[j] ? 1.0 : scores[i] == scores[j] ? 0.5 : 0.0;
+                double change = k * (actual - expected);
+                changes[i] += change;
+                changes[j] -= change;
+            }
+        }
+        for (int i = 0; i < seats; i++) {
+            if (changes[i] != 0.0) {
+                add(players[i], changes[i]);
+            }
+        }
+    }
+
+    private void add(int player, double change) {
+        long bits;
+        do {
+            bits = ratings.get(player);
+        } while (!ratings.compareAndSet(player, bits,
+                Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + change)));
+    }
+}
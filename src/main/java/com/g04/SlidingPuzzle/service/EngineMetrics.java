@@ -0,0 +1,349 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IEngineMetricsMXBean;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.WaterFall;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms of what the collision handlers of many games do: collisions per
+ * obstacle kind, removals per cause, slide lengths, food collected, lost and destroyed, and
+ * turn latencies. One instance is shared by any number of handlers on any number of threads
+ * (see {@link CollisionHandler#setMetrics}); every counter is a {@link LongAdder}, so recording
+ * never contends. Handlers without metrics skip all recording, including the turn timer.
+ * The metrics can be published as an MXBean with {@link #register(String)}.
+ * Latencies are kept in log-linear buckets (eight per power of two), so a reported
+ * percentile is the upper bound of its bucket and at most 12.5% above the true value.
+ */
+public class EngineMetrics implements IEngineMetricsMXBean {
+    /** Slide lengths from 0 to this value get their own bucket; longer slides share the last one. */
+    public static final int MAX_SLIDE_BUCKET = 32;
+    /** JMX domain of registered metrics. */
+    public static final String JMX_DOMAIN = "com.g04.SlidingPuzzle";
+
+    private static final CellKind[] KINDS = CellKind.values();
+    private static final WaterFall[] FALLS = WaterFall.values();
+    /** Sub-buckets per power of two, as a number of bits. */
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int LATENCY_BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder[] collisions = newAdders(KINDS.length);
+    private final LongAdder plugHoleCrossings = new LongAdder();
+    private final LongAdder[] falls = newAdders(FALLS.length);
+    private final LongAdder holeFalls = new LongAdder();
+    private final LongAdder[] slideLengths = newAdders(MAX_SLIDE_BUCKET + 2);
+    private final LongAdder[] hazardSlideLengths = newAdders(MAX_SLIDE_BUCKET + 2);
+    private final LongAdder foodCollected = new LongAdder();
+    private final LongAdder foodCollectedWeight = new LongAdder();
+    private final LongAdder foodLost = new LongAdder();
+    private final LongAdder foodLostWeight = new LongAdder();
+    private final LongAdder foodDestroyed = new LongAdder();
+    private final LongAdder[] latencies = newAdders(LATENCY_BUCKETS);
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0L);
+    private ObjectName registeredName;
+
+    // Recording, called by the collision handlers
+
+    void recordTurn(long nanos) {
+        turns.increment();
+        latencies[latencyBucket(nanos)].increment();
+        maxLatency.accumulate(nanos);
+    }
+
+    void recordCollision(CellKind kind) {
+        collisions[kind.ordinal()].increment();
+    }
+
+    void recordHoleCrossed() {
+        plugHoleCrossings.increment();
+    }
+
+    void recordFall(WaterFall fall) {
+        falls[fall.ordinal()].increment();
+    }
+
+    void recordFallIntoHole() {
+        holeFalls.increment();
+    }
+
+    void recordSlide(int length) {
+        slideLengths[Math.min(length, MAX_SLIDE_BUCKET + 1)].increment();
+    }
+
+    void recordHazardSlide(int length) {
+        hazardSlideLengths[Math.min(length, MAX_SLIDE_BUCKET + 1)].increment();
+    }
+
+    void recordFoodCollected(int weight) {
+        foodCollected.increment();
+        foodCollectedWeight.add(weight);
+    }
+
+    void recordFoodLost(int weight) {
+        foodLost.increment();
+        foodLostWeight.add(weight);
+    }
+
+    void recordFoodDestroyed() {
+        foodDestroyed.increment();
+    }
+
+    // Reading
+
+    @Override
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    @Override
+    public Map<String, Long> getCollisions() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (CellKind kind : KINDS) {
+            if (kind != CellKind.EMPTY && kind != CellKind.FOOD) {
+                counts.put(kind.name(), collisions[kind.ordinal()].sum());
+            }
+        }
+        counts.put("PLUGGED_HOLE", plugHoleCrossings.sum());
+        return counts;
+    }
+
+    /**
+     * Gets the number of collisions with one kind of obstacle.
+     *
+     * @param kind The obstacle kind
+     * @return The collision count
+     */
+    public long getCollisions(CellKind kind) {
+        return collisions[kind.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getRemovals() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (WaterFall fall : FALLS) {
+            counts.put(fall.name(), falls[fall.ordinal()].sum());
+        }
+        counts.put("HOLE_IN_ICE", holeFalls.sum());
+        return counts;
+    }
+
+    @Override
+    public long[] getSlideLengths() {
+        return sums(slideLengths);
+    }
+
+    @Override
+    public long[] getHazardSlideLengths() {
+        return sums(hazardSlideLengths);
+    }
+
+    @Override
+    public long getFoodCollected() {
+        return foodCollected.sum();
+    }
+
+    @Override
+    public long getFoodCollectedWeight() {
+        return foodCollectedWeight.sum();
+    }
+
+    @Override
+    public long getFoodLost() {
+        return foodLost.sum();
+    }
+
+    @Override
+    public long getFoodLostWeight() {
+        return foodLostWeight.sum();
+    }
+
+    @Override
+    public long getFoodDestroyed() {
+        return foodDestroyed.sum();
+    }
+
+    @Override
+    public long getTurnLatencyP50() {
+        return getTurnLatencyPercentile(0.5);
+    }
+
+    @Override
+    public long getTurnLatencyP90() {
+        return getTurnLatencyPercentile(0.9);
+    }
+
+    @Override
+    public long getTurnLatencyP99() {
+        return getTurnLatencyPercentile(0.99);
+    }
+
+    @Override
+    public long getTurnLatencyP999() {
+        return getTurnLatencyPercentile(0.999);
+    }
+
+    @Override
+    public long getTurnLatencyMax() {
+        return maxLatency.get();
+    }
+
+    /**
+     * Gets a percentile of the turn latencies.
+     *
+     * @param fraction The percentile as a fraction, e.g. 0.99
+     * @return The upper bound of the bucket holding the percentile in nanoseconds, or 0 without turns
+     * @throws InvalidGameStateException if fraction is not in (0, 1]
+     */
+    public long getTurnLatencyPercentile(double fraction) {
+        if (!(fraction > 0 && fraction <= 1)) {
+            throw new InvalidGameStateException("Percentile must be in (0, 1], got: " + fraction);
+        }
+        long[] counts = sums(latencies);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(bucket), maxLatency.get());
+            }
+        }
+        return maxLatency.get(); // Turns recorded while reading
+    }
+
+    @Override
+    public void reset() {
+        turns.reset();
+        resetAll(collisions);
+        plugHoleCrossings.reset();
+        resetAll(falls);
+        holeFalls.reset();
+        resetAll(slideLengths);
+        resetAll(hazardSlideLengths);
+        foodCollected.reset();
+        foodCollectedWeight.reset();
+        foodLost.reset();
+        foodLostWeight.reset();
+        foodDestroyed.reset();
+        resetAll(latencies);
+        maxLatency.reset();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * {@code com.g04.SlidingPuzzle:type=EngineMetrics,name=<name>}.
+     *
+     * @param name The name distinguishing these metrics from other registered instances
+     * @return The object name the metrics were registered under
+     * @throws InvalidGameStateException if name is null, the metrics are already registered,
+     *         or registration fails
+     */
+    public synchronized ObjectName register(String name) {
+        if (name == null) {
+            throw InvalidGameStateException.nullParameter("name");
+        }
+        if (registeredName != null) {
+            throw new InvalidGameStateException("Metrics are already registered as " + registeredName);
+        }
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=EngineMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new InvalidGameStateException("Could not register metrics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if registered.
+     *
+     * @throws InvalidGameStateException if unregistering fails
+     */
+    public synchronized void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(registeredName)) {
+                server.unregisterMBean(registeredName);
+            }
+            registeredName = null;
+        } catch (JMException e) {
+            throw new InvalidGameStateException("Could not unregister metrics: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "turns=%d collisions=%s removals=%s food=%d/%d/%d p50=%dns p99=%dns max=%dns",
+                getTurns(), getCollisions(), getRemovals(), getFoodCollected(), getFoodLost(),
+                getFoodDestroyed(), getTurnLatencyP50(), getTurnLatencyP99(), getTurnLatencyMax());
+    }
+
+    /**
+     * Maps a latency to its bucket: values below 8 get exact buckets, larger values one of
+     * eight buckets per power of two.
+     */
+    static int latencyBucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest latency that maps to a bucket.
+     */
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+
+    private static void resetAll(LongAdder[] adders) {
+        for (LongAdder adder : adders) {
+            adder.reset();
+        }
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
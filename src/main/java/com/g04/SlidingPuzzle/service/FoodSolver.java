@@ -0,0 +1,277 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IGridListener;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exact solver for the most food a single penguin can hold after a number of moves.
+ * The other penguins are frozen (they take no turns but can still be pushed) and every move
+ * is played by the real {@link CollisionHandler}, so stop squares, adjacent steps, jumps,
+ * bounces, food loss and stuns all follow the game rules.
+ * The search is a depth-first search over the penguin's moves (each direction, with and
+ * without the special ability) on a private copy of the board. Moves are played and taken
+ * back with a {@link MoveJournal}, and results are memoized in a {@link TranspositionTable}
+ * keyed by the position's {@link ZobristHash}. A branch is cut when even collecting all food
+ * still reachable could not beat the best line found so far: with one move left only food in
+ * the penguin's row and column is reachable (every move keeps to that line), otherwise all
+ * food on the board is. The table is kept between solves, since hashes identify whole positions.
+ * A solver is not thread-safe.
+ */
+public class FoodSolver {
+    /** Default number of transposition table slots. */
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 20;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final TranspositionTable table;
+
+    // State of the current solve
+    private Penguin penguin;
+    private int penguinIndex;
+    private ZobristHash hash;
+    private MoveJournal journal;
+    private CollisionHandler collisionHandler;
+    private CollisionHandler.TurnResult turnResult;
+    private FoodLines food;
+    private long nodes;
+
+    /**
+     * Creates a solver with the default transposition table size.
+     */
+    public FoodSolver() {
+        this(DEFAULT_TABLE_CAPACITY);
+    }
+
+    /**
+     * Creates a solver with the given transposition table size.
+     *
+     * @param tableCapacity The minimum number of table slots
+     * @throws InvalidGameStateException if tableCapacity is out of range
+     */
+    public FoodSolver(int tableCapacity) {
+        this.table = new TranspositionTable(tableCapacity);
+    }
+
+    /**
+     * Finds the best food total a penguin can reach in the given number of moves.
+     * The board and penguins passed in are not modified.
+     *
+     * @param grid The terrain grid
+     * @param penguins The penguins of the game in turn order
+     * @param solving The penguin to solve for
+     * @param moves The number of moves (turns) of the penguin
+     * @return The best total food weight and a line of moves reaching it
+     * @throws InvalidGameStateException if a parameter is null, the penguin is not part of
+     *         the game or moves is negative
+     */
+    public Solution solve(TerrainGrid grid, List<Penguin> penguins, Penguin solving, int moves) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (penguins == null) {
+            throw InvalidGameStateException.nullParameter("penguins");
+        }
+        int index = penguins.indexOf(solving);
+        if (index < 0) {
+            throw new InvalidGameStateException(solving + " is not part of this game");
+        }
+        if (moves < 0) {
+            throw new InvalidGameStateException("Number of moves cannot be negative, got: " + moves);
+        }
+
+        TerrainGrid copy = TerrainGrid.flat(grid.getRows(), grid.getCols());
+        List<Penguin> copies = BoardGenerator.copyBoard(grid, penguins, copy);
+        this.penguin = copies.get(index);
+        this.penguinIndex = index;
+        this.hash = new ZobristHash(copy, copies);
+        this.journal = new MoveJournal(copy);
+        this.collisionHandler = new CollisionHandler(copy);
+        collisionHandler.setRecordEvents(false);
+        collisionHandler.setJournal(journal);
+        this.turnResult = new CollisionHandler.TurnResult();
+        this.food = new FoodLines(copy);
+        this.nodes = 0;
+
+        int best = search(moves, Integer.MIN_VALUE);
+        List<Move> line = principalLine(moves, best);
+        return new Solution(best, List.copyOf(line), nodes);
+    }
+
+    /**
+     * Searches the best final food weight from the current position.
+     *
+     * @param remaining The number of moves left
+     * @param alpha The value that the caller already has; results not above it need not be exact
+     * @return The exact value if it is above alpha, otherwise an upper bound not above alpha
+     */
+    private int search(int remaining, int alpha) {
+        nodes++;
+        int weight = penguin.getTotalFoodWeight();
+        if (remaining == 0 || penguin.isRemoved()) {
+            return weight;
+        }
+        int bound = weight + reachableFood(remaining);
+        if (bound <= alpha) {
+            return bound;
+        }
+
+        long key = hash.getHash(remaining, penguinIndex);
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.MISS) {
+            int value = TranspositionTable.value(entry);
+            if (TranspositionTable.bound(entry) == TranspositionTable.Bound.EXACT
+                    || value <= alpha) {
+                return value;
+            }
+        }
+
+        int best;
+        int bestMove = 0;
+        if (penguin.isStunned()) {
+            // The turn is skipped
+            penguin.setStunned(false);
+            best = search(remaining - 1, alpha);
+            penguin.setStunned(true);
+        } else {
+            best = Integer.MIN_VALUE;
+            int step = penguin.canUseSpecialAbility() ? 1 : 2;
+            for (int move = 0; move < DIRECTIONS.length * 2; move += step) {
+                collisionHandler.executeTurn(penguin, DIRECTIONS[move >> 1], (move & 1) != 0, turnResult);
+                int value = search(remaining - 1, Math.max(alpha, best));
+                journal.undo();
+                if (value > best) {
+                    best = value;
+                    bestMove = move;
+                    if (best >= bound) {
+                        break; // Cannot do better
+                    }
+                }
+            }
+        }
+        table.store(key, best, remaining, bestMove,
+                best > alpha ? TranspositionTable.Bound.EXACT : TranspositionTable.Bound.UPPER);
+        return best;
+    }
+
+    /**
+     * Plays the best line from the root on the solver's copy: at each turn, plays the first
+     * move that still reaches the solved value.
+     */
+    private List<Move> principalLine(int moves, int target) {
+        List<Move> line = new ArrayList<>(moves);
+        for (int remaining = moves; remaining > 0 && !penguin.isRemoved(); remaining--) {
+            if (penguin.isStunned()) {
+                penguin.setStunned(false);
+                continue;
+            }
+            int step = penguin.canUseSpecialAbility() ? 1 : 2;
+            for (int move = 0; move < DIRECTIONS.length * 2; move += step) {
+                collisionHandler.executeTurn(penguin, DIRECTIONS[move >> 1], (move & 1) != 0, turnResult);
+                if (search(remaining - 1, target - 1) >= target) {
+                    line.add(new Move(DIRECTIONS[move >> 1], (move & 1) != 0));
+                    break;
+                }
+                journal.undo();
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Gets the most food the penguin could still collect in the remaining moves.
+     */
+    private int reachableFood(int remaining) {
+        if (remaining == 1) {
+            return food.inRow(penguin.getPosition().getRow()) + food.inColumn(penguin.getPosition().getCol());
+        }
+        return food.total();
+    }
+
+    /**
+     * One move of the solved line.
+     *
+     * @param direction The direction to move
+     * @param useSpecialAbility Whether to use the special ability
+     */
+    public record Move(Direction direction, boolean useSpecialAbility) {
+    }
+
+    /**
+     * The result of a solve.
+     *
+     * @param totalWeight The best total food weight the penguin can hold after its moves
+     * @param moves A line of moves reaching it; turns skipped by a stun have no move, and the
+     *              line ends early if the penguin leaves the game
+     * @param nodes The number of positions searched
+     */
+    public record Solution(int totalWeight, List<Move> moves, long nodes) {
+    }
+
+    /**
+     * Food weight on the board per row, per column and in total, kept up to date as a grid listener.
+     */
+    private static final class FoodLines implements IGridListener {
+        private final TerrainGrid grid;
+        private final int[] weights;
+        private final int[] rows;
+        private final int[] cols;
+        private int total;
+
+        private FoodLines(TerrainGrid grid) {
+            this.grid = grid;
+            this.weights = new int[grid.getRows() * grid.getCols()];
+            this.rows = new int[grid.getRows()];
+            this.cols = new int[grid.getCols()];
+            rebuild();
+            grid.addListener(this);
+        }
+
+        private int inRow(int row) {
+            return rows[row];
+        }
+
+        private int inColumn(int col) {
+            return cols[col];
+        }
+
+        private int total() {
+            return total;
+        }
+
+        @Override
+        public void cellChanged(int row, int col, CellKind previous, CellKind current) {
+            int index = row * cols.length + col;
+            int weight = current == CellKind.FOOD ? ((Food) grid.get(row, col)).getWeight() : 0;
+            int change = weight - weights[index];
+            weights[index] = weight;
+            rows[row] += change;
+            cols[col] += change;
+            total += change;
+        }
+
+        @Override
+        public void gridCleared() {
+            rebuild();
+        }
+
+        private void rebuild() {
+            Arrays.fill(weights, 0);
+            Arrays.fill(rows, 0);
+            Arrays.fill(cols, 0);
+            total = 0;
+            for (int row = 0; row < rows.length; row++) {
+                for (int col = 0; col < cols.length; col++) {
+                    cellChanged(row, col, CellKind.EMPTY, grid.getKind(row, col));
+                }
+            }
+        }
+    }
+}
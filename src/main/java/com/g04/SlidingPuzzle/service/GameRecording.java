@@ -0,0 +1,161 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+
+import java.util.Arrays;
+
+/**
+ * The seed and move stream of one headless game, from which the game can be replayed exactly.
+ * The board is regenerated from the settings and seed; the moves are then played in order.
+ * Each move is one byte: the penguin index (bits 3-4), the special ability flag (bit 2)
+ * and the direction ordinal (bits 0-1). Turns skipped by removed or stunned penguins are
+ * not recorded since the turn rules determine them.
+ * A recording is not thread-safe while moves are being added.
+ */
+public final class GameRecording {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int ABILITY = 4;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final GameSettings settings;
+    private final long seed;
+    private final int gameIndex;
+    private byte[] moves;
+    private int moveCount;
+
+    /**
+     * Creates an empty recording of a game.
+     *
+     * @param settings The settings of the game
+     * @param seed The seed the game is played with
+     * @param gameIndex The index of the game within its batch
+     * @throws InvalidGameStateException if settings is null or gameIndex is negative
+     */
+    public GameRecording(GameSettings settings, long seed, int gameIndex) {
+        this(settings, seed, gameIndex, new byte[INITIAL_CAPACITY], 0);
+    }
+
+    /**
+     * Creates a recording from an encoded move stream.
+     */
+    GameRecording(GameSettings settings, long seed, int gameIndex, byte[] moves, int moveCount) {
+        if (settings == null) {
+            throw InvalidGameStateException.nullParameter("settings");
+        }
+        if (gameIndex < 0) {
+            throw new InvalidGameStateException("Game index cannot be negative, got: " + gameIndex);
+        }
+        this.settings = settings;
+        this.seed = seed;
+        this.gameIndex = gameIndex;
+        this.moves = moves;
+        this.moveCount = moveCount;
+        for (int i = 0; i < moveCount; i++) {
+            if ((moves[i] & 0xFF) >> 3 >= settings.numOfPenguins()) {
+                throw new InvalidGameStateException("Move " + i + " is for a penguin that is not in the game");
+            }
+        }
+    }
+
+    /**
+     * Gets the settings of the game.
+     *
+     * @return The game settings
+     */
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Gets the seed of the game.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the index of the game within its batch.
+     *
+     * @return The game index
+     */
+    public int getGameIndex() {
+        return gameIndex;
+    }
+
+    /**
+     * Gets the number of recorded moves.
+     *
+     * @return The move count
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Appends a move.
+     *
+     * @param penguinIndex The index of the moving penguin in turn order
+     * @param direction The direction of the move
+     * @param useSpecialAbility Whether the special ability was used
+     * @throws InvalidGameStateException if penguinIndex is out of range or direction is null
+     */
+    public void recordMove(int penguinIndex, Direction direction, boolean useSpecialAbility) {
+        if (penguinIndex < 0 || penguinIndex >= settings.numOfPenguins()) {
+            throw new InvalidGameStateException("Penguin index out of range: " + penguinIndex);
+        }
+        if (direction == null) {
+            throw InvalidGameStateException.nullParameter("direction");
+        }
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moveCount * 2);
+        }
+        moves[moveCount++] = (byte) (penguinIndex << 3 | (useSpecialAbility ? ABILITY : 0) | direction.ordinal());
+    }
+
+    /**
+     * Gets the index of the penguin making a move.
+     *
+     * @param move The move number (0-based)
+     * @return The penguin index in turn order
+     */
+    public int getPenguinIndex(int move) {
+        return (moveAt(move) & 0xFF) >> 3;
+    }
+
+    /**
+     * Gets the direction of a move.
+     *
+     * @param move The move number (0-based)
+     * @return The direction
+     */
+    public Direction getDirection(int move) {
+        return DIRECTIONS[moveAt(move) & 3];
+    }
+
+    /**
+     * Gets whether a move used the special ability.
+     *
+     * @param move The move number (0-based)
+     * @return true if the special ability was used
+     */
+    public boolean usesSpecialAbility(int move) {
+        return (moveAt(move) & ABILITY) != 0;
+    }
+
+    /**
+     * Gets the encoded moves; only the first {@link #getMoveCount()} bytes are used.
+     */
+    byte[] encodedMoves() {
+        return moves;
+    }
+
+    private byte moveAt(int move) {
+        if (move < 0 || move >= moveCount) {
+            throw new InvalidGameStateException("Move number out of range: " + move);
+        }
+        return moves[move];
+    }
+}
@@ -0,0 +1,22 @@
+package com.g04.SlidingPuzzle.service;
+
+import java.util.List;
+
+/**
+ * Outcome of one finished headless game.
+ *
+ * @param gameIndex The index of the game within its batch
+ * @param seed The seed the game was played with; replaying it with the same settings reproduces the game
+ * @param placements The penguins' results, ordered by final place
+ */
+public record GameResult(int gameIndex, long seed, List<PenguinResult> placements) {
+
+    /**
+     * Gets the result of the winning penguin.
+     *
+     * @return The first-placed penguin's result
+     */
+    public PenguinResult winner() {
+        return placements.get(0);
+    }
+}
@@ -0,0 +1,309 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.IcyTerrain;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves interactive games to many players at once over local TCP connections.
+ * Every connection is a session running its own {@link IcyTerrain} game on its own virtual
+ * thread, so thousands of sessions that mostly wait for their players need only a few
+ * carrier threads. The other penguins of a session are moved by a controller from the
+ * given factory ({@link HeuristicAI} by default, which needs no threads of its own).
+ * <p>
+ * Line protocol (UTF-8): the server sends the game text as the console shows it. Prompts
+ * end with {@code " --> "} instead of a line break; the client answers each prompt with one
+ * line (e.g. {@code Y}, {@code N}, {@code U}, {@code D}, {@code L} or {@code R}).
+ * The last line of a session is {@code BYE <reason>}, where the reason is one of
+ * {@code game over}, {@code idle timeout}, {@code input limit}, {@code busy} or {@code error}.
+ * <p>
+ * Each session gets the {@link SessionLimits}: it is closed when its player does not answer
+ * within the idle timeout or sends too much input, and clients beyond the session limit are
+ * turned away.
+ */
+public class GameServer implements AutoCloseable {
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    private final SessionLimits limits;
+    private final IPenguinController.Factory aiFactory;
+    private final Semaphore sessionSlots;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final Map<SessionEnd, LongAdder> ends = new EnumMap<>(SessionEnd.class);
+    private ServerSocket serverSocket;
+
+    /**
+     * How a session ended.
+     */
+    public enum SessionEnd {
+        /** The game was played to the end. */
+        GAME_OVER,
+        /** The player did not answer within the idle timeout. */
+        IDLE_TIMEOUT,
+        /** The player sent a line or a total that exceeded the input limits. */
+        INPUT_LIMIT,
+        /** The player closed the connection. */
+        DISCONNECTED,
+        /** The session limit was reached when the player connected. */
+        BUSY,
+        /** The session failed with an unexpected error. */
+        ERROR
+    }
+
+    /**
+     * Creates a server whose AI penguins are moved by the {@link HeuristicAI}.
+     *
+     * @param limits The limits of every session
+     * @throws InvalidGameStateException if limits is null
+     */
+    public GameServer(SessionLimits limits) {
+        this(limits, (grid, penguins, rounds, rng) -> new HeuristicAI(grid, rng));
+    }
+
+    /**
+     * Creates a server whose AI penguins are moved by controllers from the given factory.
+     *
+     * @param limits The limits of every session
+     * @param aiFactory Creates the AI controller of each session
+     * @throws InvalidGameStateException if a parameter is null
+     */
+    public GameServer(SessionLimits limits, IPenguinController.Factory aiFactory) {
+        if (limits == null) {
+            throw InvalidGameStateException.nullParameter("limits");
+        }
+        if (aiFactory == null) {
+            throw InvalidGameStateException.nullParameter("aiFactory");
+        }
+        this.limits = limits;
+        this.aiFactory = aiFactory;
+        this.sessionSlots = new Semaphore(limits.maxSessions());
+        for (SessionEnd end : SessionEnd.values()) {
+            ends.put(end, new LongAdder());
+        }
+    }
+
+    /**
+     * Starts accepting players on the loopback interface.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @return The port the server listens on
+     * @throws IOException if the port cannot be opened
+     * @throws InvalidGameStateException if the server was already started
+     */
+    public synchronized int start(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new InvalidGameStateException("Server was already started");
+        }
+        // The accept queue holds a full session limit of clients, so a burst of connections is
+        // served or turned away as busy instead of being dropped by the kernel
+        serverSocket = new ServerSocket(port, limits.maxSessions(), InetAddress.getLoopbackAddress());
+        sessions.execute(this::acceptLoop);
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of sessions being played.
+     *
+     * @return The number of open sessions
+     */
+    public int getActiveSessions() {
+        return limits.maxSessions() - sessionSlots.availablePermits();
+    }
+
+    /**
+     * Gets the number of sessions that ended in the given way.
+     *
+     * @param end How the sessions ended
+     * @return The number of sessions
+     */
+    public long getSessionCount(SessionEnd end) {
+        return ends.get(end).sum();
+    }
+
+    /**
+     * Stops accepting players and closes every open session.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (serverSocket != null) {
+                closeQuietly(serverSocket);
+            }
+        }
+        for (Socket socket : openSockets) {
+            closeQuietly(socket);
+        }
+        sessions.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                return; // Server socket closed
+            }
+            try {
+                if (sessionSlots.tryAcquire()) {
+                    openSockets.add(socket);
+                    sessions.execute(() -> {
+                        try {
+                            serve(socket);
+                        } finally {
+                            openSockets.remove(socket);
+                            sessionSlots.release();
+                        }
+                    });
+                } else {
+                    sessions.execute(() -> turnAway(socket));
+                }
+            } catch (RejectedExecutionException e) {
+                // The server is closing
+                closeQuietly(socket);
+                return;
+            }
+        }
+    }
+
+    private void turnAway(Socket socket) {
+        ends.get(SessionEnd.BUSY).increment();
+        try (socket) {
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            out.println("BYE busy");
+        } catch (IOException e) {
+            // The client is gone already
+        }
+    }
+
+    /**
+     * Plays one game with the player on the socket and counts how it ended. The end is
+     * counted before the BYE line is sent, so a client that read it sees it counted.
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout((int) limits.idleTimeout().toMillis());
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream(), OUTPUT_BUFFER_SIZE),
+                    false, StandardCharsets.UTF_8);
+            BufferedSink sink = new BufferedSink(out);
+            SessionInput in = new SessionInput(socket.getInputStream(), sink, limits);
+
+            SessionEnd end;
+            try {
+                IcyTerrain terrain = new IcyTerrain(new TerrainGrid(), new SplittableRandom(), in, sink);
+                terrain.setAiFactory(aiFactory);
+                terrain.startGame();
+                end = SessionEnd.GAME_OVER;
+            } catch (NoSuchElementException e) {
+                // The scanner ran out of input; the session input knows why
+                end = in.failure instanceof SocketTimeoutException ? SessionEnd.IDLE_TIMEOUT
+                        : in.failure instanceof InputLimitException ? SessionEnd.INPUT_LIMIT
+                        : SessionEnd.DISCONNECTED;
+            } catch (RuntimeException e) {
+                end = SessionEnd.ERROR;
+            }
+            sink.flush();
+            ends.get(end).increment();
+            if (end != SessionEnd.DISCONNECTED) {
+                if (end != SessionEnd.GAME_OVER) {
+                    out.println(); // End the unanswered prompt
+                }
+                out.println("BYE " + end.name().toLowerCase(Locale.ROOT).replace('_', ' '));
+            }
+            out.flush();
+        } catch (IOException e) {
+            ends.get(SessionEnd.DISCONNECTED).increment();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Nothing left to clean up
+        }
+    }
+
+    /**
+     * Raised when a client sends more input than its session allows.
+     */
+    private static final class InputLimitException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        InputLimitException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Socket input of a session. Flushes the session's output before waiting for the player,
+     * so prompts reach the client, enforces the input limits, and remembers the failure that
+     * ended the input (the scanner reading it only reports that no line was found).
+     */
+    private static final class SessionInput extends FilterInputStream {
+        private final Flushable output;
+        private final SessionLimits limits;
+        private long total;
+        private int lineLength;
+        private IOException failure;
+
+        SessionInput(InputStream in, Flushable output, SessionLimits limits) {
+            super(in);
+            this.output = output;
+            this.limits = limits;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                output.flush();
+                int read = super.read(buffer, offset, length);
+                for (int i = offset; i < offset + read; i++) {
+                    lineLength = buffer[i] == '\n' ? 0 : lineLength + 1;
+                    if (lineLength > limits.maxLineLength()) {
+                        throw new InputLimitException("Input line longer than " + limits.maxLineLength() + " bytes");
+                    }
+                }
+                total += Math.max(0, read);
+                if (total > limits.maxInputBytes()) {
+                    throw new InputLimitException("More than " + limits.maxInputBytes() + " bytes of input");
+                }
+                return read;
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+    }
+}
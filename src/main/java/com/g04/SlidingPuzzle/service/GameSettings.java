@@ -0,0 +1,42 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+/**
+ * Immutable settings describing one game: board dimensions, object counts and rounds.
+ *
+ * @param rows Number of grid rows
+ * @param cols Number of grid columns
+ * @param numOfPenguins Number of penguins (at most 4, placed on edge squares)
+ * @param numOfHazards Number of hazards
+ * @param numOfFood Number of food items
+ * @param numOfRounds Number of turns each penguin gets
+ */
+public record GameSettings(int rows, int cols, int numOfPenguins, int numOfHazards,
+                           int numOfFood, int numOfRounds) {
+
+    /** The standard game: 10x10 grid, 3 penguins, 15 hazards, 20 food items and 4 rounds. */
+    public static final GameSettings STANDARD =
+            new GameSettings(TerrainGrid.GRID_SIZE, TerrainGrid.GRID_SIZE, 3, 15, 20, 4);
+
+    /**
+     * Validates the settings.
+     *
+     * @throws InvalidGameStateException if any value is out of range
+     */
+    public GameSettings {
+        if (rows <= 0 || cols <= 0) {
+            throw new InvalidGameStateException("Grid dimensions must be positive, got: " + rows + "x" + cols);
+        }
+        if (numOfPenguins < 1 || numOfPenguins > 4) {
+            throw new InvalidGameStateException("Number of penguins must be between 1 and 4, got: " + numOfPenguins);
+        }
+        if (numOfHazards < 0 || numOfFood < 0) {
+            throw new InvalidGameStateException("Hazard and food counts cannot be negative");
+        }
+        if (numOfRounds <= 0) {
+            throw new InvalidGameStateException("Number of rounds must be positive, got: " + numOfRounds);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A single headless game in which every penguin is controlled by the {@link HeuristicAI}
+ * or by given {@link IPenguinController}s.
+ * Follows the same turn rules as the interactive game but performs no console I/O.
+ * All randomness (board generation and AI decisions) is drawn from one generator seeded
+ * per game, so a game with the same settings and seed replays identically.
+ * An instance is not thread-safe; each game should run on its own instance.
+ */
+public class GameSimulation {
+    private final GameSettings settings;
+    private final long seed;
+    private final TerrainGrid grid;
+    private final List<Penguin> penguins;
+    private final CollisionHandler collisionHandler;
+    private final HeuristicAI ai;
+    private final CollisionHandler.TurnResult turnResult = new CollisionHandler.TurnResult();
+
+    /**
+     * Creates a new game with a freshly generated board and a random seed.
+     *
+     * @param settings The game settings
+     */
+    public GameSimulation(GameSettings settings) {
+        this(settings, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a new game with a board generated from the given seed.
+     *
+     * @param settings The game settings
+     * @param seed The seed for all random decisions of this game
+     */
+    public GameSimulation(GameSettings settings, long seed) {
+        this(settings, seed, null);
+    }
+
+    /**
+     * Creates a new game with a board generated from the given seed and penguins of the given types.
+     *
+     * @param settings The game settings
+     * @param seed The seed for all random decisions of this game
+     * @param types The type of each penguin in turn order, or null for random types
+     * @throws InvalidGameStateException if the number of types does not match the settings
+     */
+    public GameSimulation(GameSettings settings, long seed, List<PenguinType> types) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        this.settings = settings;
+        this.seed = seed;
+        this.grid = TerrainGrid.flat(settings.rows(), settings.cols());
+        BoardGenerator generator = new BoardGenerator(grid, rng);
+        this.penguins = types == null ? generator.generate(settings) : generator.generate(settings, types);
+        this.collisionHandler = new CollisionHandler(grid);
+        this.collisionHandler.setRecordEvents(false); // Nothing is printed
+        this.ai = new HeuristicAI(grid, rng);
+    }
+
+    /**
+     * Gets the seed of this game.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the terrain grid of this game.
+     *
+     * @return The terrain grid
+     */
+    public TerrainGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the penguins of this game in turn order.
+     *
+     * @return The list of penguins
+     */
+    public List<Penguin> getPenguins() {
+        return penguins;
+    }
+
+    /**
+     * Sets the metrics that the turns of this game are counted in.
+     *
+     * @param metrics The metrics to update, or null to record nothing (the default)
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        collisionHandler.setMetrics(metrics);
+    }
+
+    /**
+     * Plays the game to the end.
+     *
+     * @param gameIndex The index of the game within its batch, stored in the result
+     * @return The final result
+     */
+    public GameResult play(int gameIndex) {
+        return play(gameIndex, null, null);
+    }
+
+    /**
+     * Plays the game to the end, recording every move so the game can be replayed.
+     *
+     * @param gameIndex The index of the game within its batch, stored in the result
+     * @param recording The recording to append the moves to, or null to record nothing
+     * @return The final result
+     */
+    public GameResult play(int gameIndex, GameRecording recording) {
+        return play(gameIndex, null, recording);
+    }
+
+    /**
+     * Plays the game to the end with the given controller for each penguin instead of the
+     * built-in heuristic AI. The controllers are not closed.
+     *
+     * @param gameIndex The index of the game within its batch, stored in the result
+     * @param controllers The controller of each penguin in turn order
+     * @return The final result
+     * @throws InvalidGameStateException if there is not one controller per penguin
+     */
+    public GameResult play(int gameIndex, List<? extends IPenguinController> controllers) {
+        if (controllers == null || controllers.size() != penguins.size()) {
+            throw new InvalidGameStateException("Expected one controller per penguin (" + penguins.size() + ")");
+        }
+        return play(gameIndex, controllers, null);
+    }
+
+    private GameResult play(int gameIndex, List<? extends IPenguinController> controllers, GameRecording recording) {
+        GameStateManager state = new GameStateManager(penguins, settings.numOfRounds());
+        while (!state.isGameOver()) {
+            if (state.skipIfStunned()) {
+                continue;
+            }
+            Penguin penguin = state.getCurrentPenguin();
+            int penguinIndex = state.getCurrentPenguinIndex();
+            int turn = state.getCurrentTurn();
+
+            IPenguinController controller = controllers == null ? ai : controllers.get(penguinIndex);
+            Decision decision = controller.decide(penguin, turn);
+            if (recording != null) {
+                recording.recordMove(penguinIndex, decision.direction(), decision.useSpecialAbility());
+            }
+            collisionHandler.executeTurn(penguin, decision.direction(), decision.useSpecialAbility(), turnResult);
+            state.advanceTurn(turnResult);
+        }
+        return buildResult(gameIndex, state);
+    }
+
+    /**
+     * Replays a recorded game at full speed: the board is regenerated from the recorded
+     * settings and seed, and the recorded moves are played instead of asking the AI.
+     * Since the rules are applied afresh, replaying old recordings after a rules change
+     * gives the outcomes under the new rules.
+     *
+     * @param recording The recorded game
+     * @return The final result
+     * @throws InvalidGameStateException if recording is null or its moves do not fit the game
+     *         (e.g. a move of a penguin whose turn it is not)
+     */
+    public static GameResult replay(GameRecording recording) {
+        if (recording == null) {
+            throw InvalidGameStateException.nullParameter("recording");
+        }
+        return new GameSimulation(recording.getSettings(), recording.getSeed()).replayMoves(recording);
+    }
+
+    private GameResult replayMoves(GameRecording recording) {
+        GameStateManager state = new GameStateManager(penguins, settings.numOfRounds());
+        int move = 0;
+        while (!state.isGameOver()) {
+            if (state.skipIfStunned()) {
+                continue;
+            }
+            Penguin penguin = state.getCurrentPenguin();
+            int penguinIndex = state.getCurrentPenguinIndex();
+            int turn = state.getCurrentTurn();
+
+            if (move == recording.getMoveCount()) {
+                throw new InvalidGameStateException("Recording of game " + recording.getGameIndex() +
+                        " ends before turn " + turn + " of " + penguin.getName());
+            }
+            if (recording.getPenguinIndex(move) != penguinIndex) {
+                throw new InvalidGameStateException("Recording of game " + recording.getGameIndex() +
+                        " diverges at move " + move + ": expected a move of " + penguin.getName());
+            }
+            collisionHandler.executeTurn(penguin, recording.getDirection(move),
+                    recording.usesSpecialAbility(move), turnResult);
+            state.advanceTurn(turnResult);
+            move++;
+        }
+        if (move != recording.getMoveCount()) {
+            throw new InvalidGameStateException("Recording of game " + recording.getGameIndex() + " has " +
+                    (recording.getMoveCount() - move) + " moves after the end of the game");
+        }
+        return buildResult(recording.getGameIndex(), state);
+    }
+
+    /**
+     * Ranks the penguins by total food weight (descending) like the scoreboard does.
+     */
+    private GameResult buildResult(int gameIndex, GameStateManager state) {
+        List<Penguin> ranked = new ArrayList<>(penguins);
+        ranked.sort(Comparator.comparingInt(Penguin::getTotalFoodWeight).reversed());
+
+        List<PenguinResult> placements = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            Penguin penguin = ranked.get(i);
+            List<Food> foods = penguin.getFoodInventory();
+            List<Integer> weights = new ArrayList<>(foods.size());
+            for (Food food : foods) {
+                weights.add(food.getWeight());
+            }
+            placements.add(new PenguinResult(penguin.getName(), penguin.getPenguinType(), i + 1,
+                    penguin.getTotalFoodWeight(), List.copyOf(weights), penguin.isRemoved(),
+                    state.getRemovedOnTurn(penguins.indexOf(penguin))));
+        }
+        return new GameResult(gameIndex, seed, List.copyOf(placements));
+    }
+}
@@ -0,0 +1,490 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Hazard;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versioned binary encoding of a full game state: the grid, the penguins with their flags and
+ * food inventories, plugged holes and, optionally, the turn progress of a {@link GameStateManager}.
+ * The format is compact (a standard 10x10 game takes about 100 bytes) so states can be
+ * captured when a game crashes or a simulation misbehaves and replayed later.
+ * <p>
+ * Layout (all integers marked varint are unsigned LEB128):
+ * <pre>
+ *   magic "SP", version byte
+ *   varint rows, varint cols
+ *   state byte (0 or 1) [varint totalTurns, varint currentTurn, varint penguinIndex]
+ *   penguin count byte, per penguin:
+ *     type byte, flags byte (bit 0 ability used, 1 stunned, 2 removed, 3 jump prepared,
+ *     bits 4-5 jump direction), name length byte and UTF-8 name,
+ *     varint square (row * cols + col + 1, 0 when not on the grid),
+ *     varint food count and one food byte per item in inventory order
+ *   varint count of other occupied squares, per square in row-major order:
+ *     varint gap from the previous square, code byte
+ *     (food: 0x80 | type &lt;&lt; 3 | weight, hazard: 0x40 | 0x10 if plugged | type)
+ * </pre>
+ * Only the occupied squares are written. Encoding writes straight into a caller-provided
+ * buffer and decoding reads from one, so neither needs intermediate buffers.
+ */
+public final class GameSnapshotCodec {
+    /** The current format version. */
+    public static final int VERSION = 1;
+    private static final byte MAGIC_0 = 'S';
+    private static final byte MAGIC_1 = 'P';
+    private static final int MAX_PENGUINS = 0xFF;
+    private static final int MAX_NAME_BYTES = 0xFF;
+    private static final int MAX_CELLS = 1 << 24;
+
+    private static final int ABILITY_USED = 1;
+    private static final int STUNNED = 2;
+    private static final int REMOVED = 4;
+    private static final int JUMP_PREPARED = 8;
+    private static final int JUMP_SHIFT = 4;
+
+    private static final int FOOD_CODE = 0x80;
+    private static final int HAZARD_CODE = 0x40;
+    private static final int PLUGGED = 0x10;
+
+    private static final PenguinType[] PENGUIN_TYPES = PenguinType.values();
+    private static final FoodType[] FOOD_TYPES = FoodType.values();
+    private static final HazardType[] HAZARD_TYPES = HazardType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private GameSnapshotCodec() {
+    }
+
+    /**
+     * Encodes a game state into a new byte array of exactly the encoded size.
+     *
+     * @param grid The terrain grid
+     * @param penguins The penguins of the game in turn order, including removed ones
+     * @param state The turn progress, or null to leave it out
+     * @return The encoded snapshot
+     * @throws InvalidGameStateException if grid or penguins is null or the state cannot be encoded
+     */
+    public static byte[] encode(TerrainGrid grid, List<Penguin> penguins, GameStateManager state) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(grid, penguins, state));
+        encode(grid, penguins, state, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Encodes a game state into a buffer, starting at its position.
+     *
+     * @param grid The terrain grid
+     * @param penguins The penguins of the game in turn order, including removed ones
+     * @param state The turn progress, or null to leave it out
+     * @param out The buffer to write to; its position is advanced past the snapshot
+     * @throws InvalidGameStateException if a parameter other than state is null, the state
+     *         cannot be encoded, or the buffer is too small
+     */
+    public static void encode(TerrainGrid grid, List<Penguin> penguins, GameStateManager state, ByteBuffer out) {
+        validate(grid, penguins);
+        if (out == null) {
+            throw InvalidGameStateException.nullParameter("out");
+        }
+        try {
+            out.put(MAGIC_0).put(MAGIC_1).put((byte) VERSION);
+            putVarint(out, grid.getRows());
+            putVarint(out, grid.getCols());
+            if (state == null) {
+                out.put((byte) 0);
+            } else {
+                out.put((byte) 1);
+                putVarint(out, state.getTotalTurns());
+                putVarint(out, state.getCurrentTurn());
+                putVarint(out, state.getCurrentPenguinIndex());
+            }
+
+            out.put((byte) penguins.size());
+            for (Penguin penguin : penguins) {
+                out.put((byte) penguin.getPenguinType().ordinal());
+                out.put((byte) flagsOf(penguin));
+                byte[] name = penguin.getName().getBytes(StandardCharsets.UTF_8);
+                out.put((byte) name.length).put(name);
+                putVarint(out, penguin.isRemoved() ? 0 : squareOf(grid, penguin.getPosition()) + 1);
+                List<Food> foods = penguin.getFoodInventory();
+                putVarint(out, foods.size());
+                for (Food food : foods) {
+                    out.put((byte) foodCode(food));
+                }
+            }
+
+            putVarint(out, countCells(grid));
+            int previous = -1;
+            int cols = grid.getCols();
+            for (int row = 0; row < grid.getRows(); row++) {
+                for (int col = 0; col < cols; col++) {
+                    int code = cellCode(grid, row, col);
+                    if (code != 0) {
+                        int square = row * cols + col;
+                        putVarint(out, square - previous - 1);
+                        out.put((byte) code);
+                        previous = square;
+                    }
+                }
+            }
+        } catch (BufferOverflowException e) {
+            throw new InvalidGameStateException("Snapshot buffer is too small", e);
+        }
+    }
+
+    /**
+     * Gets the number of bytes {@link #encode(TerrainGrid, List, GameStateManager, ByteBuffer)} writes.
+     *
+     * @param grid The terrain grid
+     * @param penguins The penguins of the game in turn order, including removed ones
+     * @param state The turn progress, or null to leave it out
+     * @return The encoded size in bytes
+     * @throws InvalidGameStateException if grid or penguins is null or the state cannot be encoded
+     */
+    public static int encodedSize(TerrainGrid grid, List<Penguin> penguins, GameStateManager state) {
+        validate(grid, penguins);
+        int size = 3 + varintSize(grid.getRows()) + varintSize(grid.getCols()) + 1;
+        if (state != null) {
+            size += varintSize(state.getTotalTurns()) + varintSize(state.getCurrentTurn())
+                    + varintSize(state.getCurrentPenguinIndex());
+        }
+        size++;
+        for (Penguin penguin : penguins) {
+            int foods = penguin.getFoodInventory().size();
+            size += 3 + penguin.getName().getBytes(StandardCharsets.UTF_8).length
+                    + varintSize(penguin.isRemoved() ? 0 : squareOf(grid, penguin.getPosition()) + 1)
+                    + varintSize(foods) + foods;
+        }
+        size += varintSize(countCells(grid));
+        int previous = -1;
+        int cols = grid.getCols();
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < cols; col++) {
+                if (cellCode(grid, row, col) != 0) {
+                    int square = row * cols + col;
+                    size += varintSize(square - previous - 1) + 1;
+                    previous = square;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Decodes a snapshot onto a new flat-array grid.
+     *
+     * @param bytes The encoded snapshot
+     * @return The decoded game state
+     * @throws InvalidGameStateException if bytes is null or the snapshot is corrupt
+     */
+    public static Snapshot decode(byte[] bytes) {
+        if (bytes == null) {
+            throw InvalidGameStateException.nullParameter("bytes");
+        }
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a snapshot onto a new flat-array grid.
+     *
+     * @param in The buffer to read from; its position is advanced past the snapshot
+     * @return The decoded game state
+     * @throws InvalidGameStateException if in is null or the snapshot is corrupt
+     */
+    public static Snapshot decode(ByteBuffer in) {
+        return decode(in, null);
+    }
+
+    /**
+     * Decodes a snapshot onto the given grid, e.g. a list-backed grid or one with listeners attached.
+     *
+     * @param in The buffer to read from; its position is advanced past the snapshot
+     * @param target An empty grid with the snapshot's dimensions, or null to create a flat-array grid
+     * @return The decoded game state
+     * @throws InvalidGameStateException if in is null, the target does not match or is not
+     *         empty, or the snapshot is corrupt
+     */
+    public static Snapshot decode(ByteBuffer in, TerrainGrid target) {
+        if (in == null) {
+            throw InvalidGameStateException.nullParameter("in");
+        }
+        try {
+            if (in.get() != MAGIC_0 || in.get() != MAGIC_1) {
+                throw corrupt("not a snapshot");
+            }
+            int version = in.get() & 0xFF;
+            if (version != VERSION) {
+                throw corrupt("unsupported version " + version);
+            }
+            int rows = getVarint(in);
+            int cols = getVarint(in);
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > MAX_CELLS) {
+                throw corrupt("invalid dimensions " + rows + "x" + cols);
+            }
+            TerrainGrid grid = target != null ? target : TerrainGrid.flat(rows, cols);
+            if (grid.getRows() != rows || grid.getCols() != cols) {
+                throw new InvalidGameStateException("Cannot decode a " + rows + "x" + cols +
+                        " snapshot onto a " + grid.getRows() + "x" + grid.getCols() + " grid");
+            }
+            if (grid.getOccupancy().countEmpty() != rows * cols) {
+                throw new InvalidGameStateException("Cannot decode a snapshot onto a non-empty grid");
+            }
+            int squares = rows * cols;
+
+            int[] turns = null;
+            int hasState = in.get();
+            if (hasState == 1) {
+                turns = new int[] {getVarint(in), getVarint(in), getVarint(in)};
+            } else if (hasState != 0) {
+                throw corrupt("invalid state marker " + hasState);
+            }
+
+            int count = in.get() & 0xFF;
+            List<Penguin> penguins = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                penguins.add(decodePenguin(in, grid, squares));
+            }
+
+            int cells = getVarint(in);
+            int square = -1;
+            for (int i = 0; i < cells; i++) {
+                square += getVarint(in) + 1;
+                if (square < 0 || square >= squares) {
+                    throw corrupt("square " + square + " is outside the grid");
+                }
+                int row = square / cols;
+                int col = square % cols;
+                if (grid.getKind(row, col) != CellKind.EMPTY) {
+                    throw corrupt("square (" + row + ", " + col + ") is used twice");
+                }
+                decodeCell(in.get() & 0xFF, grid, row, col);
+            }
+
+            GameStateManager state = null;
+            if (turns != null) {
+                if (penguins.isEmpty()) {
+                    throw corrupt("turn state without penguins");
+                }
+                state = new GameStateManager(penguins, turns[0], turns[1], turns[2]);
+            }
+            return new Snapshot(grid, List.copyOf(penguins), state);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidGameStateException("Corrupt snapshot: unexpected end of data", e);
+        }
+    }
+
+    /**
+     * Reads one penguin and places it on the grid.
+     */
+    private static Penguin decodePenguin(ByteBuffer in, TerrainGrid grid, int squares) {
+        int type = in.get() & 0xFF;
+        if (type >= PENGUIN_TYPES.length) {
+            throw corrupt("unknown penguin type " + type);
+        }
+        int flags = in.get() & 0xFF;
+        byte[] nameBytes = new byte[in.get() & 0xFF];
+        in.get(nameBytes);
+        String name = new String(nameBytes, StandardCharsets.UTF_8);
+        if (name.trim().isEmpty()) {
+            throw corrupt("penguin without a name");
+        }
+        Penguin penguin = BoardGenerator.createPenguin(PENGUIN_TYPES[type], name);
+        int square = getVarint(in) - 1;
+
+        if ((flags & ABILITY_USED) != 0) {
+            penguin.useSpecialAbility();
+        }
+        if ((flags & JUMP_PREPARED) != 0) {
+            if (!(penguin instanceof RockhopperPenguin rockhopper)) {
+                throw corrupt(name + " cannot have a prepared jump");
+            }
+            rockhopper.prepareJump(DIRECTIONS[(flags >> JUMP_SHIFT) & 3]);
+        }
+        int foods = getVarint(in);
+        for (int i = 0; i < foods; i++) {
+            penguin.collectFood(decodeFood(in.get() & 0xFF));
+        }
+        penguin.setStunned((flags & STUNNED) != 0);
+
+        if ((flags & REMOVED) != 0) {
+            penguin.remove();
+        } else {
+            if (square < 0 || square >= squares) {
+                throw corrupt(name + " is not on the grid");
+            }
+            int row = square / grid.getCols();
+            int col = square % grid.getCols();
+            if (grid.getKind(row, col) != CellKind.EMPTY) {
+                throw corrupt("square (" + row + ", " + col + ") is used twice");
+            }
+            grid.set(Position.of(row, col), penguin);
+        }
+        return penguin;
+    }
+
+    /**
+     * Places the food or hazard of a square code on the grid.
+     */
+    private static void decodeCell(int code, TerrainGrid grid, int row, int col) {
+        if ((code & FOOD_CODE) != 0) {
+            grid.set(Position.of(row, col), decodeFood(code & ~FOOD_CODE));
+        } else if ((code & HAZARD_CODE) != 0) {
+            int type = code & 0x0F;
+            if (type >= HAZARD_TYPES.length || (code & 0x20) != 0) {
+                throw corrupt("unknown hazard code " + code);
+            }
+            Hazard hazard = BoardGenerator.createHazard(HAZARD_TYPES[type]);
+            grid.set(Position.of(row, col), hazard);
+            if ((code & PLUGGED) != 0) {
+                if (!(hazard instanceof HoleInIce)) {
+                    throw corrupt("only a Hole in Ice can be plugged");
+                }
+                grid.plugHole(row, col);
+            }
+        } else {
+            throw corrupt("unknown square code " + code);
+        }
+    }
+
+    private static Food decodeFood(int code) {
+        int type = code >> 3;
+        int weight = code & 7;
+        if (type >= FOOD_TYPES.length || weight < 1 || weight > 5) {
+            throw corrupt("invalid food code " + code);
+        }
+        return new Food(FOOD_TYPES[type], weight);
+    }
+
+    private static void validate(TerrainGrid grid, List<Penguin> penguins) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (penguins == null) {
+            throw InvalidGameStateException.nullParameter("penguins");
+        }
+        if (penguins.size() > MAX_PENGUINS) {
+            throw new InvalidGameStateException("Cannot encode more than " + MAX_PENGUINS + " penguins");
+        }
+        for (Penguin penguin : penguins) {
+            if (penguin.getName().getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+                throw new InvalidGameStateException("Penguin name is too long to encode: " + penguin.getName());
+            }
+            if (!penguin.isRemoved() && (penguin.getPosition() == null || grid.get(penguin.getPosition()) != penguin)) {
+                throw new InvalidGameStateException(penguin + " is not on the grid");
+            }
+        }
+    }
+
+    private static int flagsOf(Penguin penguin) {
+        int flags = (penguin.hasUsedSpecialAbility() ? ABILITY_USED : 0)
+                | (penguin.isStunned() ? STUNNED : 0)
+                | (penguin.isRemoved() ? REMOVED : 0);
+        if (penguin instanceof RockhopperPenguin rockhopper && rockhopper.isJumpPrepared()) {
+            flags |= JUMP_PREPARED | rockhopper.getJumpDirection().ordinal() << JUMP_SHIFT;
+        }
+        return flags;
+    }
+
+    private static int foodCode(Food food) {
+        return food.getFoodType().ordinal() << 3 | food.getWeight();
+    }
+
+    /**
+     * Gets the code of a food or hazard square, or 0 for empty squares and penguins.
+     */
+    private static int cellCode(TerrainGrid grid, int row, int col) {
+        CellKind kind = grid.getKind(row, col);
+        if (kind == CellKind.FOOD) {
+            return FOOD_CODE | foodCode((Food) grid.get(row, col));
+        }
+        if (kind.isHazard()) {
+            Hazard hazard = (Hazard) grid.get(row, col);
+            boolean plugged = hazard instanceof HoleInIce hole && hole.isPlugged();
+            return HAZARD_CODE | (plugged ? PLUGGED : 0) | hazard.getHazardType().ordinal();
+        }
+        return 0;
+    }
+
+    private static int countCells(TerrainGrid grid) {
+        int count = 0;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                if (cellCode(grid, row, col) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int squareOf(TerrainGrid grid, Position position) {
+        return position.getRow() * grid.getCols() + position.getCol();
+    }
+
+    /**
+     * Writes a non-negative number as an unsigned LEB128 varint (1-5 bytes).
+     */
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Reads a varint written by {@link #putVarint(ByteBuffer, int)}.
+     *
+     * @throws InvalidGameStateException if the number does not fit a non-negative int
+     */
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new InvalidGameStateException("Corrupt data: number out of range");
+    }
+
+    /**
+     * Gets the number of bytes {@link #putVarint(ByteBuffer, int)} writes for a number.
+     */
+    static int varintSize(int value) {
+        return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+    }
+
+    private static InvalidGameStateException corrupt(String reason) {
+        return new InvalidGameStateException("Corrupt snapshot: " + reason);
+    }
+
+    /**
+     * A decoded game state.
+     *
+     * @param grid The terrain grid with the penguins, food and hazards placed
+     * @param penguins The penguins in turn order, including removed ones
+     * @param state The turn progress, or null if the snapshot has none
+     */
+    public record Snapshot(TerrainGrid grid, List<Penguin> penguins, GameStateManager state) {
+    }
+}
@@ -3,17 +3,36 @@ package com.g04.SlidingPuzzle.service;
 import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
 import com.g04.SlidingPuzzle.model.Penguin;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for managing game state and turn progression.
  * Handles turn counting, penguin ordering, and game-over detection.
+ * <p>
+ * The penguins still in the game form a ring of links in turn order, so moving on to the
+ * next penguin and taking a penguin out are O(1) however many penguins there are.
+ * Penguins removed during a turn are taken out through {@link #advanceTurn(CollisionHandler.TurnResult)};
+ * penguins removed any other way are skipped and taken out when their turn comes up.
+ * A stunned penguin loses its next turn through {@link #skipIfStunned()}.
  */
 public class GameStateManager {
     private int currentTurn;
-    private int currentPenguinIndex;
     private final int totalTurns;
     private final List<Penguin> penguins;
+    private final Map<Penguin, Integer> indices;
+    /** Links of the active ring; index {@code penguins.size()} is the sentinel between rounds. */
+    private final int[] next;
+    private final int[] previous;
+    private final boolean[] linked;
+    private final int[] removedOnTurn;
+    private final int sentinel;
+    private int activeCount;
+    /** Index of the penguin whose turn it is, or the sentinel at the end of a round. */
+    private int cursor;
+    /** Cursor at the start of the current turn; differs from the cursor once a fallen mover was passed. */
+    private int holder;
 
     /**
      * Creates a new game state manager.
@@ -32,7 +51,56 @@ public class GameStateManager {
         this.penguins = penguins;
         this.totalTurns = totalTurns;
         this.currentTurn = 1;
-        this.currentPenguinIndex = 0;
+
+        int count = penguins.size();
+        this.sentinel = count;
+        this.indices = new IdentityHashMap<>(count);
+        this.next = new int[count + 1];
+        this.previous = new int[count + 1];
+        this.linked = new boolean[count];
+        this.removedOnTurn = new int[count];
+
+        // Link the penguins still in the game; removed ones point at the next penguin in the ring
+        int following = sentinel;
+        for (int i = count - 1; i >= 0; i--) {
+            indices.put(penguins.get(i), i);
+            next[i] = following;
+            if (!penguins.get(i).isRemoved()) {
+                previous[following] = i;
+                linked[i] = true;
+                activeCount++;
+                following = i;
+            }
+        }
+        next[sentinel] = following;
+        previous[following] = sentinel;
+        this.cursor = next[sentinel];
+        settle();
+        this.holder = cursor;
+    }
+
+    /**
+     * Creates a game state manager that resumes a game at the given point, e.g. from a snapshot.
+     *
+     * @param penguins The list of penguins in the game
+     * @param totalTurns The total number of turns per penguin
+     * @param currentTurn The current turn (1-based; totalTurns + 1 once the game is over)
+     * @param currentPenguinIndex The index of the penguin to move
+     * @throws InvalidGameStateException if any argument is out of range
+     */
+    public GameStateManager(List<Penguin> penguins, int totalTurns, int currentTurn, int currentPenguinIndex) {
+        this(penguins, totalTurns);
+        if (currentTurn < 1 || currentTurn > totalTurns + 1) {
+            throw new InvalidGameStateException("Current turn must be between 1 and " + (totalTurns + 1) +
+                    ", got: " + currentTurn);
+        }
+        if (currentPenguinIndex < 0 || currentPenguinIndex >= penguins.size()) {
+            throw new InvalidGameStateException("Penguin index out of range: " + currentPenguinIndex);
+        }
+        this.currentTurn = currentTurn;
+        this.cursor = currentPenguinIndex;
+        settle();
+        this.holder = cursor;
     }
 
     /**
@@ -41,11 +109,31 @@ public class GameStateManager {
      * @return The current turn (1-based)
      */
     public int getCurrentTurn() {
+        settle();
         return currentTurn;
     }
 
     /**
-     * Gets the current penguin whose turn it is.
+     * Gets the total number of turns per penguin.
+     *
+     * @return The total turns
+     */
+    public int getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the index of the penguin whose turn it is, in turn order.
+     *
+     * @return The current penguin index
+     */
+    public int getCurrentPenguinIndex() {
+        settle();
+        return cursor == sentinel ? 0 : cursor;
+    }
+
+    /**
+     * Gets the current penguin whose turn it is. Removed penguins never get a turn.
      *
      * @return The current penguin
      * @throws InvalidGameStateException if game is over
@@ -54,33 +142,62 @@ public class GameStateManager {
         if (isGameOver()) {
             throw new InvalidGameStateException("Cannot get current penguin - game is over");
         }
-        return penguins.get(currentPenguinIndex);
+        return penguins.get(cursor);
     }
 
     /**
-     * Advances to the next penguin's turn.
+     * Advances to the next active penguin's turn.
      * Automatically increments turn number when all penguins have moved.
      *
      * @throws InvalidGameStateException if game is already over
      */
     public void advanceTurn() {
-        if (isGameOver()) {
-            throw new InvalidGameStateException("Cannot advance turn - game is over");
+        checkNotOver();
+        step();
+    }
+
+    /**
+     * Takes the penguins that fell into the water or a hole during the given turn out of the
+     * ring, then advances to the next active penguin's turn.
+     *
+     * @param turn The result of the turn just played
+     * @throws InvalidGameStateException if turn is null or game is already over
+     */
+    public void advanceTurn(CollisionHandler.TurnResult turn) {
+        if (turn == null) {
+            throw InvalidGameStateException.nullParameter("turn");
         }
-        currentPenguinIndex++;
-        if (currentPenguinIndex >= penguins.size()) {
-            currentPenguinIndex = 0;
-            currentTurn++;
+        checkNotOver();
+        takeOutFallen(turn.primary);
+        takeOutFallen(turn.bounce);
+        takeOutFallen(turn.triggered);
+        step();
+    }
+
+    /**
+     * Skips the current penguin's turn if it is stunned, clearing the stun.
+     *
+     * @return true if the turn was skipped, false if the penguin can move
+     * @throws InvalidGameStateException if game is over
+     */
+    public boolean skipIfStunned() {
+        Penguin penguin = getCurrentPenguin();
+        if (!penguin.isStunned()) {
+            return false;
         }
+        penguin.setStunned(false);
+        advanceTurn();
+        return true;
     }
 
     /**
-     * Checks if the game is over (all turns completed).
+     * Checks if the game is over (all turns completed or no penguin left).
      *
      * @return true if game is over, false otherwise
      */
     public boolean isGameOver() {
-        return currentTurn > totalTurns;
+        settle();
+        return currentTurn > totalTurns || activeCount == 0;
     }
 
     /**
@@ -89,6 +206,7 @@ public class GameStateManager {
      * @return Number of turns remaining
      */
     public int getRemainingTurns() {
+        settle();
         return Math.max(0, totalTurns - currentTurn + 1);
     }
 
@@ -98,6 +216,81 @@ public class GameStateManager {
      * @return Count of active penguins
      */
     public int getActivePenguinCount() {
-        return (int) penguins.stream().filter(p -> !p.isRemoved()).count();
+        return activeCount;
+    }
+
+    /**
+     * Gets the turn on which a penguin was taken out of the game.
+     *
+     * @param penguinIndex The index of the penguin in turn order
+     * @return The turn, or 0 if the penguin is still in the game or was removed before this manager
+     */
+    public int getRemovedOnTurn(int penguinIndex) {
+        return removedOnTurn[penguinIndex];
+    }
+
+    /**
+     * Checks that the game was not over when the current turn started. A penguin falling
+     * during its turn may end the game, but the turn can still be completed.
+     */
+    private void checkNotOver() {
+        if (currentTurn > totalTurns || activeCount == 0) {
+            throw new InvalidGameStateException("Cannot advance turn - game is over");
+        }
+    }
+
+    /**
+     * Ends the current turn. A penguin taken out of the ring keeps its link to its successor,
+     * so the cursor can always move on; if it already moved past a penguin that fell during
+     * its turn, it is not moved again.
+     */
+    private void step() {
+        if (cursor == holder) {
+            cursor = next[cursor];
+        }
+        settle();
+        holder = cursor;
+    }
+
+    private void takeOutFallen(CollisionHandler.MovementResult result) {
+        if (result != null && result.penguin != null && (result.fellOffEdge || result.fellIntoHole)) {
+            Integer index = indices.get(result.penguin);
+            if (index != null && linked[index]) {
+                unlink(index);
+            }
+        }
+    }
+
+    /**
+     * Moves the cursor past removed penguins and the end of the round, taking the removed
+     * penguins it passes out of the ring.
+     */
+    private void settle() {
+        while (currentTurn <= totalTurns && activeCount > 0) {
+            if (cursor == sentinel) {
+                cursor = next[sentinel];
+                currentTurn++;
+            } else if (penguins.get(cursor).isRemoved()) {
+                int following = next[cursor];
+                if (linked[cursor]) {
+                    unlink(cursor);
+                }
+                cursor = following;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes a penguin out of the ring. Its own link is kept, so a cursor on it still reaches
+     * the next penguin.
+     */
+    private void unlink(int index) {
+        next[previous[index]] = next[index];
+        previous[next[index]] = previous[index];
+        linked[index] = false;
+        activeCount--;
+        removedOnTurn[index] = currentTurn;
     }
 }
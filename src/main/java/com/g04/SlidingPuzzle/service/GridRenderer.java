@@ -0,0 +1,212 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.interfaces.IGridListener;
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.Objects;
+
+/**
+ * Service class for drawing the terrain grid.
+ * Full frames are built in a reusable buffer. On a terminal the renderer can instead pin
+ * the frame to the top of the screen and, after each turn, redraw only the squares the
+ * grid reported as changed, using ANSI cursor addressing.
+ */
+public final class GridRenderer implements IGridListener {
+    private static final String ESC = "\u001B[";
+    private static final String SAVE_CURSOR = "\u001B7";
+    private static final String RESTORE_CURSOR = "\u001B8";
+    private static final int CELL_WIDTH = 5; // 4 characters plus the separator
+
+    private final TerrainGrid grid;
+    private final int rows;
+    private final int cols;
+    private final String border;
+    private final StringBuilder buffer;
+    /** Symbol last drawn on each square, null for empty ice. */
+    private final String[] frame;
+    /** Squares changed since the last draw, and their membership flags. */
+    private final int[] dirty;
+    private final boolean[] isDirty;
+    private int dirtyCount;
+    private boolean allDirty;
+    private boolean attached;
+
+    /**
+     * Creates a renderer for the specified grid and starts tracking its changes.
+     *
+     * @param grid The terrain grid to draw
+     */
+    public GridRenderer(TerrainGrid grid) {
+        this.grid = grid;
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.border = "-".repeat(cols * CELL_WIDTH + 1);
+        this.buffer = new StringBuilder((rows * 2 + 1) * (cols * CELL_WIDTH + 2));
+        this.frame = new String[rows * cols];
+        this.dirty = new int[rows * cols];
+        this.isDirty = new boolean[rows * cols];
+        this.allDirty = true;
+        grid.addListener(this);
+    }
+
+    /**
+     * Checks if standard output is an interactive terminal that understands ANSI escapes.
+     *
+     * @return true if incremental drawing can be used
+     */
+    public static boolean isTerminal() {
+        return System.console() != null && !"dumb".equals(System.getenv("TERM"));
+    }
+
+    /**
+     * Renders the full grid: bordered rows with each symbol centered in a 4-character field.
+     *
+     * @return String representation of the grid
+     */
+    public String render() {
+        buffer.setLength(0);
+        for (int row = 0; row < rows; row++) {
+            buffer.append(border).append('\n').append('|');
+            for (int col = 0; col < cols; col++) {
+                String symbol = symbolAt(row, col);
+                frame[row * cols + col] = symbol;
+                appendCell(symbol).append('|');
+            }
+            buffer.append('\n');
+        }
+        buffer.append(border).append('\n');
+        clearDirty();
+        return buffer.toString();
+    }
+
+    /**
+     * Clears the terminal, draws the full grid at the top of the screen and confines
+     * further output to the lines below it, so that the grid stays in place.
+     * Written through the given sink in order with the text around it; the sink decides
+     * when it reaches the terminal.
+     *
+     * @param out The sink writing to the terminal
+     */
+    public void attach(IOutputSink out) {
+        int frameHeight = rows * 2 + 1;
+        out.print(ESC + "2J" + ESC + "H");
+        out.print(render());
+        out.print(ESC + (frameHeight + 1) + "r" + ESC + (frameHeight + 1) + ";1H");
+        attached = true;
+    }
+
+    /**
+     * Redraws the squares that changed since the last draw, in place.
+     * Does nothing unless the renderer is attached to a terminal.
+     *
+     * @param out The sink writing to the terminal
+     */
+    public void update(IOutputSink out) {
+        if (!attached) {
+            return;
+        }
+        buffer.setLength(0);
+        buffer.append(SAVE_CURSOR);
+        if (allDirty) {
+            for (int index = 0; index < frame.length; index++) {
+                redraw(index);
+            }
+        } else {
+            for (int i = 0; i < dirtyCount; i++) {
+                redraw(dirty[i]);
+            }
+        }
+        buffer.append(RESTORE_CURSOR);
+        clearDirty();
+        out.print(buffer);
+    }
+
+    /**
+     * Releases the screen: output may use the whole terminal again.
+     *
+     * @param out The sink writing to the terminal
+     */
+    public void detach(IOutputSink out) {
+        if (attached) {
+            out.print(ESC + "r" + ESC + "999;1H");
+            attached = false;
+        }
+    }
+
+    /**
+     * Checks if the renderer is currently drawing in place on a terminal.
+     *
+     * @return true if attached
+     */
+    public boolean isAttached() {
+        return attached;
+    }
+
+    /**
+     * Gets the number of squares waiting to be redrawn.
+     *
+     * @return The number of changed squares, or the grid size after a clear
+     */
+    public int getPendingChanges() {
+        return allDirty ? frame.length : dirtyCount;
+    }
+
+    @Override
+    public void cellChanged(int row, int col, CellKind previous, CellKind current) {
+        int index = row * cols + col;
+        if (!isDirty[index]) {
+            isDirty[index] = true;
+            dirty[dirtyCount++] = index;
+        }
+    }
+
+    @Override
+    public void gridCleared() {
+        allDirty = true;
+    }
+
+    /**
+     * Appends the cursor move and new cell contents if the square's symbol changed.
+     */
+    private void redraw(int index) {
+        int row = index / cols;
+        int col = index % cols;
+        String symbol = symbolAt(row, col);
+        if (Objects.equals(symbol, frame[index])) {
+            return;
+        }
+        frame[index] = symbol;
+        buffer.append(ESC).append(row * 2 + 2).append(';').append(col * CELL_WIDTH + 2).append('H');
+        appendCell(symbol);
+    }
+
+    private String symbolAt(int row, int col) {
+        ITerrainObject obj = grid.get(row, col);
+        return obj == null ? null : obj.getDisplaySymbol();
+    }
+
+    /**
+     * Appends a 4-character cell: empty, or the symbol left-aligned in a 2-character field between spaces.
+     */
+    private StringBuilder appendCell(String symbol) {
+        if (symbol == null) {
+            return buffer.append("    ");
+        }
+        buffer.append(' ').append(symbol);
+        for (int pad = symbol.length(); pad < 2; pad++) {
+            buffer.append(' ');
+        }
+        return buffer.append(' ');
+    }
+
+    private void clearDirty() {
+        for (int i = 0; i < dirtyCount; i++) {
+            isDirty[dirty[i]] = false;
+        }
+        dirtyCount = 0;
+        allDirty = false;
+    }
+}
@@ -0,0 +1,143 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Service class for the computer-controlled penguins' decision making.
+ * Chooses a direction by looking at the neighbouring squares and decides on ability usage.
+ */
+public class HeuristicAI implements IPenguinController {
+    private static final double SPECIAL_ABILITY_CHANCE = 0.3;
+
+    private final TerrainGrid grid;
+    private final RandomGenerator rng;
+
+    /**
+     * Creates a new AI for the specified grid using the calling thread's random generator.
+     * The AI must then only be used on that thread.
+     *
+     * @param grid The terrain grid the penguins play on
+     */
+    public HeuristicAI(TerrainGrid grid) {
+        this(grid, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a new AI for the specified grid.
+     *
+     * @param grid The terrain grid the penguins play on
+     * @param rng The random number generator used for all decisions
+     */
+    public HeuristicAI(TerrainGrid grid, RandomGenerator rng) {
+        this.grid = grid;
+        this.rng = rng;
+    }
+
+    /**
+     * Decides the next move of a penguin.
+     * The AI has a 30% chance to use its special ability, except Rockhopper penguins, which
+     * automatically use it when moving towards a hazard.
+     *
+     * @param penguin The penguin to decide for
+     * @return The decision
+     */
+    public Decision decide(Penguin penguin) {
+        boolean canUse = penguin.canUseSpecialAbility();
+        boolean isRockhopper = penguin instanceof RockhopperPenguin;
+        boolean useSpecialAbility = canUse && rng.nextDouble() < SPECIAL_ABILITY_CHANCE;
+        if (isRockhopper) {
+            useSpecialAbility = false; // Will be set true if hazard detected
+        }
+
+        // Choose direction (prioritize food > non-hole hazards > water)
+        Direction direction = chooseDirection(penguin);
+
+        // Special case: Rockhopper auto-uses ability when moving towards hazard
+        boolean automatic = false;
+        if (isRockhopper && canUse) {
+            Position next = penguin.getPosition().move(direction);
+            if (grid.getKind(next).isHazard()) {
+                useSpecialAbility = true;
+                automatic = true;
+            }
+        }
+        return new Decision(direction, useSpecialAbility, automatic);
+    }
+
+    /**
+     * Decides the next move of a penguin; the heuristic does not depend on the turn.
+     *
+     * @param penguin The penguin to decide for
+     * @param turn The current round (1-based)
+     * @return The decision
+     */
+    @Override
+    public Decision decide(Penguin penguin, int turn) {
+        return decide(penguin);
+    }
+
+    /**
+     * Chooses a direction for a penguin based on priorities: food > safe > hazards > water.
+     * Unplugged holes are treated like water.
+     *
+     * @param penguin The penguin to choose for
+     * @return The chosen direction
+     */
+    public Direction chooseDirection(Penguin penguin) {
+        Position pos = penguin.getPosition();
+        List<Direction> foodDirections = new ArrayList<>();
+        List<Direction> safeDirections = new ArrayList<>();
+        List<Direction> hazardDirections = new ArrayList<>();
+        List<Direction> waterDirections = new ArrayList<>();
+
+        for (Direction dir : Direction.values()) {
+            Position next = pos.move(dir);
+
+            if (!grid.isValidPosition(next)) {
+                waterDirections.add(dir);
+                continue;
+            }
+
+            CellKind kind = grid.getKind(next);
+            if (kind == CellKind.FOOD) {
+                foodDirections.add(dir);
+            } else if (kind == CellKind.HOLE_IN_ICE && !((HoleInIce) grid.get(next)).isPlugged()) {
+                // Treat unplugged hole as worst option (like water)
+                waterDirections.add(dir);
+            } else if (kind.isHazard()) {
+                hazardDirections.add(dir);
+            } else {
+                safeDirections.add(dir);
+            }
+        }
+
+        if (!foodDirections.isEmpty()) {
+            return pick(foodDirections);
+        }
+        if (!safeDirections.isEmpty()) {
+            return pick(safeDirections);
+        }
+        if (!hazardDirections.isEmpty()) {
+            return pick(hazardDirections);
+        }
+        // No choice but water
+        return pick(waterDirections);
+    }
+
+    private Direction pick(List<Direction> directions) {
+        return directions.get(rng.nextInt(directions.size()));
+    }
+}
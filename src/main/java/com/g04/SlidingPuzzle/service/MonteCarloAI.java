@@ -0,0 +1,357 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Service class for computer-controlled penguins that searches their moves with Monte Carlo
+ * tree search (UCT).
+ * A move is one of the four directions, with or without the special ability. Each search
+ * iteration plays the rest of the game: the searching penguin's moves
+ * follow the tree, the other penguins (and the searching penguin once it leaves the tree)
+ * are played by the {@link HeuristicAI}. The tree is open-loop, i.e. its nodes stand for the
+ * searching penguin's own move sequences, since the other penguins' moves are random.
+ * Each worker copies the board once per search and takes every iteration's moves back
+ * with a {@link MoveJournal}.
+ * A game is scored for the searching penguin by its share of food weight against the best
+ * opponent, with a win counting double.
+ * Every move is searched for a fixed wall-clock budget by one independent tree per worker
+ * (root parallelism); the root statistics are merged and the most visited move is played.
+ * The AI owns its worker pool and must be closed after use.
+ */
+public class MonteCarloAI implements IPenguinController {
+    /** Default search time per move. */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(5);
+    /** UCB1 exploration constant for rewards in [0, 1]. */
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /** Number of moves: each direction with and without the special ability. */
+    private static final int MOVES = DIRECTIONS.length * 2;
+
+    private final TerrainGrid grid;
+    private final List<Penguin> penguins;
+    private final int totalRounds;
+    private final long budgetNanos;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+    private final RandomGenerator rng;
+
+    /**
+     * Creates a new AI with the default budget, one worker per available processor and the
+     * calling thread's random generator.
+     *
+     * @param grid The terrain grid the penguins play on
+     * @param penguins The penguins of the game in turn order
+     * @param totalRounds The number of rounds of the game
+     */
+    public MonteCarloAI(TerrainGrid grid, List<Penguin> penguins, int totalRounds) {
+        this(grid, penguins, totalRounds, DEFAULT_BUDGET, Runtime.getRuntime().availableProcessors(),
+                ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a new AI.
+     * Worker generators are seeded from the given generator, which is only used on the
+     * thread calling {@link #decide(Penguin, int)}.
+     *
+     * @param grid The terrain grid the penguins play on
+     * @param penguins The penguins of the game in turn order
+     * @param totalRounds The number of rounds of the game
+     * @param budget The search time per move
+     * @param parallelism The number of search workers
+     * @param rng The random number generator
+     * @throws InvalidGameStateException if a parameter is null, the rounds or parallelism are
+     *         not positive, or the budget is negative
+     */
+    public MonteCarloAI(TerrainGrid grid, List<Penguin> penguins, int totalRounds, Duration budget,
+                        int parallelism, RandomGenerator rng) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (penguins == null) {
+            throw InvalidGameStateException.nullParameter("penguins");
+        }
+        if (budget == null) {
+            throw InvalidGameStateException.nullParameter("budget");
+        }
+        if (rng == null) {
+            throw InvalidGameStateException.nullParameter("rng");
+        }
+        if (totalRounds <= 0) {
+            throw new InvalidGameStateException("Total rounds must be positive, got: " + totalRounds);
+        }
+        if (parallelism <= 0) {
+            throw new InvalidGameStateException("Parallelism must be positive, got: " + parallelism);
+        }
+        if (budget.isNegative()) {
+            throw new InvalidGameStateException("Search budget cannot be negative, got: " + budget);
+        }
+        this.grid = grid;
+        this.penguins = penguins;
+        this.totalRounds = totalRounds;
+        this.budgetNanos = budget.toNanos();
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+        this.rng = rng;
+    }
+
+    /**
+     * Decides the next move of a penguin by searching until the budget runs out.
+     * Falls back to the {@link HeuristicAI} if not a single iteration finished in time.
+     *
+     * @param penguin The penguin to decide for; must be able to move this turn
+     * @param turn The current round (1-based)
+     * @return The decision
+     * @throws InvalidGameStateException if the penguin is not part of the game or the turn is out of range
+     */
+    @Override
+    public Decision decide(Penguin penguin, int turn) {
+        int self = penguins.indexOf(penguin);
+        if (self < 0) {
+            throw new InvalidGameStateException(penguin + " is not part of this game");
+        }
+        if (turn < 1 || turn > totalRounds) {
+            throw new InvalidGameStateException("Turn must be between 1 and " + totalRounds + ", got: " + turn);
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        List<Callable<Node>> searches = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            long seed = rng.nextLong();
+            searches.add(() -> search(self, turn, deadline, new SplittableRandom(seed)));
+        }
+
+        long[] visits = new long[MOVES];
+        double[] rewards = new double[MOVES];
+        try {
+            for (Future<Node> future : pool.invokeAll(searches)) {
+                Node root = future.get();
+                for (int move = 0; move < MOVES; move++) {
+                    Node child = root.children[move];
+                    if (child != null) {
+                        visits[move] += child.visits;
+                        rewards[move] += child.reward;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("Move search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new InvalidGameStateException("Move search failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        int best = -1;
+        for (int move = 0; move < MOVES; move++) {
+            if (visits[move] > 0 && (best < 0 || visits[move] > visits[best]
+                    || (visits[move] == visits[best] && rewards[move] > rewards[best]))) {
+                best = move;
+            }
+        }
+        if (best < 0) {
+            return new HeuristicAI(grid, rng).decide(penguin);
+        }
+        return new Decision(directionOf(best), usesAbility(best), false);
+    }
+
+    /**
+     * Grows one search tree until the deadline.
+     */
+    private Node search(int self, int turn, long deadline, RandomGenerator random) {
+        Node root = new Node();
+        List<Node> path = new ArrayList<>();
+        Board board = new Board(grid, penguins, random);
+        while (System.nanoTime() < deadline) {
+            path.clear();
+            path.add(root);
+            double reward = playout(self, turn, root, path, board, random);
+            board.reset();
+            for (Node node : path) {
+                node.visits++;
+                node.reward += reward;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Plays one iteration on the worker's copy of the board: descends the tree on the searching
+     * penguin's turns, expands one new move, then plays the rest of the game heuristically.
+     *
+     * @return The reward of the finished game for the searching penguin
+     */
+    private double playout(int self, int turn, Node root, List<Node> path, Board board, RandomGenerator random) {
+        List<Penguin> players = board.players;
+        Node node = root;
+        int index = self;
+        for (int round = turn; round <= totalRounds; round++) {
+            for (; index < players.size(); index++) {
+                Penguin penguin = players.get(index);
+                if (penguin.isRemoved()) {
+                    continue;
+                }
+                if (penguin.isStunned()) {
+                    penguin.setStunned(false); // Skips this turn
+                    continue;
+                }
+
+                Direction direction;
+                boolean useSpecialAbility;
+                if (index == self && node != null) {
+                    int move = select(node, penguin.canUseSpecialAbility(), random);
+                    boolean expanded = node.children[move] == null;
+                    if (expanded) {
+                        node.children[move] = new Node();
+                    }
+                    node = node.children[move];
+                    path.add(node);
+                    if (expanded) {
+                        node = null; // Leave the tree, the rest is a rollout
+                    }
+                    direction = directionOf(move);
+                    useSpecialAbility = usesAbility(move);
+                } else {
+                    Decision decision = board.heuristic.decide(penguin);
+                    direction = decision.direction();
+                    useSpecialAbility = decision.useSpecialAbility();
+                }
+                board.collisionHandler.executeTurn(penguin, direction, useSpecialAbility, board.turnResult);
+            }
+            index = 0;
+        }
+        return score(players.get(self), players);
+    }
+
+    /**
+     * Picks a move at a tree node: an untried legal move at random, otherwise the legal move
+     * with the highest UCB1 value.
+     */
+    private static int select(Node node, boolean canUseAbility, RandomGenerator random) {
+        int step = canUseAbility ? 1 : 2;
+        int untried = 0;
+        for (int move = 0; move < MOVES; move += step) {
+            if (node.children[move] == null) {
+                untried++;
+            }
+        }
+        if (untried > 0) {
+            int pick = random.nextInt(untried);
+            for (int move = 0; move < MOVES; move += step) {
+                if (node.children[move] == null && pick-- == 0) {
+                    return move;
+                }
+            }
+        }
+
+        double logVisits = Math.log(node.visits);
+        int best = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int move = 0; move < MOVES; move += step) {
+            Node child = node.children[move];
+            double value = child.reward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = move;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores a finished game in [0, 1] for a penguin: its share of the food weight held by
+     * itself and its best opponent, plus one for a win (and a half for a tie), halved.
+     */
+    private static double score(Penguin penguin, List<Penguin> players) {
+        int own = penguin.getTotalFoodWeight();
+        int bestOpponent = 0;
+        for (Penguin other : players) {
+            if (other != penguin) {
+                bestOpponent = Math.max(bestOpponent, other.getTotalFoodWeight());
+            }
+        }
+        double share = own + bestOpponent == 0 ? 0.5 : (double) own / (own + bestOpponent);
+        double win = own > bestOpponent ? 1.0 : own == bestOpponent ? 0.5 : 0.0;
+        return (share + win) / 2;
+    }
+
+    private static Direction directionOf(int move) {
+        return DIRECTIONS[move >> 1];
+    }
+
+    private static boolean usesAbility(int move) {
+        return (move & 1) != 0;
+    }
+
+    /**
+     * Shuts the worker pool down.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * A worker's private copy of the board. Iterations play on it with a move journal
+     * and take their moves back afterwards, so the board is copied once per search.
+     */
+    private static final class Board {
+        private final List<Penguin> players;
+        private final boolean[] stunned;
+        private final MoveJournal journal;
+        private final CollisionHandler collisionHandler;
+        private final CollisionHandler.TurnResult turnResult = new CollisionHandler.TurnResult();
+        private final HeuristicAI heuristic;
+
+        private Board(TerrainGrid grid, List<Penguin> penguins, RandomGenerator random) {
+            TerrainGrid copy = TerrainGrid.flat(grid.getRows(), grid.getCols());
+            this.players = BoardGenerator.copyBoard(grid, penguins, copy);
+            this.stunned = new boolean[players.size()];
+            for (int i = 0; i < stunned.length; i++) {
+                stunned[i] = players.get(i).isStunned();
+            }
+            this.journal = new MoveJournal(copy);
+            this.collisionHandler = new CollisionHandler(copy);
+            collisionHandler.setRecordEvents(false);
+            collisionHandler.setJournal(journal);
+            this.heuristic = new HeuristicAI(copy, random);
+        }
+
+        /**
+         * Takes back every move of the last iteration. Skipped stunned turns are not moves,
+         * so the stun flags are restored separately.
+         */
+        private void reset() {
+            while (journal.getMoveCount() > 0) {
+                journal.undo();
+            }
+            for (int i = 0; i < stunned.length; i++) {
+                players.get(i).setStunned(stunned[i]);
+            }
+        }
+    }
+
+    /**
+     * A search tree node: the statistics of one move sequence of the searching penguin.
+     * Children are indexed by move (direction ordinal * 2, plus one with the ability).
+     */
+    private static final class Node {
+        private final Node[] children = new Node[MOVES];
+        private long visits;
+        private double reward;
+    }
+}
@@ -0,0 +1,207 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Undo journal of the primitive mutations made by a {@link CollisionHandler}.
+ * While a journal is set on a handler, every square write, plugged hole, stun, ability use,
+ * removal, prepared or cleared jump and food collected or lost is recorded before it happens,
+ * grouped per move (a full turn or a single penguin move). {@link #undo()} reverts the last
+ * move exactly, newest mutation first, so search code can try a move and take it back
+ * instead of copying the board. Squares are restored through the grid, which keeps its
+ * slide index and listeners (occupancy boards, renderers, hashes) in sync.
+ * Entries are kept in growable parallel arrays; only losing food stores a copy of the
+ * inventory. Like the handler, a journal is not thread-safe.
+ */
+public class MoveJournal {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private static final byte CELL = 0;
+    private static final byte PLUG = 1;
+    private static final byte PENGUIN_FLAGS = 2;
+    private static final byte JUMP = 3;
+    private static final byte FOOD_COLLECTED = 4;
+    private static final byte FOOD_LOST = 5;
+
+    private static final int ABILITY_USED = 1;
+    private static final int STUNNED = 2;
+    private static final int REMOVED = 4;
+
+    private final TerrainGrid grid;
+    private byte[] ops = new byte[INITIAL_CAPACITY];
+    private long[] data = new long[INITIAL_CAPACITY];
+    private Object[] refs = new Object[INITIAL_CAPACITY];
+    private int size;
+    private int[] moveStarts = new int[INITIAL_CAPACITY];
+    private int moveCount;
+
+    /**
+     * Creates an empty journal for the specified grid.
+     *
+     * @param grid The terrain grid the journaled moves are played on
+     * @throws InvalidGameStateException if grid is null
+     */
+    public MoveJournal(TerrainGrid grid) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        this.grid = grid;
+    }
+
+    /**
+     * Gets the grid this journal restores.
+     *
+     * @return The terrain grid
+     */
+    public TerrainGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the number of moves that can be undone.
+     *
+     * @return The number of recorded moves
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Reverts the last recorded move.
+     *
+     * @throws InvalidGameStateException if there is no move to undo
+     */
+    public void undo() {
+        if (moveCount == 0) {
+            throw new InvalidGameStateException("No move to undo");
+        }
+        int start = moveStarts[--moveCount];
+        while (size > start) {
+            size--;
+            revert(ops[size], data[size], refs[size]);
+            refs[size] = null;
+        }
+    }
+
+    /**
+     * Forgets all recorded moves without reverting them.
+     */
+    public void clear() {
+        Arrays.fill(refs, 0, size, null);
+        size = 0;
+        moveCount = 0;
+    }
+
+    /**
+     * Starts a new move; the mutations recorded from now on are undone together.
+     */
+    void beginMove() {
+        if (moveCount == moveStarts.length) {
+            moveStarts = Arrays.copyOf(moveStarts, moveCount * 2);
+        }
+        moveStarts[moveCount++] = size;
+    }
+
+    /**
+     * Records a square before it is written.
+     */
+    void recordCell(int row, int col) {
+        add(CELL, Position.pack(row, col), grid.get(row, col));
+    }
+
+    /**
+     * Records a Hole in Ice before it is plugged.
+     */
+    void recordPlug(int row, int col) {
+        add(PLUG, Position.pack(row, col), null);
+    }
+
+    /**
+     * Records the ability, stun and removal flags of a penguin before one of them changes.
+     */
+    void recordFlags(Penguin penguin) {
+        int flags = (penguin.hasUsedSpecialAbility() ? ABILITY_USED : 0)
+                | (penguin.isStunned() ? STUNNED : 0)
+                | (penguin.isRemoved() ? REMOVED : 0);
+        add(PENGUIN_FLAGS, flags, penguin);
+    }
+
+    /**
+     * Records the jump preparation of a Rockhopper penguin before it changes.
+     */
+    void recordJump(RockhopperPenguin rockhopper) {
+        add(JUMP, rockhopper.isJumpPrepared() ? rockhopper.getJumpDirection().ordinal() : -1, rockhopper);
+    }
+
+    /**
+     * Records that a penguin is about to collect one food item.
+     */
+    void recordFoodCollected(Penguin penguin) {
+        add(FOOD_COLLECTED, 0, penguin);
+    }
+
+    /**
+     * Records the food inventory of a penguin before it loses an item.
+     */
+    void recordFoodLost(Penguin penguin) {
+        add(FOOD_LOST, 0, new Inventory(penguin, List.copyOf(penguin.getFoodInventory())));
+    }
+
+    private void add(byte op, long value, Object ref) {
+        if (size == ops.length) {
+            int capacity = size * 2;
+            ops = Arrays.copyOf(ops, capacity);
+            data = Arrays.copyOf(data, capacity);
+            refs = Arrays.copyOf(refs, capacity);
+        }
+        ops[size] = op;
+        data[size] = value;
+        refs[size] = ref;
+        size++;
+    }
+
+    /**
+     * Reverts a single recorded mutation.
+     */
+    private void revert(byte op, long value, Object ref) {
+        switch (op) {
+            case CELL -> grid.set(Position.unpack(value), (ITerrainObject) ref);
+            case PLUG -> grid.unplugHole(Position.rowOf(value), Position.colOf(value));
+            case PENGUIN_FLAGS -> ((Penguin) ref).restoreState((value & ABILITY_USED) != 0,
+                    (value & STUNNED) != 0, (value & REMOVED) != 0);
+            case JUMP -> {
+                RockhopperPenguin rockhopper = (RockhopperPenguin) ref;
+                if (value < 0) {
+                    rockhopper.clearJump();
+                } else {
+                    rockhopper.prepareJump(DIRECTIONS[(int) value]);
+                }
+            }
+            case FOOD_COLLECTED -> {
+                ((Penguin) ref).removeLastFood();
+            }
+            case FOOD_LOST -> {
+                Inventory inventory = (Inventory) ref;
+                inventory.penguin().restoreFoodInventory(inventory.foods());
+            }
+            default -> throw new IllegalStateException("Unknown journal entry: " + op);
+        }
+    }
+
+    /**
+     * A penguin's food inventory before it lost an item.
+     */
+    private record Inventory(Penguin penguin, List<Food> foods) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FellIntoHole;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FellIntoWater;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FoodCollected;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FoodDestroyed;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.FoodLost;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HazardFellOff;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HazardStopped;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HoleCrossed;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.HolePlugged;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.JumpPrepared;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinBounced;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinRemoved;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinSlides;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinStepped;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinStunned;
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent.PenguinsCollided;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Formats movement events into the game's console messages.
+ * An event produces one line, except a stun, which also announces the skipped turn.
+ */
+public final class MovementEventFormatter {
+
+    private MovementEventFormatter() {
+    }
+
+    /**
+     * Formats a list of events into message lines.
+     *
+     * @param events The events to format, in order
+     * @return The message lines
+     */
+    public static List<String> format(List<IMovementEvent> events) {
+        List<String> lines = new ArrayList<>(events.size() + 1);
+        for (IMovementEvent event : events) {
+            format(event, lines::add);
+        }
+        return lines;
+    }
+
+    /**
+     * Formats one event and passes its message lines to a consumer.
+     *
+     * @param event The event to format
+     * @param out The consumer receiving each line
+     */
+    public static void format(IMovementEvent event, Consumer<String> out) {
+        if (event instanceof PenguinStepped e) {
+            out.accept(e.penguin().getName() + " moves one square to the " + e.direction().getDisplayName() + ".");
+        } else if (event instanceof JumpPrepared e) {
+            out.accept(e.penguin().getName() + " will automatically USE its special action.");
+        } else if (event instanceof FellIntoWater e) {
+            out.accept(e.penguin().getName() + switch (e.how()) {
+                case STEPPED_OFF -> " steps off the grid and falls into the water!";
+                case FELL -> " falls into the water!";
+                case SLID_OFF -> " slides off the edge and falls into the water!";
+            });
+        } else if (event instanceof FellIntoHole e) {
+            out.accept(e.penguin().getName() + " falls into a Hole in Ice!");
+        } else if (event instanceof PenguinRemoved e) {
+            out.accept("*** " + e.penguin().getName() + " IS REMOVED FROM THE GAME!");
+        } else if (event instanceof FoodCollected e) {
+            out.accept(e.penguin().getName() + " takes the " + e.foodType().getDisplaySymbol() +
+                       " on the ground. (Weight=" + e.weight() + " units)");
+        } else if (event instanceof PenguinsCollided e) {
+            out.accept(e.moving().getName() + " collides with " + e.stationary().getName() +
+                       ". Momentum is transferred.");
+        } else if (event instanceof PenguinStunned e) {
+            out.accept(e.penguin().getName() + " hits a Light Ice Block and is temporarily stunned!");
+            out.accept(e.penguin().getName() + "'s next turn will be skipped.");
+        } else if (event instanceof FoodLost e) {
+            if (e.lostFood()) {
+                out.accept(e.penguin().getName() + " hits a Heavy Ice Block and loses " +
+                           e.foodType().getDisplaySymbol() + " (" + e.weight() + " units)!");
+            } else {
+                out.accept(e.penguin().getName() + " hits a Heavy Ice Block but carries no food.");
+            }
+        } else if (event instanceof PenguinBounced e) {
+            out.accept(e.penguin().getName() + " hits a Sea Lion and bounces back!");
+        } else if (event instanceof PenguinSlides e) {
+            out.accept(e.penguin().getName() + " slides " + e.direction().getDisplayName() + "!");
+        } else if (event instanceof HoleCrossed e) {
+            out.accept(e.penguin().getName() + " passes over a plugged hole.");
+        } else if (event instanceof FoodDestroyed e) {
+            out.accept(e.hazard().getDisplaySymbol() + " destroys food at " + Position.of(e.row(), e.col()));
+        } else if (event instanceof HazardFellOff e) {
+            out.accept(e.hazard().getDisplaySymbol() + " slides off the edge.");
+        } else if (event instanceof HolePlugged e) {
+            out.accept(e.hazard().getDisplaySymbol() + " falls into a hole and plugs it!");
+        } else if (event instanceof HazardStopped e) {
+            out.accept(e.hazard().getDisplaySymbol() + " stops at " + Position.of(e.row(), e.col()));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+
+/**
+ * Output sink that drops all text, for games whose output nobody reads
+ * (e.g. benchmarks of the game loop).
+ */
+public final class NullSink implements IOutputSink {
+
+    /** The only instance; the sink has no state. */
+    public static final NullSink INSTANCE = new NullSink();
+
+    private NullSink() {
+    }
+
+    @Override
+    public void print(CharSequence text) {
+    }
+
+    @Override
+    public void println(CharSequence line) {
+    }
+
+    @Override
+    public void println() {
+    }
+
+    @Override
+    public void flush() {
+    }
+}
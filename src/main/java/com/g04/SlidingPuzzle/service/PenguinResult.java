@@ -0,0 +1,20 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+
+import java.util.List;
+
+/**
+ * Final outcome of one penguin in a finished game.
+ *
+ * @param name The penguin's identifier (e.g., "P1")
+ * @param type The penguin's type
+ * @param place The final place (1-based), ranked by total food weight
+ * @param totalWeight The total weight of the collected food
+ * @param foodWeights The weights of the collected food items, in inventory order
+ * @param removed Whether the penguin was removed from the terrain
+ * @param removedOnTurn The turn on which the penguin was removed, or 0 if it was not removed
+ */
+public record PenguinResult(String name, PenguinType type, int place, int totalWeight,
+                            List<Integer> foodWeights, boolean removed, int removedOnTurn) {
+}
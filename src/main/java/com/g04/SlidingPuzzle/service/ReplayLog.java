@@ -0,0 +1,263 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log file of {@link GameRecording}s, from which whole batches of games can be
+ * replayed (see {@link GameSimulation#replay(GameRecording)}).
+ * Records are encoded into a buffer and written through a {@link FileChannel} opened in
+ * append mode, so an existing log is extended and never rewritten. A record is only ever
+ * written whole, and a log is thread-safe, so games finishing on several workers can be
+ * appended concurrently.
+ * <p>
+ * Layout: the file starts with the magic "SPRL" and a version byte. Each game follows as a
+ * varint payload length and the payload: varint game index, 8-byte seed, varint rows, cols,
+ * penguins, hazards, food and rounds, varint move count and one byte per move.
+ */
+public class ReplayLog implements AutoCloseable {
+    /**
+     * The current format version. Boards are regenerated from the recorded seed, so the
+     * version changes whenever board generation does (version 2: free-square index placement).
+     */
+    public static final int VERSION = 2;
+    private static final byte[] MAGIC = {'S', 'P', 'R', 'L'};
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private int games;
+
+    /**
+     * Opens a log for appending, creating the file if it does not exist.
+     *
+     * @param path The log file
+     * @throws IOException if the file cannot be opened or is not a replay log
+     * @throws InvalidGameStateException if path is null
+     */
+    public ReplayLog(Path path) throws IOException {
+        if (path == null) {
+            throw InvalidGameStateException.nullParameter("path");
+        }
+        if (Files.exists(path) && Files.size(path) > 0) {
+            try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                in.read(header);
+                checkHeader(header.flip(), path);
+            }
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            buffer.put(MAGIC).put((byte) VERSION);
+        }
+    }
+
+    /**
+     * Appends the recording of a game. The record may stay buffered until the buffer fills,
+     * {@link #flush()} or {@link #close()}.
+     *
+     * @param recording The recording to append
+     * @throws IOException if writing fails
+     * @throws InvalidGameStateException if recording is null or the log is closed
+     */
+    public synchronized void append(GameRecording recording) throws IOException {
+        if (recording == null) {
+            throw InvalidGameStateException.nullParameter("recording");
+        }
+        if (!channel.isOpen()) {
+            throw new InvalidGameStateException("Replay log is closed");
+        }
+        GameSettings settings = recording.getSettings();
+        int moves = recording.getMoveCount();
+        int payload = GameSnapshotCodec.varintSize(recording.getGameIndex()) + Long.BYTES
+                + GameSnapshotCodec.varintSize(settings.rows()) + GameSnapshotCodec.varintSize(settings.cols())
+                + GameSnapshotCodec.varintSize(settings.numOfPenguins())
+                + GameSnapshotCodec.varintSize(settings.numOfHazards())
+                + GameSnapshotCodec.varintSize(settings.numOfFood())
+                + GameSnapshotCodec.varintSize(settings.numOfRounds())
+                + GameSnapshotCodec.varintSize(moves) + moves;
+        int size = GameSnapshotCodec.varintSize(payload) + payload;
+        if (size > buffer.remaining()) {
+            flushBuffer();
+            if (size > buffer.capacity()) {
+                buffer = ByteBuffer.allocateDirect(size);
+            }
+        }
+
+        GameSnapshotCodec.putVarint(buffer, payload);
+        GameSnapshotCodec.putVarint(buffer, recording.getGameIndex());
+        buffer.putLong(recording.getSeed());
+        GameSnapshotCodec.putVarint(buffer, settings.rows());
+        GameSnapshotCodec.putVarint(buffer, settings.cols());
+        GameSnapshotCodec.putVarint(buffer, settings.numOfPenguins());
+        GameSnapshotCodec.putVarint(buffer, settings.numOfHazards());
+        GameSnapshotCodec.putVarint(buffer, settings.numOfFood());
+        GameSnapshotCodec.putVarint(buffer, settings.numOfRounds());
+        GameSnapshotCodec.putVarint(buffer, moves);
+        buffer.put(recording.encodedMoves(), 0, moves);
+        games++;
+    }
+
+    /**
+     * Gets the number of games appended through this instance.
+     *
+     * @return The number of appended games
+     */
+    public synchronized int getAppendedGames() {
+        return games;
+    }
+
+    /**
+     * Writes all buffered records to the file and forces them to the storage device.
+     *
+     * @throws IOException if writing fails
+     */
+    public synchronized void flush() throws IOException {
+        flushBuffer();
+        channel.force(false);
+    }
+
+    /**
+     * Writes all buffered records and closes the file.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            try {
+                flushBuffer();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads every game of a log in order.
+     *
+     * @param path The log file
+     * @param consumer The consumer receiving each recording
+     * @return The number of games read
+     * @throws IOException if reading fails
+     * @throws InvalidGameStateException if a parameter is null or the log is corrupt
+     */
+    public static int read(Path path, Consumer<GameRecording> consumer) throws IOException {
+        if (path == null) {
+            throw InvalidGameStateException.nullParameter("path");
+        }
+        if (consumer == null) {
+            throw InvalidGameStateException.nullParameter("consumer");
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+            if (!fill(in, buffer, HEADER_SIZE)) {
+                throw new InvalidGameStateException("Corrupt replay log: missing header in " + path);
+            }
+            checkHeader(buffer, path);
+
+            int count = 0;
+            while (fill(in, buffer, 1)) {
+                fill(in, buffer, MAX_VARINT_SIZE);
+                int payload = readVarint(buffer);
+                if (payload > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect(payload).put(buffer).flip();
+                }
+                if (!fill(in, buffer, payload)) {
+                    throw new InvalidGameStateException("Corrupt replay log: game " + count + " is truncated");
+                }
+                int end = buffer.position() + payload;
+                GameRecording recording = readRecording(buffer, payload);
+                if (buffer.position() != end) {
+                    throw new InvalidGameStateException("Corrupt replay log: game " + count + " has a wrong length");
+                }
+                consumer.accept(recording);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static GameRecording readRecording(ByteBuffer in, int payload) {
+        try {
+            int limit = in.limit();
+            in.limit(in.position() + payload);
+            int gameIndex = GameSnapshotCodec.getVarint(in);
+            long seed = in.getLong();
+            GameSettings settings = new GameSettings(GameSnapshotCodec.getVarint(in), GameSnapshotCodec.getVarint(in),
+                    GameSnapshotCodec.getVarint(in), GameSnapshotCodec.getVarint(in),
+                    GameSnapshotCodec.getVarint(in), GameSnapshotCodec.getVarint(in));
+            int moveCount = GameSnapshotCodec.getVarint(in);
+            if (moveCount > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] moves = new byte[moveCount];
+            in.get(moves);
+            in.limit(limit);
+            return new GameRecording(settings, seed, gameIndex, moves, moveCount);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidGameStateException("Corrupt replay log: game record is truncated", e);
+        }
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        try {
+            return GameSnapshotCodec.getVarint(in);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidGameStateException("Corrupt replay log: game record is truncated", e);
+        }
+    }
+
+    /**
+     * Reads from the channel until the buffer has at least the given number of bytes remaining.
+     *
+     * @return false if the end of the file came first
+     */
+    private static boolean fill(FileChannel in, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < needed) {
+                if (in.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    private static void checkHeader(ByteBuffer header, Path path) {
+        for (byte b : MAGIC) {
+            if (header.remaining() == 0 || header.get() != b) {
+                throw new InvalidGameStateException(path + " is not a replay log");
+            }
+        }
+        int version = header.hasRemaining() ? header.get() & 0xFF : -1;
+        if (version != VERSION) {
+            throw new InvalidGameStateException("Unsupported replay log version " + version + " in " + path);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.time.Duration;
+
+/**
+ * Immutable limits that a {@link GameServer} applies to every session.
+ * A session's memory is bounded by what a client can make it buffer: the game board has a
+ * fixed size, output is written straight to the socket, and input is capped per line and
+ * in total, so one misbehaving client cannot grow the heap.
+ *
+ * @param maxSessions Number of sessions served at the same time; further clients are turned away
+ * @param idleTimeout Time a session waits for the player's answer before it is closed
+ * @param maxLineLength Number of bytes an input line may have
+ * @param maxInputBytes Number of bytes a client may send during one session
+ */
+public record SessionLimits(int maxSessions, Duration idleTimeout, int maxLineLength, long maxInputBytes) {
+
+    /** Default limits: 10,000 sessions, two idle minutes, 256-byte lines and 64 KiB of input. */
+    public static final SessionLimits DEFAULT = new SessionLimits(10_000, Duration.ofMinutes(2), 256, 64 * 1024);
+
+    /**
+     * Validates the limits.
+     *
+     * @throws InvalidGameStateException if idleTimeout is null or any value is not positive
+     */
+    public SessionLimits {
+        if (maxSessions <= 0) {
+            throw new InvalidGameStateException("Session limit must be positive, got: " + maxSessions);
+        }
+        if (idleTimeout == null) {
+            throw InvalidGameStateException.nullParameter("idleTimeout");
+        }
+        if (idleTimeout.compareTo(Duration.ofMillis(1)) < 0 || idleTimeout.toMillis() > Integer.MAX_VALUE) {
+            throw new InvalidGameStateException("Idle timeout must be between 1 ms and " + Integer.MAX_VALUE +
+                    " ms, got: " + idleTimeout);
+        }
+        if (maxLineLength <= 0 || maxInputBytes <= 0) {
+            throw new InvalidGameStateException("Input limits must be positive, got: " + maxLineLength +
+                    " bytes per line and " + maxInputBytes + " bytes in total");
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs batches of headless games in parallel.
+ * Every penguin is AI-controlled and no console I/O is performed. Games are split into
+ * chunks that are executed on either a ForkJoin pool or virtual threads.
+ * Each game gets its own random generator, seeded from the batch seed and the game index,
+ * so workers share no random state and a batch run with the same seed gives the same results.
+ * Games can also be recorded to a {@link ReplayLog} and replayed from it later.
+ * Games can be counted in shared {@link EngineMetrics}.
+ * The engine owns its executor and must be closed after use.
+ */
+public class SimulationEngine implements AutoCloseable {
+    /** Number of chunks per worker, so that uneven game lengths still balance out. */
+    private static final int CHUNKS_PER_WORKER = 8;
+    /** Number of recorded games replayed per chunk. */
+    private static final int REPLAYS_PER_CHUNK = 64;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final GameSettings settings;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private volatile ReplayLog replayLog;
+    private volatile EngineMetrics metrics;
+
+    private SimulationEngine(GameSettings settings, ExecutorService executor, int parallelism) {
+        if (settings == null) {
+            throw InvalidGameStateException.nullParameter("settings");
+        }
+        this.settings = settings;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates an engine backed by a ForkJoin pool with one worker per available processor.
+     *
+     * @param settings The settings used for every game
+     * @return A new simulation engine
+     */
+    public static SimulationEngine forkJoin(GameSettings settings) {
+        return forkJoin(settings, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine backed by a ForkJoin pool with the given number of workers.
+     *
+     * @param settings The settings used for every game
+     * @param parallelism The number of worker threads
+     * @return A new simulation engine
+     * @throws InvalidGameStateException if parallelism is not positive
+     */
+    public static SimulationEngine forkJoin(GameSettings settings, int parallelism) {
+        if (parallelism <= 0) {
+            throw new InvalidGameStateException("Parallelism must be positive, got: " + parallelism);
+        }
+        return new SimulationEngine(settings, new ForkJoinPool(parallelism), parallelism);
+    }
+
+    /**
+     * Creates an engine that runs every chunk on its own virtual thread.
+     *
+     * @param settings The settings used for every game
+     * @return A new simulation engine
+     */
+    public static SimulationEngine virtualThreads(GameSettings settings) {
+        return new SimulationEngine(settings, Executors.newVirtualThreadPerTaskExecutor(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Gets the settings used for every game.
+     *
+     * @return The game settings
+     */
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Sets the log that every game played from now on is recorded to, so it can be replayed later.
+     * The log is not closed by the engine.
+     *
+     * @param replayLog The replay log, or null to stop recording
+     */
+    public void setReplayLog(ReplayLog replayLog) {
+        this.replayLog = replayLog;
+    }
+
+    /**
+     * Sets the metrics that every game played from now on is counted in. Replays are not counted.
+     *
+     * @param metrics The metrics to update, or null to record nothing (the default)
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs the given number of games with a random batch seed and collects their results.
+     *
+     * @param games The number of games to run
+     * @return The results, ordered by game index
+     * @throws InvalidGameStateException if games is negative or a game fails
+     */
+    public List<GameResult> run(int games) {
+        return run(games, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Runs the given number of games and collects their results.
+     *
+     * @param games The number of games to run
+     * @param seed The batch seed from which every game's seed is derived
+     * @return The results, ordered by game index
+     * @throws InvalidGameStateException if games is negative or a game fails
+     */
+    public List<GameResult> run(int games, long seed) {
+        GameResult[] results = new GameResult[validateGames(games)];
+        runChunks(games, seed, result -> results[result.gameIndex()] = result);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Runs the given number of games with a random batch seed and streams each result to a consumer.
+     *
+     * @param games The number of games to run
+     * @param consumer The consumer receiving each result
+     * @throws InvalidGameStateException if games is negative, consumer is null or a game fails
+     * @see #run(int, long, Consumer)
+     */
+    public void run(int games, Consumer<GameResult> consumer) {
+        run(games, ThreadLocalRandom.current().nextLong(), consumer);
+    }
+
+    /**
+     * Runs the given number of games and streams each result to a consumer as soon as it
+     * finishes, without keeping the results. The consumer is called from worker threads
+     * and must therefore be thread-safe.
+     *
+     * @param games The number of games to run
+     * @param seed The batch seed from which every game's seed is derived
+     * @param consumer The consumer receiving each result
+     * @throws InvalidGameStateException if games is negative, consumer is null or a game fails
+     */
+    public void run(int games, long seed, Consumer<GameResult> consumer) {
+        if (consumer == null) {
+            throw InvalidGameStateException.nullParameter("consumer");
+        }
+        runChunks(validateGames(games), seed, consumer);
+    }
+
+    /**
+     * Replays every game of a replay log in parallel and streams each result to a consumer,
+     * e.g. to compare outcomes after a rules change. No console output is produced.
+     * The consumer is called from worker threads and must therefore be thread-safe.
+     *
+     * @param log The replay log file
+     * @param consumer The consumer receiving each result
+     * @return The number of games replayed
+     * @throws IOException if the log cannot be read
+     * @throws InvalidGameStateException if a parameter is null, the log is corrupt or a game fails
+     */
+    public int replay(Path log, Consumer<GameResult> consumer) throws IOException {
+        if (consumer == null) {
+            throw InvalidGameStateException.nullParameter("consumer");
+        }
+        int batchSize = parallelism * CHUNKS_PER_WORKER * REPLAYS_PER_CHUNK;
+        List<GameRecording> batch = new ArrayList<>(batchSize);
+        int games = ReplayLog.read(log, recording -> {
+            batch.add(recording);
+            if (batch.size() == batchSize) {
+                replayBatch(batch, consumer);
+                batch.clear();
+            }
+        });
+        replayBatch(batch, consumer);
+        return games;
+    }
+
+    /**
+     * Derives the seed of one game in a batch (SplitMix64 finalizer over the batch seed and index).
+     *
+     * @param batchSeed The batch seed
+     * @param gameIndex The index of the game within the batch
+     * @return The game's seed
+     */
+    public static long gameSeed(long batchSeed, int gameIndex) {
+        long z = batchSeed + (gameIndex + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Shuts the executor down and waits for running games to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting for the last chunks
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int validateGames(int games) {
+        if (games < 0) {
+            throw new InvalidGameStateException("Number of games cannot be negative, got: " + games);
+        }
+        return games;
+    }
+
+    /**
+     * Splits the games into chunks, runs them and waits for all of them.
+     */
+    private void runChunks(int games, long seed, Consumer<GameResult> consumer) {
+        int chunkSize = Math.max(1, games / (parallelism * CHUNKS_PER_WORKER));
+        ReplayLog log = replayLog;
+        EngineMetrics gameMetrics = metrics;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < games; start += chunkSize) {
+            int from = start;
+            int to = Math.min(games, start + chunkSize);
+            tasks.add(() -> {
+                for (int game = from; game < to; game++) {
+                    long gameSeed = gameSeed(seed, game);
+                    GameSimulation simulation = new GameSimulation(settings, gameSeed);
+                    simulation.setMetrics(gameMetrics);
+                    if (log == null) {
+                        consumer.accept(simulation.play(game));
+                    } else {
+                        GameRecording recording = new GameRecording(settings, gameSeed, game);
+                        consumer.accept(simulation.play(game, recording));
+                        log.append(recording);
+                    }
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+    }
+
+    /**
+     * Replays a batch of recorded games in chunks and waits for all of them.
+     */
+    private void replayBatch(List<GameRecording> recordings, Consumer<GameResult> consumer) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < recordings.size(); start += REPLAYS_PER_CHUNK) {
+            List<GameRecording> chunk = List.copyOf(
+                    recordings.subList(start, Math.min(recordings.size(), start + REPLAYS_PER_CHUNK)));
+            tasks.add(() -> {
+                for (GameRecording recording : chunk) {
+                    consumer.accept(GameSimulation.replay(recording));
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+    }
+
+    /**
+     * Runs the tasks on the executor and waits for all of them.
+     */
+    private void invokeAll(List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new InvalidGameStateException("Simulation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Round-robin tournament between penguin controllers (e.g. the heuristic AI against search AIs),
+ * played as headless games on a worker pool.
+ * The schedule cycles through every line-up, i.e. every assignment of entrants to the seats
+ * of a game that seats at least two different entrants, so each entrant plays every seat
+ * against every opponent. Each pass over the line-ups shifts the penguin types of the seats
+ * by one {@link PenguinType}, so no entrant keeps an advantageous type.
+ * Games get seeds derived from the tournament seed like {@link SimulationEngine} games.
+ * Results update shared {@link EloRatings} and per-entrant statistics as games finish, and
+ * the standings can be streamed to a CSV writer every given number of games.
+ * The tournament owns its worker pool and must be closed after use.
+ */
+public class Tournament implements AutoCloseable {
+    /** Largest supported number of line-ups (entrants ^ seats). */
+    public static final int MAX_LINEUPS = 1 << 20;
+    /** Header line of the standings CSV. */
+    public static final String CSV_HEADER = "games,entrant,rating,played,wins,average_weight";
+    private static final int CHUNKS_PER_WORKER = 8;
+    private static final PenguinType[] TYPES = PenguinType.values();
+
+    private final GameSettings settings;
+    private final List<Entrant> entrants;
+    private final int[][] lineups;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final EloRatings ratings;
+    private final LongAdder[] played;
+    private final LongAdder[] wins;
+    private final LongAdder[] weights;
+    private final AtomicLong finished = new AtomicLong();
+
+    /**
+     * Creates a tournament.
+     *
+     * @param settings The settings of every game; at least two penguins
+     * @param entrants The competing controllers; at least two
+     * @param parallelism The number of worker threads
+     * @throws InvalidGameStateException if a parameter is null or out of range, or there are
+     *         too many line-ups
+     */
+    public Tournament(GameSettings settings, List<Entrant> entrants, int parallelism) {
+        if (settings == null) {
+            throw InvalidGameStateException.nullParameter("settings");
+        }
+        if (entrants == null) {
+            throw InvalidGameStateException.nullParameter("entrants");
+        }
+        if (entrants.size() < 2 || settings.numOfPenguins() < 2) {
+            throw new InvalidGameStateException("A tournament needs at least two entrants and two penguins per game");
+        }
+        if (parallelism <= 0) {
+            throw new InvalidGameStateException("Parallelism must be positive, got: " + parallelism);
+        }
+        this.settings = settings;
+        this.entrants = List.copyOf(entrants);
+        this.lineups = lineups(entrants.size(), settings.numOfPenguins());
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+        this.ratings = new EloRatings(entrants.size(), EloRatings.DEFAULT_K_FACTOR);
+        this.played = newAdders(entrants.size());
+        this.wins = newAdders(entrants.size());
+        this.weights = newAdders(entrants.size());
+    }
+
+    /**
+     * Gets the number of line-ups in one pass of the schedule.
+     *
+     * @return The number of line-ups
+     */
+    public int getLineupCount() {
+        return lineups.length;
+    }
+
+    /**
+     * Gets the ratings of the entrants, indexed like the entrant list.
+     *
+     * @return The ratings
+     */
+    public EloRatings getRatings() {
+        return ratings;
+    }
+
+    /**
+     * Plays the next games of the schedule without streaming standings.
+     *
+     * @param games The number of games to play
+     * @param seed The tournament seed from which every game's seed is derived
+     * @return The standings after the games
+     * @throws InvalidGameStateException if games is negative or a game fails
+     */
+    public List<Standing> run(int games, long seed) {
+        try {
+            return run(games, seed, null, 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Cannot happen without a writer
+        }
+    }
+
+    /**
+     * Plays the next games of the schedule, writing the standings to a CSV writer every
+     * {@code reportEvery} finished games and after the last game. Each report is one row per
+     * entrant (see {@link #CSV_HEADER}); the header is written first.
+     * Repeated runs continue the schedule and the ratings.
+     *
+     * @param games The number of games to play
+     * @param seed The tournament seed from which every game's seed is derived
+     * @param csv The writer receiving the standings, or null
+     * @param reportEvery The number of games between reports
+     * @return The standings after the games
+     * @throws IOException if writing the standings fails
+     * @throws InvalidGameStateException if games is negative, reportEvery is not positive or a game fails
+     */
+    public List<Standing> run(int games, long seed, Writer csv, int reportEvery) throws IOException {
+        if (games < 0) {
+            throw new InvalidGameStateException("Number of games cannot be negative, got: " + games);
+        }
+        if (reportEvery <= 0) {
+            throw new InvalidGameStateException("Report interval must be positive, got: " + reportEvery);
+        }
+        if (csv != null) {
+            synchronized (csv) {
+                csv.write(CSV_HEADER + "\n");
+            }
+        }
+
+        long first = finished.get();
+        int chunkSize = Math.max(1, games / (parallelism * CHUNKS_PER_WORKER));
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < games; start += chunkSize) {
+            long from = first + start;
+            long to = first + Math.min(games, start + chunkSize);
+            tasks.add(() -> {
+                for (long game = from; game < to; game++) {
+                    playGame(game, seed);
+                    long done = finished.incrementAndGet() - first;
+                    if (csv != null && done % reportEvery == 0 && done != games) {
+                        writeStandings(csv, done);
+                    }
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("Tournament was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new InvalidGameStateException("Tournament failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        if (csv != null) {
+            writeStandings(csv, games);
+            csv.flush();
+        }
+        return getStandings();
+    }
+
+    /**
+     * Gets the current standings, best rating first.
+     *
+     * @return The standings
+     */
+    public List<Standing> getStandings() {
+        List<Standing> standings = new ArrayList<>(entrants.size());
+        for (int i = 0; i < entrants.size(); i++) {
+            long games = played[i].sum();
+            standings.add(new Standing(entrants.get(i).name(), ratings.getRating(i), games, wins[i].sum(),
+                    games == 0 ? 0.0 : (double) weights[i].sum() / games));
+        }
+        standings.sort(Comparator.comparingDouble(Standing::rating).reversed());
+        return standings;
+    }
+
+    /**
+     * Shuts the worker pool down.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Plays one game of the schedule and records its outcome.
+     */
+    private void playGame(long game, long seed) {
+        int[] lineup = lineups[(int) (game % lineups.length)];
+        long pass = game / lineups.length;
+        int seats = lineup.length;
+        List<PenguinType> types = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            types.add(TYPES[(int) ((pass + seat) % TYPES.length)]);
+        }
+
+        long gameSeed = SimulationEngine.gameSeed(seed, (int) game);
+        GameSimulation simulation = new GameSimulation(settings, gameSeed, types);
+        List<Penguin> penguins = simulation.getPenguins();
+        List<IPenguinController> controllers = new ArrayList<>(seats);
+        try {
+            for (int seat = 0; seat < seats; seat++) {
+                controllers.add(entrants.get(lineup[seat]).factory().create(simulation.getGrid(), penguins,
+                        settings.numOfRounds(), new SplittableRandom(SimulationEngine.gameSeed(gameSeed, seat))));
+            }
+            simulation.play((int) game, controllers);
+        } finally {
+            for (IPenguinController controller : controllers) {
+                controller.close();
+            }
+        }
+
+        int[] scores = new int[seats];
+        int best = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            scores[seat] = penguins.get(seat).getTotalFoodWeight();
+            best = Math.max(best, scores[seat]);
+        }
+        ratings.recordGame(lineup, scores);
+        for (int seat = 0; seat < seats; seat++) {
+            int entrant = lineup[seat];
+            played[entrant].increment();
+            weights[entrant].add(scores[seat]);
+            if (scores[seat] == best) {
+                wins[entrant].increment();
+            }
+        }
+    }
+
+    private void writeStandings(Writer csv, long games) throws IOException {
+        StringBuilder rows = new StringBuilder();
+        for (Standing standing : getStandings()) {
+            rows.append(games).append(',')
+                    .append(standing.name()).append(',')
+                    .append(String.format(Locale.ROOT, "%.1f", standing.rating())).append(',')
+                    .append(standing.games()).append(',')
+                    .append(standing.wins()).append(',')
+                    .append(String.format(Locale.ROOT, "%.3f", standing.averageWeight())).append('\n');
+        }
+        synchronized (csv) {
+            csv.write(rows.toString());
+        }
+    }
+
+    /**
+     * Lists every seat assignment of the entrants that seats at least two different entrants.
+     */
+    private static int[][] lineups(int entrants, int seats) {
+        long total = 1;
+        for (int seat = 0; seat < seats; seat++) {
+            total *= entrants;
+            if (total > MAX_LINEUPS) {
+                throw new InvalidGameStateException("Too many line-ups for " + entrants + " entrants and " +
+                        seats + " seats");
+            }
+        }
+        List<int[]> lineups = new ArrayList<>();
+        int[] lineup = new int[seats];
+        for (long code = 0; code < total; code++) {
+            long rest = code;
+            for (int seat = seats - 1; seat >= 0; seat--) {
+                lineup[seat] = (int) (rest % entrants);
+                rest /= entrants;
+            }
+            if (Arrays.stream(lineup).distinct().count() > 1) {
+                lineups.add(lineup.clone());
+            }
+        }
+        return lineups.toArray(new int[0][]);
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * A competing controller.
+     *
+     * @param name The name shown in the standings; must not contain commas
+     * @param factory Creates the entrant's controller for each game
+     */
+    public record Entrant(String name, IPenguinController.Factory factory) {
+
+        /**
+         * Validates the entrant.
+         *
+         * @throws InvalidGameStateException if a parameter is null or the name is empty or contains a comma
+         */
+        public Entrant {
+            if (name == null || name.isBlank() || name.contains(",")) {
+                throw new InvalidGameStateException("Invalid entrant name: " + name);
+            }
+            if (factory == null) {
+                throw InvalidGameStateException.nullParameter("factory");
+            }
+        }
+    }
+
+    /**
+     * The standing of one entrant.
+     *
+     * @param name The entrant's name
+     * @param rating The current Elo rating
+     * @param games The number of seats played
+     * @param wins The number of seats that finished with the most food (ties count for all)
+     * @param averageWeight The average food weight per seat played
+     */
+    public record Standing(String name, double rating, long games, long wins, double averageWeight) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free table of search results keyed by position hash (see {@link ZobristHash}).
+ * Each slot holds two longs: the packed entry and the entry XOR the full hash. A probe only
+ * accepts a slot whose two words agree with the probed hash, so a slot torn by two threads
+ * writing at once reads as a miss instead of a wrong result, and no locks are needed.
+ * Both words are accessed with opaque (atomic, unordered) reads and writes.
+ * An entry packs a 32-bit value, a 16-bit search depth, an 8-bit move and a {@link Bound}
+ * into one long; use the static accessors to unpack it.
+ * When two positions map to the same slot the newer one wins, except that a result for the
+ * same position is only replaced by one searched at least as deep.
+ */
+public class TranspositionTable {
+    /** Returned by {@link #probe(long)} when the table holds no entry for the hash. */
+    public static final long MISS = 0L;
+    /** Largest supported number of slots. */
+    public static final int MAX_CAPACITY = 1 << 29;
+    private static final int MAX_DEPTH = 0xFFFF;
+    private static final int MAX_MOVE = 0xFF;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * Creates an empty table with at least the given number of slots (rounded up to a power of two).
+     *
+     * @param capacity The minimum number of slots
+     * @throws InvalidGameStateException if capacity is not positive or exceeds {@link #MAX_CAPACITY}
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new InvalidGameStateException(
+                    "Table capacity must be between 1 and " + MAX_CAPACITY + ", got: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicLongArray(size * 2);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Looks up the entry stored for a position.
+     *
+     * @param hash The position hash
+     * @return The packed entry, or {@link #MISS} if there is none
+     */
+    public long probe(long hash) {
+        int slot = slotOf(hash);
+        long entry = slots.getOpaque(slot + 1);
+        if (entry != MISS && (slots.getOpaque(slot) ^ entry) == hash) {
+            return entry;
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores a search result for a position.
+     *
+     * @param hash The position hash
+     * @param value The search value
+     * @param depth The search depth (0-65535)
+     * @param move The best move found (0-255)
+     * @param bound How the value bounds the true value
+     * @throws InvalidGameStateException if depth or move is out of range or bound is null
+     */
+    public void store(long hash, int value, int depth, int move, Bound bound) {
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new InvalidGameStateException("Depth must be between 0 and " + MAX_DEPTH + ", got: " + depth);
+        }
+        if (move < 0 || move > MAX_MOVE) {
+            throw new InvalidGameStateException("Move must be between 0 and " + MAX_MOVE + ", got: " + move);
+        }
+        if (bound == null) {
+            throw InvalidGameStateException.nullParameter("bound");
+        }
+        long entry = (value & 0xFFFFFFFFL) | ((long) depth << 32) | ((long) move << 48)
+                | ((long) (bound.ordinal() + 1) << 56);
+
+        int slot = slotOf(hash);
+        long old = slots.getOpaque(slot + 1);
+        if (old != MISS && (slots.getOpaque(slot) ^ old) == hash && depth(old) > depth) {
+            return; // Keep the deeper result for the same position
+        }
+        slots.setOpaque(slot, hash ^ entry);
+        slots.setOpaque(slot + 1, entry);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setOpaque(i, 0L);
+        }
+    }
+
+    /**
+     * Gets the value of a packed entry.
+     *
+     * @param entry The packed entry
+     * @return The search value
+     */
+    public static int value(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * Gets the search depth of a packed entry.
+     *
+     * @param entry The packed entry
+     * @return The search depth
+     */
+    public static int depth(long entry) {
+        return (int) (entry >>> 32) & MAX_DEPTH;
+    }
+
+    /**
+     * Gets the best move of a packed entry.
+     *
+     * @param entry The packed entry
+     * @return The move
+     */
+    public static int move(long entry) {
+        return (int) (entry >>> 48) & MAX_MOVE;
+    }
+
+    /**
+     * Gets the bound type of a packed entry.
+     *
+     * @param entry The packed entry
+     * @return The bound type
+     */
+    public static Bound bound(long entry) {
+        return Bound.VALUES[(int) (entry >>> 56) - 1];
+    }
+
+    private int slotOf(long hash) {
+        return ((int) hash & mask) << 1;
+    }
+
+    /**
+     * How a stored value relates to the true value of the position.
+     */
+    public enum Bound {
+        /** The value is exact. */
+        EXACT,
+        /** The true value is at least the stored value. */
+        LOWER,
+        /** The true value is at most the stored value. */
+        UPPER;
+
+        private static final Bound[] VALUES = values();
+    }
+}
@@ -0,0 +1,243 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IGridListener;
+import com.g04.SlidingPuzzle.interfaces.IPenguinListener;
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+
+import java.util.List;
+
+/**
+ * Incrementally maintained Zobrist hash of a game position.
+ * The hash is the XOR of one 64-bit key per square content (which penguin, the food weight,
+ * the hazard type, plugged or not) and one key per penguin state (stun, ability usage,
+ * removal, prepared jump and the weights of its collected food). It is kept up to date as a
+ * grid and penguin listener, so every set, remove, move, plugged hole, stun, ability use,
+ * removal and food change costs a few XORs.
+ * Keys are derived from the feature with the SplitMix64 finalizer instead of being looked up
+ * in random tables, so boards of any size need no key storage, and every instance (e.g. one
+ * per board copy on another thread) produces the same hash for the same position.
+ * Food types are not hashed since they do not affect play.
+ */
+public final class ZobristHash implements IGridListener, IPenguinListener {
+    private static final long SEED = 0x5A0B_21C7_F00D_1CE5L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long PENGUIN_TAG = 1L << 62;
+    private static final long TURN_TAG = 2L << 62;
+
+    /** Square content codes; 0 is empty ice. */
+    private static final int PLUGGED_HOLE = CellKind.values().length;
+    private static final int FOOD_BASE = PLUGGED_HOLE;          // + weight (1-5)
+    private static final int PENGUIN_BASE = FOOD_BASE + 6;      // + penguin index
+    private static final int UNKNOWN_PENGUIN = 255;
+    private static final int MAX_PENGUINS = UNKNOWN_PENGUIN - PENGUIN_BASE;
+
+    /** Penguin features; the weight counts are keyed by weight and count. */
+    private static final int STUNNED = 0;
+    private static final int ABILITY_USED = 1;
+    private static final int REMOVED = 2;
+    private static final int JUMP = 3;
+    private static final int FOOD_COUNT = 4;
+
+    private final TerrainGrid grid;
+    private final List<Penguin> penguins;
+    private final int cols;
+    private final byte[] contents;
+    private final long[] penguinKeys;
+    private long hash;
+
+    /**
+     * Creates the hash for the current position and starts tracking the grid and the penguins.
+     *
+     * @param grid The terrain grid
+     * @param penguins The penguins of the game in turn order, including removed ones
+     * @throws InvalidGameStateException if a parameter is null or there are too many penguins
+     */
+    public ZobristHash(TerrainGrid grid, List<Penguin> penguins) {
+        if (grid == null) {
+            throw InvalidGameStateException.nullParameter("grid");
+        }
+        if (penguins == null) {
+            throw InvalidGameStateException.nullParameter("penguins");
+        }
+        if (penguins.size() > MAX_PENGUINS) {
+            throw new InvalidGameStateException("Cannot hash more than " + MAX_PENGUINS + " penguins");
+        }
+        this.grid = grid;
+        this.penguins = List.copyOf(penguins);
+        this.cols = grid.getCols();
+        this.contents = new byte[Math.multiplyExact(grid.getRows(), cols)];
+        this.penguinKeys = new long[penguins.size()];
+        rebuild();
+        grid.addListener(this);
+        for (Penguin penguin : this.penguins) {
+            penguin.addListener(this);
+        }
+    }
+
+    /**
+     * Gets the hash of the current position.
+     *
+     * @return The position hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the hash of the current position with a penguin to move, so positions
+     * reached at different points of the turn order hash differently.
+     *
+     * @param round The current round (1-based)
+     * @param penguinIndex The index of the penguin to move
+     * @return The position hash including the side to move
+     */
+    public long getHash(int round, int penguinIndex) {
+        return hash ^ key(TURN_TAG | ((long) round << 16) | penguinIndex);
+    }
+
+    /**
+     * Computes the hash of the current position from scratch, without using the
+     * incrementally maintained value.
+     *
+     * @return The position hash
+     */
+    public long computeHash() {
+        long full = 0L;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < cols; col++) {
+                int content = contentOf(grid.get(row, col));
+                if (content != 0) {
+                    full ^= cellKey(row * cols + col, content);
+                }
+            }
+        }
+        for (int i = 0; i < penguins.size(); i++) {
+            full ^= penguinKey(i, penguins.get(i));
+        }
+        return full;
+    }
+
+    /**
+     * Stops tracking the grid and the penguins. The hash is no longer updated afterwards.
+     */
+    public void detach() {
+        grid.removeListener(this);
+        for (Penguin penguin : penguins) {
+            penguin.removeListener(this);
+        }
+    }
+
+    @Override
+    public void cellChanged(int row, int col, CellKind previous, CellKind current) {
+        int index = row * cols + col;
+        int content = contentOf(grid.get(row, col));
+        int old = contents[index] & 0xFF;
+        if (old != content) {
+            if (old != 0) {
+                hash ^= cellKey(index, old);
+            }
+            if (content != 0) {
+                hash ^= cellKey(index, content);
+            }
+            contents[index] = (byte) content;
+        }
+    }
+
+    @Override
+    public void gridCleared() {
+        rebuild();
+    }
+
+    @Override
+    public void penguinChanged(Penguin penguin) {
+        int index = penguins.indexOf(penguin);
+        long key = penguinKey(index, penguin);
+        hash ^= penguinKeys[index] ^ key;
+        penguinKeys[index] = key;
+    }
+
+    /**
+     * Recomputes the stored square contents, penguin keys and hash.
+     */
+    private void rebuild() {
+        hash = 0L;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < cols; col++) {
+                int content = contentOf(grid.get(row, col));
+                contents[row * cols + col] = (byte) content;
+                if (content != 0) {
+                    hash ^= cellKey(row * cols + col, content);
+                }
+            }
+        }
+        for (int i = 0; i < penguins.size(); i++) {
+            penguinKeys[i] = penguinKey(i, penguins.get(i));
+            hash ^= penguinKeys[i];
+        }
+    }
+
+    /**
+     * Gets the content code of a square object.
+     */
+    private int contentOf(ITerrainObject object) {
+        CellKind kind = CellKind.of(object);
+        return switch (kind) {
+            case EMPTY -> 0;
+            case PENGUIN -> {
+                int index = penguins.indexOf(object);
+                yield index < 0 ? UNKNOWN_PENGUIN : PENGUIN_BASE + index;
+            }
+            case FOOD -> FOOD_BASE + ((Food) object).getWeight();
+            case HOLE_IN_ICE -> ((HoleInIce) object).isPlugged() ? PLUGGED_HOLE : kind.ordinal();
+            default -> kind.ordinal();
+        };
+    }
+
+    private static long cellKey(int index, int content) {
+        return key(((long) index << 8) | content);
+    }
+
+    /**
+     * Combines the keys of all state features of a penguin.
+     */
+    private static long penguinKey(int index, Penguin penguin) {
+        long base = PENGUIN_TAG | ((long) index << 32);
+        long key = 0L;
+        if (penguin.isStunned()) {
+            key ^= key(base | STUNNED);
+        }
+        if (penguin.hasUsedSpecialAbility()) {
+            key ^= key(base | ABILITY_USED);
+        }
+        if (penguin.isRemoved()) {
+            key ^= key(base | REMOVED);
+        }
+        if (penguin instanceof RockhopperPenguin rockhopper && rockhopper.isJumpPrepared()) {
+            key ^= key(base | JUMP | ((long) rockhopper.getJumpDirection().ordinal() << 8));
+        }
+        for (int weight = 1; weight <= 5; weight++) {
+            int count = penguin.getFoodCount(weight);
+            if (count > 0) {
+                key ^= key(base | FOOD_COUNT | (weight << 4) | ((long) count << 8));
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Derives the key of a feature with the SplitMix64 finalizer.
+     */
+    private static long key(long feature) {
+        long z = SEED + feature * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,79 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the flat-array TerrainGrid backend.
+ * Tests that it behaves like the default grid and tracks cell kinds.
+ */
+public class FlatGridStorageTest {
+    private TerrainGrid grid;
+
+    @BeforeEach
+    public void setUp() {
+        grid = TerrainGrid.flat();
+    }
+
+    @Test
+    public void testGridInitiallyEmpty() {
+        for (int row = 0; row < TerrainGrid.GRID_SIZE; row++) {
+            for (int col = 0; col < TerrainGrid.GRID_SIZE; col++) {
+                Position pos = new Position(row, col);
+                assertTrue(grid.isEmpty(pos));
+                assertEquals(CellKind.EMPTY, grid.getKind(pos));
+            }
+        }
+    }
+
+    @Test
+    public void testSetTracksKinds() {
+        Position foodPos = new Position(1, 2);
+        Position lionPos = new Position(3, 4);
+        Position penguinPos = new Position(0, 9);
+
+        grid.set(foodPos, new Food(FoodType.KRILL, 2));
+        grid.set(lionPos, new SeaLion());
+        grid.set(penguinPos, new KingPenguin("P1"));
+
+        assertEquals(CellKind.FOOD, grid.getKind(foodPos));
+        assertEquals(CellKind.SEA_LION, grid.getKind(lionPos));
+        assertEquals(CellKind.PENGUIN, grid.getKind(penguinPos));
+        assertTrue(grid.getKind(lionPos).isBlocker());
+        assertFalse(grid.getKind(foodPos).isBlocker());
+    }
+
+    @Test
+    public void testMoveUpdatesObjectsAndKinds() {
+        Position from = new Position(2, 2);
+        Position to = new Position(7, 8);
+        HoleInIce hole = new HoleInIce();
+
+        grid.set(from, hole);
+        assertTrue(grid.move(from, to));
+
+        assertEquals(CellKind.EMPTY, grid.getKind(from));
+        assertEquals(CellKind.HOLE_IN_ICE, grid.getKind(to));
+        assertSame(hole, grid.get(7, 8));
+        assertEquals(to, hole.getPosition());
+    }
+
+    @Test
+    public void testClearGrid() {
+        grid.set(new Position(1, 1), new Food(FoodType.KRILL, 1));
+        grid.set(new Position(5, 5), new SeaLion());
+
+        grid.clear();
+
+        assertTrue(grid.isEmpty(new Position(1, 1)));
+        assertEquals(CellKind.EMPTY, grid.getKind(new Position(5, 5)));
+    }
+}
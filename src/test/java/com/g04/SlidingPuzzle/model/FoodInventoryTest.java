@@ -0,0 +1,82 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FoodInventory class.
+ * Tests that the inventory keeps the order of a sorted-on-removal list, the running totals,
+ * and the read-only view.
+ */
+public class FoodInventoryTest {
+
+    @Test
+    public void testMatchesSortOnRemovalList() {
+        SplittableRandom rng = new SplittableRandom(3);
+        for (int trial = 0; trial < 200; trial++) {
+            FoodInventory inventory = new FoodInventory();
+            List<Food> expected = new ArrayList<>();
+            for (int step = 0; step < 200; step++) {
+                int op = rng.nextInt(10);
+                if (op < 6) {
+                    Food food = Food.createRandom(rng);
+                    inventory.add(food);
+                    expected.add(food);
+                } else if (op < 8) {
+                    Food lightest = null;
+                    if (!expected.isEmpty()) {
+                        expected.sort(Comparator.comparingInt(Food::getWeight));
+                        lightest = expected.remove(0);
+                    }
+                    assertSame(lightest, inventory.removeLightest());
+                } else if (op < 9) {
+                    Food last = expected.isEmpty() ? null : expected.remove(expected.size() - 1);
+                    assertSame(last, inventory.removeLast());
+                } else {
+                    // Restore a shuffled copy, as a journal or snapshot would
+                    List<Food> shuffled = new ArrayList<>(expected);
+                    for (int i = shuffled.size() - 1; i > 0; i--) {
+                        shuffled.set(i, shuffled.set(rng.nextInt(i + 1), shuffled.get(i)));
+                    }
+                    expected = shuffled;
+                    inventory.replaceAll(shuffled);
+                }
+                assertEquals(expected, inventory.asList());
+                assertEquals(expected.stream().mapToInt(Food::getWeight).sum(), inventory.getTotalWeight());
+            }
+            for (int weight = 1; weight <= 5; weight++) {
+                int w = weight;
+                assertEquals(expected.stream().filter(food -> food.getWeight() == w).count(), inventory.count(weight));
+            }
+        }
+    }
+
+    @Test
+    public void testViewIsReadOnlyAndLive() {
+        FoodInventory inventory = new FoodInventory();
+        List<Food> view = inventory.asList();
+        assertTrue(view.isEmpty());
+        assertNull(inventory.removeLightest());
+        assertNull(inventory.removeLast());
+
+        Food squid = new Food(FoodType.SQUID, 4);
+        inventory.add(squid);
+        inventory.add(new Food(FoodType.KRILL, 2));
+        assertEquals(2, view.size());
+        assertSame(squid, view.get(0));
+        assertEquals(6, inventory.getTotalWeight());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(squid));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+        assertThrows(InvalidGameStateException.class, () -> inventory.add(null));
+        assertEquals(0, inventory.count(6));
+    }
+}
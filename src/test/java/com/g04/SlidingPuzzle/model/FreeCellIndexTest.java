@@ -0,0 +1,123 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.FreeCellIndex;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import com.g04.SlidingPuzzle.service.BoardGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FreeCellIndex.
+ * Tests distinct and uniform draws, staying in sync with the grid, and placement on large sparse boards.
+ */
+public class FreeCellIndexTest {
+
+    @Test
+    public void testTakeDrawsEverySquareOnce() {
+        FreeCellIndex index = new FreeCellIndex(7, 9);
+        SplittableRandom rng = new SplittableRandom(1);
+        Set<Integer> taken = new HashSet<>();
+        while (index.count() > 0) {
+            int cell = index.take(rng);
+            assertTrue(taken.add(cell));
+            assertFalse(index.contains(cell));
+        }
+        assertEquals(63, taken.size());
+        assertThrows(InvalidGameStateException.class, () -> index.random(rng));
+
+        index.add(40);
+        index.add(40);
+        assertEquals(1, index.count());
+        assertEquals(40, index.take(rng));
+        assertThrows(InvalidGameStateException.class, () -> new FreeCellIndex(0, 5));
+    }
+
+    @Test
+    public void testDrawsAreUniform() {
+        SplittableRandom rng = new SplittableRandom(2);
+        int[] counts = new int[9];
+        for (int trial = 0; trial < 90_000; trial++) {
+            FreeCellIndex index = new FreeCellIndex(3, 3);
+            index.remove(4);
+            index.take(rng);
+            counts[index.take(rng)]++; // The second draw after a removal
+        }
+        assertEquals(0, counts[4]);
+        for (int cell = 0; cell < 9; cell++) {
+            if (cell != 4) {
+                assertEquals(11_250, counts[cell], 600);
+            }
+        }
+    }
+
+    @Test
+    public void testIndexFollowsGridChanges() {
+        TerrainGrid grid = new TerrainGrid(6, 8);
+        grid.set(new Position(2, 3), new KingPenguin("P1"));
+        grid.set(new Position(5, 7), new Food(FoodType.SQUID, 2));
+        FreeCellIndex index = grid.getFreeCells();
+        assertSame(index, grid.getFreeCells());
+        assertEquals(46, index.count());
+        assertFalse(index.contains(2 * 8 + 3));
+
+        SplittableRandom rng = new SplittableRandom(3);
+        for (int step = 0; step < 5_000; step++) {
+            Position position = Position.of(rng.nextInt(6), rng.nextInt(8));
+            switch (rng.nextInt(3)) {
+                case 0 -> grid.set(position, new SeaLion());
+                case 1 -> grid.remove(position);
+                default -> grid.move(position, Position.of(rng.nextInt(6), rng.nextInt(8)));
+            }
+            assertMatchesGrid(grid, index);
+        }
+        grid.clear();
+        assertEquals(48, index.count());
+        assertMatchesGrid(grid, index);
+    }
+
+    @Test
+    public void testPlacementOnSparseBoard() {
+        TerrainGrid grid = TerrainGrid.flat(1024, 1024);
+        BoardGenerator generator = new BoardGenerator(grid, new SplittableRandom(4));
+        List<Penguin> penguins = generator.placePenguins(4);
+        generator.placeHazards(20_000);
+        generator.placeFood(30_000);
+
+        assertEquals(1024 * 1024 - 50_004, grid.getFreeCells().count());
+        assertEquals(30_000, grid.getOccupancy().count(CellKind.FOOD));
+        for (Penguin penguin : penguins) {
+            assertSame(penguin, grid.get(penguin.getPosition()));
+        }
+
+        // Every edge square is taken by a penguin on a 2x2 board
+        TerrainGrid small = new TerrainGrid(2, 2);
+        new BoardGenerator(small, new SplittableRandom(5)).placePenguins(4);
+        assertEquals(0, small.getFreeCells().count());
+        new BoardGenerator(small, new SplittableRandom(5)).placeFood(3);
+        assertEquals(4, small.getOccupancy().count(CellKind.PENGUIN));
+    }
+
+    private static void assertMatchesGrid(TerrainGrid grid, FreeCellIndex index) {
+        int empty = 0;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                boolean isEmpty = grid.getKind(row, col) == CellKind.EMPTY;
+                assertEquals(isEmpty, index.contains(row * grid.getCols() + col));
+                empty += isEmpty ? 1 : 0;
+            }
+        }
+        assertEquals(empty, index.count());
+    }
+}
@@ -0,0 +1,117 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.OccupancyBoards;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for OccupancyBoards.
+ * Tests that the bitboards, counts and scans match the grid contents while the grid changes.
+ */
+public class OccupancyBoardsTest {
+
+    @Test
+    public void testBoardsBuiltFromExistingContents() {
+        TerrainGrid grid = new TerrainGrid();
+        grid.set(new Position(1, 1), new KingPenguin("P1"));
+        grid.set(new Position(1, 6), new SeaLion());
+        grid.set(new Position(4, 1), new Food(FoodType.KRILL, 3));
+
+        OccupancyBoards boards = grid.getOccupancy();
+
+        assertSame(boards, grid.getOccupancy());
+        assertTrue(boards.contains(CellKind.PENGUIN, 1, 1));
+        assertTrue(boards.contains(CellKind.SEA_LION, 1, 6));
+        assertEquals(97, boards.countEmpty());
+        assertEquals(1, boards.count(CellKind.FOOD));
+        assertEquals(5, boards.firstOccupied(1, 1, Direction.RIGHT));
+        assertEquals(3, boards.firstOccupied(1, 1, Direction.DOWN));
+        assertEquals(-1, boards.firstOccupied(1, 1, Direction.LEFT));
+    }
+
+    @Test
+    public void testPluggedHoleTracked() {
+        TerrainGrid grid = TerrainGrid.flat();
+        OccupancyBoards boards = grid.getOccupancy();
+        grid.set(new Position(3, 3), new HoleInIce());
+
+        assertFalse(boards.isPluggedHole(3, 3));
+        grid.plugHole(3, 3);
+        assertTrue(boards.isPluggedHole(3, 3));
+        assertEquals(1, boards.countPluggedHoles());
+        assertEquals(1, boards.count(CellKind.HOLE_IN_ICE));
+
+        grid.clear();
+        assertEquals(0, boards.countPluggedHoles());
+        assertEquals(100, boards.countEmpty());
+    }
+
+    @Test
+    public void testRandomMutationsMatchGrid() {
+        Random random = new Random(42);
+        TerrainGrid grid = TerrainGrid.flat(9, 71);
+        OccupancyBoards boards = grid.getOccupancy();
+
+        for (int step = 0; step < 2_000; step++) {
+            Position pos = new Position(random.nextInt(grid.getRows()), random.nextInt(grid.getCols()));
+            ITerrainObject object = switch (random.nextInt(4)) {
+                case 0 -> null;
+                case 1 -> new Food(FoodType.SQUID, 1 + random.nextInt(5));
+                case 2 -> new KingPenguin("P1");
+                default -> new HeavyIceBlock();
+            };
+            grid.set(pos, object);
+
+            int row = random.nextInt(grid.getRows());
+            int col = random.nextInt(grid.getCols());
+            for (Direction direction : Direction.values()) {
+                assertEquals(walkOccupied(grid, row, col, direction), boards.firstOccupied(row, col, direction));
+            }
+        }
+
+        List<Integer> empty = new ArrayList<>();
+        int expectedEmpty = 0;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                CellKind kind = grid.getKind(row, col);
+                assertTrue(boards.contains(kind, row, col));
+                if (kind == CellKind.EMPTY) {
+                    expectedEmpty++;
+                }
+            }
+        }
+        boards.forEach(CellKind.EMPTY, empty::add);
+        assertEquals(expectedEmpty, boards.countEmpty());
+        assertEquals(expectedEmpty, empty.size());
+        for (int index : empty) {
+            assertEquals(CellKind.EMPTY, grid.getKind(index / grid.getCols(), index % grid.getCols()));
+        }
+    }
+
+    private static int walkOccupied(TerrainGrid grid, int row, int col, Direction direction) {
+        int r = row + direction.getRowDelta();
+        int c = col + direction.getColDelta();
+        for (int step = 1; grid.isValidPosition(r, c); step++) {
+            if (grid.getKind(r, c) != CellKind.EMPTY) {
+                return step;
+            }
+            r += direction.getRowDelta();
+            c += direction.getColDelta();
+        }
+        return -1;
+    }
+}
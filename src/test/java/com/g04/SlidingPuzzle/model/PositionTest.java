@@ -99,4 +99,36 @@ public class PositionTest {
         assertEquals(4, moved.getRow());
         assertNotSame(original, moved);
     }
+
+    @Test
+    public void testPositionOfReturnsInternedInstances() {
+        assertSame(Position.of(3, 4), Position.of(3, 4));
+        assertSame(Position.of(-1, 0), Position.of(2, 4).move(Direction.UP).move(Direction.UP)
+                .move(Direction.UP).move(Direction.LEFT).move(Direction.LEFT).move(Direction.LEFT)
+                .move(Direction.LEFT));
+        assertEquals(new Position(3, 4), Position.of(3, 4));
+    }
+
+    @Test
+    public void testPositionOfLargeCoordinates() {
+        Position far = Position.of(4000, 4095);
+
+        assertEquals(4000, far.getRow());
+        assertEquals(4095, far.getCol());
+        assertEquals(new Position(4000, 4095), far);
+    }
+
+    @Test
+    public void testPackedCoordinates() {
+        long packed = Position.pack(7, -1);
+
+        assertEquals(7, Position.rowOf(packed));
+        assertEquals(-1, Position.colOf(packed));
+
+        long moved = Position.move(Position.pack(0, 0), Direction.UP);
+        assertEquals(-1, Position.rowOf(moved));
+        assertEquals(0, Position.colOf(moved));
+
+        assertEquals(new Position(2, 9), Position.unpack(new Position(2, 9).pack()));
+    }
 }
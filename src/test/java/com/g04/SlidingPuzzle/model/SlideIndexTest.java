@@ -0,0 +1,111 @@
+package com.g04.SlidingPuzzle.model;
+
+import com.g04.SlidingPuzzle.interfaces.ITerrainObject;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.SlideIndex;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Unit tests for SlideIndex.
+ * Tests that free runs and food lookups match a square-by-square walk while the grid changes.
+ */
+public class SlideIndexTest {
+
+    @Test
+    public void testEmptyGridRunsReachEdges() {
+        TerrainGrid grid = new TerrainGrid(4, 7);
+        SlideIndex index = grid.getSlideIndex();
+
+        assertEquals(6, index.freeRun(0, 0, Direction.RIGHT));
+        assertEquals(0, index.freeRun(0, 0, Direction.LEFT));
+        assertEquals(3, index.freeRun(0, 2, Direction.DOWN));
+        assertEquals(2, index.freeRun(2, 2, Direction.UP));
+    }
+
+    @Test
+    public void testRunsStopBeforeBlockersAndCrossFood() {
+        TerrainGrid grid = TerrainGrid.flat();
+        SlideIndex index = grid.getSlideIndex();
+
+        grid.set(new Position(5, 7), new HeavyIceBlock());
+        grid.set(new Position(5, 3), new Food(FoodType.KRILL, 2));
+
+        assertEquals(6, index.freeRun(5, 0, Direction.RIGHT));
+        assertEquals(3, index.nextFood(5, 0, Direction.RIGHT, 6));
+        assertEquals(-1, index.nextFood(5, 3, Direction.RIGHT, 3));
+
+        grid.remove(new Position(5, 7));
+        assertEquals(9, index.freeRun(5, 0, Direction.RIGHT));
+    }
+
+    @Test
+    public void testMoveKeepsIndexInSync() {
+        TerrainGrid grid = TerrainGrid.flat();
+        SlideIndex index = grid.getSlideIndex();
+        Position from = new Position(2, 2);
+        Position to = new Position(2, 8);
+
+        grid.set(from, new SeaLion());
+        grid.move(from, to);
+
+        assertEquals(7, index.freeRun(2, 0, Direction.RIGHT));
+        assertEquals(5, index.freeRun(8, 8, Direction.UP));
+    }
+
+    @Test
+    public void testRandomMutationsMatchWalk() {
+        Random random = new Random(211);
+        TerrainGrid grid = TerrainGrid.flat(13, 70);
+        SlideIndex index = grid.getSlideIndex();
+
+        for (int step = 0; step < 2_000; step++) {
+            Position pos = new Position(random.nextInt(grid.getRows()), random.nextInt(grid.getCols()));
+            ITerrainObject object = switch (random.nextInt(3)) {
+                case 0 -> null;
+                case 1 -> new Food(FoodType.SQUID, 1 + random.nextInt(5));
+                default -> new HeavyIceBlock();
+            };
+            grid.set(pos, object);
+
+            int row = random.nextInt(grid.getRows());
+            int col = random.nextInt(grid.getCols());
+            for (Direction direction : Direction.values()) {
+                int run = walkRun(grid, row, col, direction);
+                assertEquals(run, index.freeRun(row, col, direction));
+                assertEquals(walkFood(grid, row, col, direction, run), index.nextFood(row, col, direction, run));
+            }
+        }
+    }
+
+    private static int walkRun(TerrainGrid grid, int row, int col, Direction direction) {
+        int run = 0;
+        int r = row + direction.getRowDelta();
+        int c = col + direction.getColDelta();
+        while (grid.isValidPosition(r, c) && !grid.getKind(r, c).isBlocker()) {
+            run++;
+            r += direction.getRowDelta();
+            c += direction.getColDelta();
+        }
+        return run;
+    }
+
+    private static int walkFood(TerrainGrid grid, int row, int col, Direction direction, int maxSteps) {
+        for (int step = 1; step <= maxSteps; step++) {
+            int r = row + step * direction.getRowDelta();
+            int c = col + step * direction.getColDelta();
+            if (grid.getKind(r, c) == CellKind.FOOD) {
+                return step;
+            }
+        }
+        return -1;
+    }
+}
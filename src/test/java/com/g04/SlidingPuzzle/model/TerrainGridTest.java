@@ -1,5 +1,7 @@
 package com.g04.SlidingPuzzle.model;
 
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.exception.InvalidPositionException;
 import com.g04.SlidingPuzzle.model.enums.FoodType;
 import com.g04.SlidingPuzzle.model.terrain.Position;
 import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
@@ -126,4 +128,46 @@ public class TerrainGridTest {
             }
         }
     }
+
+    @Test
+    public void testRectangularGridDimensions() {
+        TerrainGrid wide = new TerrainGrid(3, 7);
+
+        assertEquals(3, wide.getRows());
+        assertEquals(7, wide.getCols());
+        assertTrue(wide.isValidPosition(new Position(2, 6)));
+        assertFalse(wide.isValidPosition(new Position(3, 0)));
+        assertFalse(wide.isValidPosition(new Position(0, 7)));
+        assertEquals(21, wide.getAllPositions().size());
+        // 2 full rows of 7 plus 2 side squares of the middle row
+        assertEquals(16, wide.getEdgePositions().size());
+    }
+
+    @Test
+    public void testRectangularGridRejectsOutOfBoundsSet() {
+        TerrainGrid tall = TerrainGrid.flat(12, 4);
+
+        tall.set(new Position(11, 3), new Food(FoodType.KRILL, 1));
+
+        assertNotNull(tall.get(11, 3));
+        assertThrows(InvalidPositionException.class,
+            () -> tall.set(new Position(4, 4), new Food(FoodType.KRILL, 1)));
+    }
+
+    @Test
+    public void testLargeGrid() {
+        TerrainGrid large = TerrainGrid.flat(1000, 1000);
+        Position corner = new Position(999, 999);
+
+        large.set(corner, new Food(FoodType.SQUID, 2));
+
+        assertFalse(large.isEmpty(corner));
+        assertTrue(corner.isEdge(large.getRows(), large.getCols()));
+    }
+
+    @Test
+    public void testNonPositiveDimensionsRejected() {
+        assertThrows(InvalidGameStateException.class, () -> new TerrainGrid(0, 5));
+        assertThrows(InvalidGameStateException.class, () -> TerrainGrid.flat(5, -1));
+    }
 }
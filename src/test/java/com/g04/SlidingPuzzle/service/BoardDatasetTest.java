@@ -0,0 +1,132 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.hazards.LightIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.penguins.EmperorPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoardDataset.
+ * Tests the computed features, that a parallel batch streamed through a small queue reads
+ * back board for board, and rejection of closed datasets and corrupt files.
+ */
+public class BoardDatasetTest {
+
+    @Test
+    public void testComputesFeatures() {
+        //   0  1  2  3  4
+        // 0 P  .  Kr .  LB
+        // 1 .  .  .  .  .
+        // 2 .  .  HB .  .
+        // 3 .  .  .  .  .
+        // 4 HI .  .  .  SL
+        TerrainGrid grid = TerrainGrid.flat(5, 5);
+        Penguin penguin = new EmperorPenguin("P1");
+        grid.set(Position.of(0, 0), penguin);
+        grid.set(Position.of(0, 2), new Food(FoodType.KRILL, 3));
+        grid.set(Position.of(0, 4), new LightIceBlock());
+        grid.set(Position.of(2, 2), new HeavyIceBlock());
+        grid.set(Position.of(4, 0), new HoleInIce());
+        grid.set(Position.of(4, 4), new SeaLion());
+
+        BoardDataset.Features features = BoardDataset.computeFeatures(grid, List.of(penguin));
+        assertEquals(List.of(1), features.reachableFood());
+        assertEquals(List.of(3), features.bestMoveGain());
+        assertEquals(Map.of(HazardType.LIGHT_ICE_BLOCK, 1, HazardType.HEAVY_ICE_BLOCK, 1,
+                HazardType.SEA_LION, 1, HazardType.HOLE_IN_ICE, 1), features.hazardCounts());
+        assertEquals(4, features.hazardCount());
+    }
+
+    @Test
+    public void testStreamsBatchAndReadsItBack() throws IOException {
+        Path file = Files.createTempFile("boards", ".ds");
+        try {
+            List<ConstrainedBoardGenerator.Board> expected;
+            try (ConstrainedBoardGenerator generator =
+                         new ConstrainedBoardGenerator(GameSettings.STANDARD, BoardConstraints.PLAYABLE, 4)) {
+                expected = generator.generate(300, 5L);
+            }
+            BoardDataset dataset;
+            try (ConstrainedBoardGenerator generator =
+                         new ConstrainedBoardGenerator(GameSettings.STANDARD, BoardConstraints.PLAYABLE, 4)) {
+                try (BoardDataset open = new BoardDataset(file, 4)) {
+                    dataset = open;
+                    assertEquals(300, dataset.append(generator, 300, 5L).boards());
+                    assertEquals(300, dataset.getAppendedBoards());
+                }
+            }
+            long written = dataset.getBytesWritten();
+            assertEquals(Files.size(file), written);
+            // A 10x10 board with three penguins fits in well under 150 bytes with its features
+            assertTrue(written < 300 * 150);
+
+            List<BoardDataset.Entry> entries = new ArrayList<>();
+            assertEquals(300, BoardDataset.read(file, entries::add));
+            entries.sort(Comparator.comparingInt(BoardDataset.Entry::index));
+            for (int i = 0; i < entries.size(); i++) {
+                BoardDataset.Entry entry = entries.get(i);
+                ConstrainedBoardGenerator.Board board = expected.get(i);
+                assertEquals(i, entry.index());
+                assertEquals(board.seed(), entry.seed());
+                assertArrayEquals(GameSnapshotCodec.encode(board.grid(), board.penguins(), null),
+                        GameSnapshotCodec.encode(entry.grid(), entry.penguins(), null));
+                BoardDataset.Features features = entry.features();
+                assertEquals(BoardDataset.computeFeatures(board.grid(), board.penguins()), features);
+                assertEquals(GameSettings.STANDARD.numOfHazards(), features.hazardCount());
+                for (int reachable : features.reachableFood()) {
+                    assertTrue(reachable >= 1);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testRejectsClosedDatasetAndCorruptFiles() throws IOException {
+        Path file = Files.createTempFile("boards", ".ds");
+        try {
+            TerrainGrid grid = TerrainGrid.flat(3, 3);
+            Penguin penguin = new EmperorPenguin("P1");
+            grid.set(Position.of(1, 1), penguin);
+            BoardDataset dataset = new BoardDataset(file);
+            dataset.append(0, 7L, grid, List.of(penguin));
+            dataset.close();
+            dataset.close();
+            assertThrows(InvalidGameStateException.class, () -> dataset.append(1, 8L, grid, List.of(penguin)));
+            assertThrows(InvalidGameStateException.class, () -> dataset.append(null));
+            assertEquals(1, BoardDataset.read(file, entry -> assertEquals(7L, entry.seed())));
+
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            assertThrows(InvalidGameStateException.class, () -> BoardDataset.read(file, entry -> { }));
+
+            Files.write(file, new byte[] {'S', 'P', 'R', 'L', 1});
+            assertThrows(InvalidGameStateException.class, () -> BoardDataset.read(file, entry -> { }));
+            assertThrows(InvalidGameStateException.class, () -> BoardDataset.read(null, entry -> { }));
+            assertThrows(InvalidGameStateException.class, () -> new BoardDataset(file, 0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
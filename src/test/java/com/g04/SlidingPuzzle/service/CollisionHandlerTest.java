@@ -0,0 +1,39 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.penguins.EmperorPenguin;
+import com.g04.SlidingPuzzle.model.penguins.RoyalPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CollisionHandler.
+ * Tests that a Royal Penguin's step never takes another penguin off the grid.
+ */
+public class CollisionHandlerTest {
+
+    @Test
+    public void testStepIntoPenguinCollides() {
+        // Row 2: Royal, Emperor, two empty squares, plugged hole
+        TerrainGrid grid = TerrainGrid.flat(5, 5);
+        RoyalPenguin royal = new RoyalPenguin("P1");
+        Penguin other = new EmperorPenguin("P2");
+        grid.set(Position.of(2, 0), royal);
+        grid.set(Position.of(2, 1), other);
+        grid.set(Position.of(2, 4), new HoleInIce());
+        grid.plugHole(2, 4);
+
+        CollisionHandler.TurnResult turn = new CollisionHandler(grid).executeTurn(royal, Direction.RIGHT, true);
+        assertFalse(royal.canUseSpecialAbility());
+        assertSame(other, turn.primary.triggeredPenguinSlide);
+        assertEquals(Position.of(2, 0), royal.getPosition());
+        assertEquals(Position.of(2, 3), other.getPosition());
+        assertSame(royal, grid.get(Position.of(2, 0)));
+        assertSame(other, grid.get(Position.of(2, 3)));
+    }
+}
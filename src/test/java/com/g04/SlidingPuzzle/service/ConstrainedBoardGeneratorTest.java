@@ -0,0 +1,136 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.enums.HazardType;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.hazards.SeaLion;
+import com.g04.SlidingPuzzle.model.terrain.OccupancyBoards;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConstrainedBoardGenerator and BoardConstraints.
+ * Tests the reachability search, that parallel batches meet the constraints and are
+ * reproducible, the hazard mix and density, and unsatisfiable or invalid constraints.
+ */
+public class ConstrainedBoardGeneratorTest {
+
+    @Test
+    public void testReachableFood() {
+        //   0  1  2  3  4
+        // 0 P  .  Kr .  HB
+        // 1 .  .  .  .  .
+        // 2 Sq .  .  .  .
+        // 3 HI .  .  .  An
+        // 4 .  .  SL .  .
+        TerrainGrid grid = new TerrainGrid(5, 5);
+        grid.set(Position.of(0, 0), BoardGenerator.createPenguin(PenguinType.KING, "P1"));
+        grid.set(Position.of(0, 2), new Food(FoodType.KRILL, 1));
+        grid.set(Position.of(0, 4), new HeavyIceBlock());
+        grid.set(Position.of(2, 0), new Food(FoodType.SQUID, 1));
+        grid.set(Position.of(3, 0), new HoleInIce());
+        grid.set(Position.of(3, 4), new Food(FoodType.ANCHOVY, 1));
+        grid.set(Position.of(4, 2), new SeaLion());
+
+        // Right collects the krill and stops before the block; down ends in the open hole, and
+        // every other slide from the stops at (0, 3) and (0, 1) ends in the water
+        assertEquals(1, ConstrainedBoardGenerator.countReachableFood(grid, Position.of(0, 0)));
+
+        grid.plugHole(3, 0);
+        assertEquals(2, ConstrainedBoardGenerator.countReachableFood(grid, Position.of(0, 0)));
+        assertThrows(InvalidGameStateException.class,
+                () -> ConstrainedBoardGenerator.countReachableFood(grid, Position.of(5, 0)));
+    }
+
+    @Test
+    public void testParallelBatchMeetsConstraintsAndIsReproducible() {
+        BoardConstraints constraints = new BoardConstraints(3, true, BoardConstraints.UNIFORM_HAZARDS, 0);
+        List<ConstrainedBoardGenerator.Board> boards;
+        try (ConstrainedBoardGenerator generator = new ConstrainedBoardGenerator(GameSettings.STANDARD, constraints, 4)) {
+            boards = generator.generate(200, 11L);
+            assertEquals(200, generator.getBoardCount());
+            assertTrue(generator.getAttemptCount() >= 200);
+        }
+        for (int i = 0; i < boards.size(); i++) {
+            ConstrainedBoardGenerator.Board board = boards.get(i);
+            assertEquals(i, board.index());
+            assertEquals(SimulationEngine.gameSeed(11L, i), board.seed());
+            OccupancyBoards occupancy = board.grid().getOccupancy();
+            assertEquals(20, occupancy.count(CellKind.FOOD));
+            assertEquals(100 - 3 - 20 - 15, occupancy.countEmpty());
+            for (Penguin penguin : board.penguins()) {
+                assertTrue(ConstrainedBoardGenerator.countReachableFood(board.grid(), penguin.getPosition()) >= 3);
+                for (Direction direction : Direction.values()) {
+                    Position next = penguin.getPosition().move(direction);
+                    if (board.grid().isValidPosition(next)) {
+                        assertNotEquals(CellKind.HOLE_IN_ICE, board.grid().getKind(next));
+                    }
+                }
+            }
+        }
+
+        // The same board comes out on one worker, or generated on its own
+        try (ConstrainedBoardGenerator generator = new ConstrainedBoardGenerator(GameSettings.STANDARD, constraints, 1)) {
+            ConstrainedBoardGenerator.Report report = generator.generate(50, 11L, board -> {
+                GridRenderer expected = new GridRenderer(boards.get(board.index()).grid());
+                assertEquals(expected.render(), new GridRenderer(board.grid()).render());
+            });
+            assertEquals(50, report.boards());
+            assertTrue(report.boardsPerSecond() > 0);
+            assertTrue(report.acceptanceRate() > 0 && report.acceptanceRate() <= 1);
+
+            TerrainGrid grid = TerrainGrid.flat();
+            generator.generate(grid, new SplittableRandom(SimulationEngine.gameSeed(11L, 7)));
+            assertEquals(new GridRenderer(boards.get(7).grid()).render(), new GridRenderer(grid).render());
+        }
+    }
+
+    @Test
+    public void testHazardMixAndDensity() {
+        GameSettings settings = new GameSettings(20, 20, 2, 10, 30, 4);
+        BoardConstraints constraints = new BoardConstraints(0, false,
+                Map.of(HazardType.SEA_LION, 1, HazardType.HEAVY_ICE_BLOCK, 3), 0.25);
+        try (ConstrainedBoardGenerator generator = new ConstrainedBoardGenerator(settings, constraints, 2)) {
+            for (ConstrainedBoardGenerator.Board board : generator.generate(20, 3L)) {
+                OccupancyBoards occupancy = board.grid().getOccupancy();
+                assertEquals(75, occupancy.count(CellKind.FOOD));
+                assertEquals(25, occupancy.count(CellKind.SEA_LION) + occupancy.count(CellKind.HEAVY_ICE_BLOCK));
+                assertEquals(0, occupancy.count(CellKind.HOLE_IN_ICE) + occupancy.count(CellKind.LIGHT_ICE_BLOCK));
+            }
+        }
+        assertEquals(List.of(HazardType.HEAVY_ICE_BLOCK, HazardType.SEA_LION),
+                List.copyOf(constraints.hazardWeights().keySet()));
+    }
+
+    @Test
+    public void testUnsatisfiableAndInvalidConstraints() {
+        GameSettings settings = new GameSettings(4, 4, 1, 0, 1, 1);
+        BoardConstraints constraints = new BoardConstraints(2, false, BoardConstraints.UNIFORM_HAZARDS, 0);
+        try (ConstrainedBoardGenerator generator = new ConstrainedBoardGenerator(settings, constraints)) {
+            assertThrows(InvalidGameStateException.class, () -> generator.generate(TerrainGrid.flat(4, 4), new SplittableRandom(1)));
+            assertEquals(ConstrainedBoardGenerator.MAX_ATTEMPTS, generator.getAttemptCount());
+            assertThrows(InvalidGameStateException.class, () -> generator.generate(TerrainGrid.flat(), new SplittableRandom(1)));
+            assertThrows(InvalidGameStateException.class, () -> generator.generate(2, 1L));
+            assertEquals(0, generator.getBoardCount());
+        }
+
+        assertThrows(InvalidGameStateException.class, () -> new BoardConstraints(-1, false, BoardConstraints.UNIFORM_HAZARDS, 0));
+        assertThrows(InvalidGameStateException.class, () -> new BoardConstraints(0, false, null, 0));
+        assertThrows(InvalidGameStateException.class, () -> new BoardConstraints(0, false, Map.of(HazardType.SEA_LION, 0), 0));
+        assertThrows(InvalidGameStateException.class, () -> new BoardConstraints(0, false, BoardConstraints.UNIFORM_HAZARDS, 1));
+    }
+}
@@ -0,0 +1,134 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.penguins.EmperorPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EngineMetrics.
+ * Tests that the counters agree with the game results, exact slide lengths, the latency
+ * buckets, and JMX registration.
+ */
+public class EngineMetricsTest {
+
+    @Test
+    public void testCountersAgreeWithResults() {
+        EngineMetrics metrics = new EngineMetrics();
+        List<GameResult> counted;
+        List<GameResult> uncounted;
+        try (SimulationEngine engine = SimulationEngine.forkJoin(GameSettings.STANDARD, 4)) {
+            uncounted = engine.run(500, 11L);
+            engine.setMetrics(metrics);
+            counted = engine.run(500, 11L);
+        }
+        // Counting does not change the games
+        assertEquals(uncounted, counted);
+
+        long weight = 0;
+        long removed = 0;
+        for (GameResult result : counted) {
+            for (PenguinResult penguin : result.placements()) {
+                weight += penguin.totalWeight();
+                removed += penguin.removed() ? 1 : 0;
+            }
+        }
+        // Removed penguins keep their food, so all food collected and not lost is still held
+        assertEquals(weight, metrics.getFoodCollectedWeight() - metrics.getFoodLostWeight());
+        assertEquals(removed, metrics.getRemovals().values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(metrics.getFoodLost() <= metrics.getCollisions(CellKind.HEAVY_ICE_BLOCK));
+
+        assertTrue(metrics.getTurns() > 500);
+        assertTrue(Arrays.stream(metrics.getSlideLengths()).sum() >= metrics.getTurns());
+        assertEquals(metrics.getCollisions(CellKind.LIGHT_ICE_BLOCK) + metrics.getCollisions(CellKind.SEA_LION),
+                Arrays.stream(metrics.getHazardSlideLengths()).sum());
+
+        long p50 = metrics.getTurnLatencyP50();
+        assertTrue(p50 > 0);
+        assertTrue(p50 <= metrics.getTurnLatencyP99());
+        assertTrue(metrics.getTurnLatencyP999() <= metrics.getTurnLatencyMax());
+
+        metrics.reset();
+        assertEquals(0, metrics.getTurns());
+        assertEquals(0, metrics.getTurnLatencyP99());
+        assertEquals(0, Arrays.stream(metrics.getSlideLengths()).sum());
+        assertThrows(InvalidGameStateException.class, () -> metrics.getTurnLatencyPercentile(0));
+    }
+
+    @Test
+    public void testSlideLengthsCountSquaresSlid() {
+        TerrainGrid grid = TerrainGrid.flat(10, 10);
+        Penguin offEdge = new EmperorPenguin("P1");
+        Penguin pastFood = new EmperorPenguin("P2");
+        Penguin blocked = new EmperorPenguin("P3");
+        Penguin atEdge = new EmperorPenguin("P4");
+        grid.set(Position.of(0, 0), offEdge);
+        grid.set(Position.of(2, 0), pastFood);
+        grid.set(Position.of(2, 3), new Food(FoodType.KRILL, 1));
+        grid.set(Position.of(2, 7), new HeavyIceBlock());
+        grid.set(Position.of(4, 0), blocked);
+        grid.set(Position.of(4, 1), new HeavyIceBlock());
+        grid.set(Position.of(6, 0), atEdge);
+        EngineMetrics metrics = new EngineMetrics();
+        CollisionHandler collisionHandler = new CollisionHandler(grid);
+        collisionHandler.setMetrics(metrics);
+
+        collisionHandler.movePenguin(offEdge, Direction.RIGHT, false);   // Nine squares, then into the water
+        collisionHandler.movePenguin(pastFood, Direction.RIGHT, false);  // Six squares, over the krill
+        collisionHandler.movePenguin(blocked, Direction.RIGHT, false);   // Collides at once
+        collisionHandler.movePenguin(atEdge, Direction.LEFT, false);     // Falls at once
+
+        long[] expected = new long[EngineMetrics.MAX_SLIDE_BUCKET + 2];
+        expected[0] = 2;
+        expected[6] = 1;
+        expected[9] = 1;
+        assertArrayEquals(expected, metrics.getSlideLengths());
+    }
+
+    @Test
+    public void testLatencyBuckets() {
+        int previous = -1;
+        for (long nanos = 0; nanos < 1 << 16; nanos++) {
+            int bucket = EngineMetrics.latencyBucket(nanos);
+            assertTrue(bucket == previous || bucket == previous + 1);
+            assertTrue(nanos <= EngineMetrics.bucketUpperBound(bucket));
+            assertTrue(EngineMetrics.bucketUpperBound(bucket) <= nanos + nanos / 8);
+            previous = bucket;
+        }
+        int last = EngineMetrics.latencyBucket(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, EngineMetrics.bucketUpperBound(last));
+    }
+
+    @Test
+    public void testRegistersWithPlatformMBeanServer() throws Exception {
+        EngineMetrics metrics = new EngineMetrics();
+        ObjectName name = metrics.register("test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            GameSimulation simulation = new GameSimulation(GameSettings.STANDARD, 3L);
+            simulation.setMetrics(metrics);
+            simulation.play(0);
+            assertEquals(metrics.getTurns(), server.getAttribute(name, "Turns"));
+            assertTrue((Long) server.getAttribute(name, "Turns") > 0);
+            assertThrows(InvalidGameStateException.class, () -> metrics.register("again"));
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
@@ -0,0 +1,122 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.penguins.EmperorPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FoodSolver.
+ * Tests the solved totals against exhaustive search, the returned line, and argument checks.
+ */
+public class FoodSolverTest {
+
+    @Test
+    public void testMatchesExhaustiveSearch() {
+        FoodSolver solver = new FoodSolver(1 << 12);
+        for (long seed = 0; seed < 40; seed++) {
+            GameSimulation game = new GameSimulation(GameSettings.STANDARD, seed);
+            List<Penguin> penguins = game.getPenguins();
+            for (Penguin penguin : penguins) {
+                FoodSolver.Solution solution = solver.solve(game.getGrid(), penguins, penguin, 3);
+                assertEquals(exhaustive(game.getGrid(), penguins, penguins.indexOf(penguin), 3),
+                        solution.totalWeight(), "seed " + seed + ", " + penguin);
+                assertEquals(solution.totalWeight(), replay(game.getGrid(), penguins, penguins.indexOf(penguin),
+                        solution.moves()));
+            }
+        }
+    }
+
+    @Test
+    public void testSolvesForcedLine() {
+        TerrainGrid grid = TerrainGrid.flat(6, 6);
+        Penguin penguin = new EmperorPenguin("P1");
+        grid.set(Position.of(0, 0), penguin);
+        grid.set(Position.of(0, 2), new Food(FoodType.KRILL, 2));
+        grid.set(Position.of(3, 3), new Food(FoodType.SQUID, 5));
+        grid.set(Position.of(5, 0), new HeavyIceBlock());
+        List<Penguin> penguins = List.of(penguin);
+
+        // Only stopping on the third square to the right keeps both items in reach
+        FoodSolver.Solution solution = new FoodSolver().solve(grid, penguins, penguin, 3);
+        assertEquals(7, solution.totalWeight());
+        assertEquals(new FoodSolver.Move(Direction.RIGHT, true), solution.moves().get(0));
+        assertEquals(Direction.DOWN, solution.moves().get(1).direction());
+        assertEquals(solution.totalWeight(), replay(grid, penguins, 0, solution.moves()));
+
+        // The original board is untouched
+        assertEquals(Position.of(0, 0), penguin.getPosition());
+        assertEquals(0, penguin.getTotalFoodWeight());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        GameSimulation game = new GameSimulation(GameSettings.STANDARD, 1L);
+        FoodSolver solver = new FoodSolver(16);
+        Penguin penguin = game.getPenguins().get(0);
+        assertThrows(InvalidGameStateException.class, () -> solver.solve(game.getGrid(), game.getPenguins(),
+                new EmperorPenguin("P9"), 2));
+        assertThrows(InvalidGameStateException.class, () -> solver.solve(game.getGrid(), game.getPenguins(),
+                penguin, -1));
+        assertEquals(0, solver.solve(game.getGrid(), game.getPenguins(), penguin, 0).totalWeight());
+    }
+
+    /**
+     * Tries every move sequence on fresh copies of the board.
+     */
+    private static int exhaustive(TerrainGrid grid, List<Penguin> penguins, int index, int moves) {
+        Penguin penguin = penguins.get(index);
+        if (moves == 0 || penguin.isRemoved()) {
+            return penguin.getTotalFoodWeight();
+        }
+        if (penguin.isStunned()) {
+            TerrainGrid copy = TerrainGrid.flat(grid.getRows(), grid.getCols());
+            List<Penguin> copies = BoardGenerator.copyBoard(grid, penguins, copy);
+            copies.get(index).setStunned(false);
+            return exhaustive(copy, copies, index, moves - 1);
+        }
+        int best = Integer.MIN_VALUE;
+        for (Direction direction : Direction.values()) {
+            for (boolean ability : new boolean[] {false, true}) {
+                if (ability && !penguin.canUseSpecialAbility()) {
+                    continue;
+                }
+                TerrainGrid copy = TerrainGrid.flat(grid.getRows(), grid.getCols());
+                List<Penguin> copies = BoardGenerator.copyBoard(grid, penguins, copy);
+                new CollisionHandler(copy).executeTurn(copies.get(index), direction, ability);
+                best = Math.max(best, exhaustive(copy, copies, index, moves - 1));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays a line on a copy of the board and returns the penguin's final food weight.
+     */
+    private static int replay(TerrainGrid grid, List<Penguin> penguins, int index, List<FoodSolver.Move> line) {
+        TerrainGrid copy = TerrainGrid.flat(grid.getRows(), grid.getCols());
+        List<Penguin> copies = BoardGenerator.copyBoard(grid, penguins, copy);
+        Penguin penguin = copies.get(index);
+        CollisionHandler collisionHandler = new CollisionHandler(copy);
+        int next = 0;
+        while (next < line.size()) {
+            if (penguin.isStunned()) {
+                penguin.setStunned(false);
+                continue;
+            }
+            FoodSolver.Move move = line.get(next++);
+            collisionHandler.executeTurn(penguin, move.direction(), move.useSpecialAbility());
+        }
+        return penguin.getTotalFoodWeight();
+    }
+}
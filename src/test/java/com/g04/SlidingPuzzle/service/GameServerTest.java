@@ -0,0 +1,162 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameServer, SessionLimits and ClientSimulator.
+ * Tests concurrent sessions played to the end, idle timeouts, input limits, the session limit
+ * and simulated players giving up on a silent server.
+ */
+public class GameServerTest {
+
+    @Test
+    @Timeout(60)
+    public void testConcurrentSessionsPlayToTheEnd() throws IOException {
+        try (GameServer server = new GameServer(SessionLimits.DEFAULT)) {
+            int port = server.start(0);
+            ClientSimulator.Result result = ClientSimulator.run(port, 200, 1L);
+
+            assertEquals(0, result.failures());
+            assertEquals(200, result.count("game over"));
+            assertTrue(result.prompts() >= 200);
+            assertEquals(200, server.getSessionCount(GameServer.SessionEnd.GAME_OVER));
+            assertThrows(InvalidGameStateException.class, () -> server.start(0));
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void testIdlePlayersAreDisconnected() throws IOException {
+        SessionLimits limits = new SessionLimits(10, Duration.ofMillis(200), 256, 1024);
+        try (GameServer server = new GameServer(limits)) {
+            int port = server.start(0);
+            assertEquals("idle timeout", playUntilPrompt(port, null));
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void testInputLimits() throws IOException {
+        SessionLimits limits = new SessionLimits(10, Duration.ofSeconds(10), 16, 1024);
+        try (GameServer server = new GameServer(limits)) {
+            int port = server.start(0);
+            assertEquals("input limit", playUntilPrompt(port, "N".repeat(100) + "\n"));
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void testSessionLimit() throws IOException {
+        SessionLimits limits = new SessionLimits(1, Duration.ofSeconds(10), 256, 1024);
+        try (GameServer server = new GameServer(limits)) {
+            int port = server.start(0);
+            for (int attempt = 0; ; attempt++) {
+                assertTrue(attempt < 10, "No session prompted the player");
+                try (Socket waiting = new Socket(InetAddress.getLoopbackAddress(), port);
+                     BufferedReader in = reader(waiting)) {
+                    if (!readUntilPrompt(in)) {
+                        continue;
+                    }
+                    // The first session waits for its player, so it holds the only slot
+                    try (Socket second = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                        assertEquals("BYE busy", reader(second).readLine());
+                    }
+                    break;
+                }
+            }
+            assertEquals(1, server.getSessionCount(GameServer.SessionEnd.BUSY));
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void testSilentServerCountsAsFailure() throws IOException {
+        try (ServerSocket silent = new ServerSocket(0, 10, InetAddress.getLoopbackAddress())) {
+            // Connections are accepted by the kernel but never answered
+            ClientSimulator.Result result = ClientSimulator.run(silent.getLocalPort(), 3, 1L, Duration.ofMillis(300));
+            assertEquals(3, result.failures());
+            assertTrue(result.byes().isEmpty());
+        }
+        assertThrows(InvalidGameStateException.class, () -> ClientSimulator.run(1, 1, 1L, Duration.ZERO));
+        assertThrows(InvalidGameStateException.class, () -> ClientSimulator.run(1, 1, 1L, null));
+    }
+
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(InvalidGameStateException.class, () -> new SessionLimits(0, Duration.ofSeconds(1), 1, 1));
+        assertThrows(InvalidGameStateException.class, () -> new SessionLimits(1, Duration.ZERO, 1, 1));
+        assertThrows(InvalidGameStateException.class, () -> new SessionLimits(1, null, 1, 1));
+        assertThrows(InvalidGameStateException.class, () -> new SessionLimits(1, Duration.ofSeconds(1), 1, 0));
+        assertTrue(ClientSimulator.isPrompt("Which direction? --> "));
+        assertFalse(ClientSimulator.isPrompt(" |---> "));
+    }
+
+    /**
+     * Opens sessions until one prompts the player (the player's penguin can be knocked out
+     * before its first turn), then sends the given input, or nothing, and returns the reason
+     * of the session's end.
+     */
+    private static String playUntilPrompt(int port, String input) throws IOException {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                 BufferedReader in = reader(socket)) {
+                if (!readUntilPrompt(in)) {
+                    continue;
+                }
+                if (input != null) {
+                    OutputStream out = socket.getOutputStream();
+                    out.write(input.getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith("BYE ")) {
+                        return line.substring(4);
+                    }
+                }
+            }
+        }
+        throw new AssertionError("No session prompted the player");
+    }
+
+    /**
+     * Reads a session's output up to the first prompt.
+     *
+     * @return false if the session ended before prompting the player
+     */
+    private static boolean readUntilPrompt(BufferedReader in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) >= 0) {
+            if (c != '\n') {
+                line.append((char) c);
+                if (ClientSimulator.isPrompt(line)) {
+                    return true;
+                }
+            } else if (line.toString().startsWith("BYE ")) {
+                return false;
+            } else {
+                line.setLength(0);
+            }
+        }
+        return false;
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
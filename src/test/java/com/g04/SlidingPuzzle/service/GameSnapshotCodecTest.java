@@ -0,0 +1,179 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.enums.PenguinType;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameSnapshotCodec.
+ * Tests round trips of games in progress, special penguin and hole states, size, and corrupt input.
+ */
+public class GameSnapshotCodecTest {
+
+    @Test
+    public void testRoundTripDuringGames() {
+        for (long seed = 0; seed < 30; seed++) {
+            GameSimulation game = new GameSimulation(GameSettings.STANDARD, seed);
+            List<Penguin> penguins = game.getPenguins();
+            GameStateManager state = new GameStateManager(penguins, GameSettings.STANDARD.numOfRounds());
+            CollisionHandler collisionHandler = new CollisionHandler(game.getGrid());
+            HeuristicAI ai = new HeuristicAI(game.getGrid(), new SplittableRandom(seed));
+
+            while (!state.isGameOver()) {
+                assertRoundTrip(game.getGrid(), penguins, state);
+                Penguin penguin = state.getCurrentPenguin();
+                if (penguin.isStunned()) {
+                    penguin.setStunned(false);
+                } else if (!penguin.isRemoved()) {
+                    Decision decision = ai.decide(penguin);
+                    collisionHandler.executeTurn(penguin, decision.direction(), decision.useSpecialAbility());
+                }
+                state.advanceTurn();
+            }
+            assertRoundTrip(game.getGrid(), penguins, state);
+        }
+    }
+
+    @Test
+    public void testRoundTripOfSpecialStates() {
+        TerrainGrid grid = new TerrainGrid(3, 200);
+        RockhopperPenguin rockhopper = new RockhopperPenguin("Ünïcode");
+        rockhopper.prepareJump(Direction.LEFT);
+        rockhopper.collectFood(new Food(FoodType.MACKEREL, 5));
+        rockhopper.collectFood(new Food(FoodType.KRILL, 1));
+        rockhopper.collectFood(new Food(FoodType.SQUID, 3));
+        rockhopper.setStunned(true);
+        grid.set(Position.of(2, 199), rockhopper);
+        Penguin removed = BoardGenerator.createPenguin(PenguinType.KING, "P2");
+        removed.collectFood(new Food(FoodType.ANCHOVY, 2));
+        removed.useSpecialAbility();
+        removed.remove();
+        grid.set(Position.of(0, 0), new HoleInIce());
+        grid.set(Position.of(1, 150), new HoleInIce());
+        grid.plugHole(1, 150);
+
+        List<Penguin> penguins = List.of(rockhopper, removed);
+        GameSnapshotCodec.Snapshot snapshot = assertRoundTrip(grid, penguins, null);
+        assertNull(snapshot.state());
+        RockhopperPenguin copy = (RockhopperPenguin) snapshot.penguins().get(0);
+        assertEquals(Direction.LEFT, copy.getJumpDirection());
+        assertTrue(((HoleInIce) snapshot.grid().get(1, 150)).isPlugged());
+        assertFalse(((HoleInIce) snapshot.grid().get(0, 0)).isPlugged());
+    }
+
+    @Test
+    public void testSnapshotIsCompact() {
+        GameSimulation game = new GameSimulation(GameSettings.STANDARD, 3L);
+        GameStateManager state = new GameStateManager(game.getPenguins(), GameSettings.STANDARD.numOfRounds());
+        byte[] bytes = GameSnapshotCodec.encode(game.getGrid(), game.getPenguins(), state);
+        assertTrue(bytes.length < 150, "10x10 snapshot took " + bytes.length + " bytes");
+
+        // Encoding into a larger buffer writes the same bytes and nothing else
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        buffer.put((byte) 42);
+        GameSnapshotCodec.encode(game.getGrid(), game.getPenguins(), state, buffer);
+        assertEquals(1 + bytes.length, buffer.position());
+        assertArrayEquals(bytes, Arrays.copyOfRange(buffer.array(), 1, buffer.position()));
+
+        // Decoding onto a list-backed grid
+        buffer.flip().get();
+        GameSnapshotCodec.Snapshot snapshot = GameSnapshotCodec.decode(buffer, new TerrainGrid());
+        assertFalse(buffer.hasRemaining());
+        assertEquals(new GridRenderer(game.getGrid()).render(), new GridRenderer(snapshot.grid()).render());
+    }
+
+    @Test
+    public void testCorruptSnapshots() {
+        GameSimulation game = new GameSimulation(GameSettings.STANDARD, 9L);
+        byte[] bytes = GameSnapshotCodec.encode(game.getGrid(), game.getPenguins(), null);
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(InvalidGameStateException.class, () -> GameSnapshotCodec.decode(truncated));
+        }
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = 'X';
+        assertThrows(InvalidGameStateException.class, () -> GameSnapshotCodec.decode(badMagic));
+        byte[] badVersion = bytes.clone();
+        badVersion[2] = 99;
+        assertThrows(InvalidGameStateException.class, () -> GameSnapshotCodec.decode(badVersion));
+
+        // Random damage is either rejected or decodes to some valid state, never another exception
+        SplittableRandom rng = new SplittableRandom(1);
+        for (int i = 0; i < 2000; i++) {
+            byte[] damaged = bytes.clone();
+            damaged[3 + rng.nextInt(damaged.length - 3)] = (byte) rng.nextInt(256);
+            try {
+                GameSnapshotCodec.decode(damaged);
+            } catch (InvalidGameStateException expected) {
+                // Rejected
+            }
+        }
+
+        assertThrows(InvalidGameStateException.class,
+                () -> GameSnapshotCodec.decode(ByteBuffer.wrap(bytes), TerrainGrid.flat(5, 5)));
+        assertThrows(InvalidGameStateException.class,
+                () -> GameSnapshotCodec.decode(ByteBuffer.wrap(bytes), game.getGrid()));
+        assertThrows(InvalidGameStateException.class,
+                () -> GameSnapshotCodec.encode(game.getGrid(), game.getPenguins(), null, ByteBuffer.allocate(10)));
+    }
+
+    /**
+     * Encodes and decodes a state and checks that the copy matches the original.
+     */
+    private static GameSnapshotCodec.Snapshot assertRoundTrip(TerrainGrid grid, List<Penguin> penguins,
+                                                               GameStateManager state) {
+        byte[] bytes = GameSnapshotCodec.encode(grid, penguins, state);
+        assertEquals(GameSnapshotCodec.encodedSize(grid, penguins, state), bytes.length);
+        GameSnapshotCodec.Snapshot snapshot = GameSnapshotCodec.decode(bytes);
+
+        TerrainGrid copy = snapshot.grid();
+        assertEquals(new ZobristHash(grid, penguins).getHash(),
+                new ZobristHash(copy, snapshot.penguins()).getHash());
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                assertEquals(grid.getKind(row, col), copy.getKind(row, col));
+                if (grid.get(row, col) != null) {
+                    assertEquals(grid.get(row, col).getDisplaySymbol(), copy.get(row, col).getDisplaySymbol());
+                }
+            }
+        }
+        assertEquals(penguins.size(), snapshot.penguins().size());
+        for (int i = 0; i < penguins.size(); i++) {
+            Penguin original = penguins.get(i);
+            Penguin decoded = snapshot.penguins().get(i);
+            assertEquals(original.getPenguinType(), decoded.getPenguinType());
+            assertEquals(original.getName(), decoded.getName());
+            assertEquals(original.isRemoved(), decoded.isRemoved());
+            assertEquals(original.isStunned(), decoded.isStunned());
+            assertEquals(original.hasUsedSpecialAbility(), decoded.hasUsedSpecialAbility());
+            assertEquals(original.getFoodInventory().toString(), decoded.getFoodInventory().toString());
+            if (!original.isRemoved()) {
+                assertEquals(original.getPosition(), decoded.getPosition());
+            }
+        }
+        if (state != null) {
+            assertEquals(state.getTotalTurns(), snapshot.state().getTotalTurns());
+            assertEquals(state.getCurrentTurn(), snapshot.state().getCurrentTurn());
+            assertEquals(state.getCurrentPenguinIndex(), snapshot.state().getCurrentPenguinIndex());
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,122 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameStateManager.
+ * Tests turn order, skipping removed and stunned penguins, removal through turn results,
+ * and resuming games.
+ */
+public class GameStateManagerTest {
+
+    @Test
+    public void testTurnOrderSkipsRemovedAndStunnedPenguins() {
+        List<Penguin> penguins = penguins(4);
+        GameStateManager state = new GameStateManager(penguins, 2);
+        assertEquals(4, state.getActivePenguinCount());
+        assertSame(penguins.get(0), state.getCurrentPenguin());
+
+        // P1 moves and stuns itself; P3 is knocked into the water during P2's turn
+        penguins.get(0).setStunned(true);
+        state.advanceTurn();
+        penguins.get(2).remove();
+        state.advanceTurn(fell(penguins.get(2)));
+        assertEquals(3, state.getActivePenguinCount());
+        assertEquals(1, state.getRemovedOnTurn(2));
+        assertSame(penguins.get(3), state.getCurrentPenguin());
+        state.advanceTurn();
+
+        // Round two: P1 loses its turn, P3 never comes up
+        assertEquals(2, state.getCurrentTurn());
+        assertTrue(state.skipIfStunned());
+        assertFalse(penguins.get(0).isStunned());
+        assertFalse(state.skipIfStunned());
+        assertEquals(1, state.getCurrentPenguinIndex());
+        state.advanceTurn();
+        assertEquals(3, state.getCurrentPenguinIndex());
+        state.advanceTurn();
+        assertTrue(state.isGameOver());
+        assertThrows(InvalidGameStateException.class, state::getCurrentPenguin);
+        assertThrows(InvalidGameStateException.class, state::advanceTurn);
+    }
+
+    @Test
+    public void testMoverFallingDuringItsTurn() {
+        List<Penguin> penguins = penguins(3);
+        GameStateManager state = new GameStateManager(penguins, 3);
+
+        // Checking the state before advancing must not skip the next penguin
+        penguins.get(0).remove();
+        assertFalse(state.isGameOver());
+        state.advanceTurn();
+        assertSame(penguins.get(1), state.getCurrentPenguin());
+        assertEquals(1, state.getCurrentTurn());
+
+        // The last penguins falling end the game, and the turn can still be completed
+        penguins.get(1).remove();
+        penguins.get(2).remove();
+        CollisionHandler.TurnResult turn = fell(penguins.get(1));
+        turn.triggered = fell(penguins.get(2)).primary;
+        state.advanceTurn(turn);
+        assertEquals(0, state.getActivePenguinCount());
+        assertTrue(state.isGameOver());
+    }
+
+    @Test
+    public void testManyPenguins() {
+        List<Penguin> penguins = penguins(10_000);
+        GameStateManager state = new GameStateManager(penguins, 3);
+        int moves = 0;
+        while (!state.isGameOver()) {
+            Penguin penguin = state.getCurrentPenguin();
+            // Every mover but one in a thousand falls off during the first round
+            if (state.getCurrentTurn() == 1 && state.getCurrentPenguinIndex() % 1000 != 0) {
+                penguin.remove();
+                state.advanceTurn(fell(penguin));
+            } else {
+                state.advanceTurn();
+            }
+            moves++;
+        }
+        assertEquals(10, state.getActivePenguinCount());
+        assertEquals(10_000 + 2 * 10, moves);
+    }
+
+    @Test
+    public void testResumeSkipsRemovedPenguins() {
+        List<Penguin> penguins = penguins(3);
+        penguins.get(1).remove();
+        penguins.get(2).remove();
+        GameStateManager state = new GameStateManager(penguins, 4, 2, 1);
+        assertEquals(1, state.getActivePenguinCount());
+        assertEquals(3, state.getCurrentTurn());
+        assertEquals(0, state.getCurrentPenguinIndex());
+        assertEquals(0, state.getRemovedOnTurn(1));
+
+        assertThrows(InvalidGameStateException.class, () -> new GameStateManager(penguins, 4, 6, 0));
+        assertThrows(InvalidGameStateException.class, () -> new GameStateManager(penguins, 4, 1, 3));
+        assertThrows(InvalidGameStateException.class, () -> state.advanceTurn(null));
+    }
+
+    private static List<Penguin> penguins(int count) {
+        List<Penguin> penguins = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            penguins.add(new KingPenguin("P" + i));
+        }
+        return penguins;
+    }
+
+    private static CollisionHandler.TurnResult fell(Penguin penguin) {
+        CollisionHandler.MovementResult result = new CollisionHandler.MovementResult(penguin);
+        result.fellOffEdge = true;
+        return new CollisionHandler.TurnResult(result);
+    }
+}
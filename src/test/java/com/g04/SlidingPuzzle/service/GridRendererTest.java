@@ -0,0 +1,83 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HoleInIce;
+import com.g04.SlidingPuzzle.model.hazards.LightIceBlock;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GridRenderer.
+ * Tests the full-frame layout and that in-place updates redraw only changed squares.
+ */
+public class GridRendererTest {
+
+    @Test
+    public void testFullRender() {
+        TerrainGrid grid = new TerrainGrid(2, 3);
+        grid.set(new Position(0, 1), new KingPenguin("P1"));
+        grid.set(new Position(1, 2), new Food(FoodType.KRILL, 2));
+
+        String expected =
+                "----------------\n" +
+                "|    | P1 |    |\n" +
+                "----------------\n" +
+                "|    |    | Kr |\n" +
+                "----------------\n";
+        assertEquals(expected, new GridRenderer(grid).render());
+    }
+
+    @Test
+    public void testUpdateRedrawsOnlyChangedSquares() {
+        TerrainGrid grid = new TerrainGrid();
+        KingPenguin penguin = new KingPenguin("P1");
+        grid.set(new Position(3, 0), penguin);
+        grid.set(new Position(7, 7), new Food(FoodType.SQUID, 1));
+        GridRenderer renderer = new GridRenderer(grid);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ConsoleSink out = new ConsoleSink(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        renderer.attach(out);
+        bytes.reset();
+
+        grid.move(new Position(3, 0), new Position(3, 4));
+        assertEquals(2, renderer.getPendingChanges());
+        renderer.update(out);
+
+        String drawn = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(drawn.contains("\u001B[8;2H    "));
+        assertTrue(drawn.contains("\u001B[8;22H P1 "));
+        assertFalse(drawn.contains("Sq"));
+        assertEquals(0, renderer.getPendingChanges());
+    }
+
+    @Test
+    public void testPluggedHoleIsRedrawn() {
+        TerrainGrid grid = new TerrainGrid();
+        KingPenguin penguin = new KingPenguin("P1");
+        grid.set(new Position(0, 0), penguin);
+        grid.set(new Position(0, 1), new LightIceBlock());
+        grid.set(new Position(0, 5), new HoleInIce());
+        GridRenderer renderer = new GridRenderer(grid);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ConsoleSink out = new ConsoleSink(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        renderer.attach(out);
+        bytes.reset();
+
+        new CollisionHandler(grid).movePenguin(penguin, Direction.RIGHT, false);
+        renderer.update(out);
+
+        String drawn = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(drawn.contains("\u001B[2;7H    "));
+        assertTrue(drawn.contains("\u001B[2;27H PH "));
+    }
+}
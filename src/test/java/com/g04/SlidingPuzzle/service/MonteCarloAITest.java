@@ -0,0 +1,95 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.CellKind;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.penguins.RoyalPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MonteCarloAI and BoardGenerator.copyBoard.
+ * Tests board copying, move choice on a forced position, the search budget, and argument checks.
+ */
+public class MonteCarloAITest {
+
+    @Test
+    public void testCopyBoardIsIndependent() {
+        GameSimulation game = new GameSimulation(GameSettings.STANDARD, 7L);
+        TerrainGrid original = game.getGrid();
+        TerrainGrid copy = TerrainGrid.flat(original.getRows(), original.getCols());
+        List<Penguin> copies = BoardGenerator.copyBoard(original, game.getPenguins(), copy);
+
+        for (int row = 0; row < original.getRows(); row++) {
+            for (int col = 0; col < original.getCols(); col++) {
+                assertEquals(original.getKind(row, col), copy.getKind(row, col));
+                if (original.get(row, col) != null) {
+                    assertNotSame(original.get(row, col), copy.get(row, col));
+                }
+            }
+        }
+
+        Penguin first = copies.get(0);
+        new CollisionHandler(copy).executeTurn(first, Direction.UP, false);
+        assertEquals(CellKind.PENGUIN, original.getKind(game.getPenguins().get(0).getPosition()));
+        assertFalse(game.getPenguins().get(0).isRemoved());
+    }
+
+    @Test
+    public void testPicksTheOnlyMoveThatCollectsFood() {
+        TerrainGrid grid = TerrainGrid.flat(5, 5);
+        Penguin penguin = new RoyalPenguin("P1");
+        grid.set(Position.of(2, 2), penguin);
+        grid.set(Position.of(2, 4), new Food(FoodType.SQUID, 5));
+
+        try (MonteCarloAI ai = new MonteCarloAI(grid, List.of(penguin), 1, Duration.ofMillis(50), 2,
+                new SplittableRandom(1))) {
+            Decision decision = ai.decide(penguin, 1);
+            assertEquals(Direction.RIGHT, decision.direction());
+        }
+        assertEquals(Position.of(2, 2), penguin.getPosition());
+        assertEquals(CellKind.FOOD, grid.getKind(2, 4));
+    }
+
+    @Test
+    public void testDecisionRespectsBudget() {
+        GameSimulation game = new GameSimulation(GameSettings.STANDARD, 11L);
+        Penguin penguin = game.getPenguins().get(0);
+        try (MonteCarloAI ai = new MonteCarloAI(game.getGrid(), game.getPenguins(), 4, Duration.ofMillis(20), 2,
+                new SplittableRandom(3))) {
+            long start = System.nanoTime();
+            assertNotNull(ai.decide(penguin, 1).direction());
+            assertTrue(System.nanoTime() - start < Duration.ofMillis(500).toNanos());
+
+            // A zero budget still yields a move
+            try (MonteCarloAI instant = new MonteCarloAI(game.getGrid(), game.getPenguins(), 4, Duration.ZERO, 1,
+                    new SplittableRandom(3))) {
+                assertNotNull(instant.decide(penguin, 1).direction());
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        GameSimulation game = new GameSimulation(GameSettings.STANDARD, 5L);
+        assertThrows(InvalidGameStateException.class, () -> new MonteCarloAI(game.getGrid(), game.getPenguins(), 4,
+                Duration.ofMillis(5), 0, new SplittableRandom()));
+        assertThrows(InvalidGameStateException.class, () -> new MonteCarloAI(game.getGrid(), game.getPenguins(), 4,
+                Duration.ofMillis(-1), 1, new SplittableRandom()));
+        try (MonteCarloAI ai = new MonteCarloAI(game.getGrid(), game.getPenguins(), 4)) {
+            assertThrows(InvalidGameStateException.class, () -> ai.decide(new RoyalPenguin("P9"), 1));
+            assertThrows(InvalidGameStateException.class, () -> ai.decide(game.getPenguins().get(0), 5));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.penguins.RockhopperPenguin;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MoveJournal.
+ * Tests that undoing journaled moves restores the grid and every penguin exactly.
+ */
+public class MoveJournalTest {
+
+    @Test
+    public void testEveryMoveUndoesExactly() {
+        for (long seed = 0; seed < 100; seed++) {
+            GameSimulation game = new GameSimulation(GameSettings.STANDARD, seed);
+            TerrainGrid grid = game.getGrid();
+            List<Penguin> penguins = game.getPenguins();
+            GridRenderer renderer = new GridRenderer(grid);
+            ZobristHash hash = new ZobristHash(grid, penguins);
+            MoveJournal journal = new MoveJournal(grid);
+            CollisionHandler collisionHandler = new CollisionHandler(grid);
+            collisionHandler.setJournal(journal);
+            SplittableRandom random = new SplittableRandom(seed);
+
+            String initial = describe(renderer, penguins);
+            long initialHash = hash.getHash();
+            for (int turn = 1; turn <= GameSettings.STANDARD.numOfRounds(); turn++) {
+                for (Penguin penguin : penguins) {
+                    if (penguin.isRemoved()) {
+                        continue;
+                    }
+                    // Try every move and take it back
+                    String before = describe(renderer, penguins);
+                    long beforeHash = hash.getHash();
+                    for (Direction direction : Direction.values()) {
+                        for (boolean ability : new boolean[] {false, true}) {
+                            collisionHandler.executeTurn(penguin, direction, ability);
+                            journal.undo();
+                            assertEquals(before, describe(renderer, penguins));
+                            assertEquals(beforeHash, hash.getHash());
+                        }
+                    }
+                    Direction direction = Direction.values()[random.nextInt(4)];
+                    collisionHandler.executeTurn(penguin, direction, random.nextBoolean());
+                }
+            }
+
+            while (journal.getMoveCount() > 0) {
+                journal.undo();
+            }
+            assertEquals(initial, describe(renderer, penguins));
+            assertEquals(initialHash, hash.getHash());
+            assertEquals(hash.computeHash(), hash.getHash());
+        }
+    }
+
+    @Test
+    public void testUndoWithoutMoveFails() {
+        TerrainGrid grid = TerrainGrid.flat(4, 4);
+        MoveJournal journal = new MoveJournal(grid);
+        assertThrows(InvalidGameStateException.class, journal::undo);
+
+        CollisionHandler collisionHandler = new CollisionHandler(TerrainGrid.flat(4, 4));
+        assertThrows(InvalidGameStateException.class, () -> collisionHandler.setJournal(journal));
+    }
+
+    /**
+     * Describes the grid and the full state of every penguin, including its food order.
+     */
+    private static String describe(GridRenderer renderer, List<Penguin> penguins) {
+        StringBuilder sb = new StringBuilder(renderer.render());
+        for (Penguin penguin : penguins) {
+            List<String> foods = new ArrayList<>();
+            for (Food food : penguin.getFoodInventory()) {
+                foods.add(food.toString());
+            }
+            sb.append(penguin.getName()).append(penguin.getPosition()).append(penguin.isRemoved())
+                    .append(penguin.isStunned()).append(penguin.hasUsedSpecialAbility()).append(foods);
+            if (penguin instanceof RockhopperPenguin rockhopper) {
+                sb.append(rockhopper.isJumpPrepared()).append(rockhopper.getJumpDirection());
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.interfaces.IMovementEvent;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.hazards.LightIceBlock;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for movement events and MovementEventFormatter.
+ * Tests that movements record typed events and that they format into the console messages.
+ */
+public class MovementEventFormatterTest {
+
+    @Test
+    public void testFoodAndHeavyBlockEvents() {
+        TerrainGrid grid = new TerrainGrid();
+        KingPenguin penguin = new KingPenguin("P1");
+        grid.set(new Position(5, 0), penguin);
+        grid.set(new Position(5, 2), new Food(FoodType.SQUID, 4));
+        grid.set(new Position(5, 4), new HeavyIceBlock());
+
+        CollisionHandler.MovementResult result =
+                new CollisionHandler(grid).movePenguin(penguin, Direction.RIGHT, false);
+
+        List<IMovementEvent> events = result.getEvents();
+        assertEquals(new IMovementEvent.FoodCollected(penguin, FoodType.SQUID, 4), events.get(0));
+        assertEquals(new IMovementEvent.FoodLost(penguin, FoodType.SQUID, 4), events.get(1));
+        assertEquals(List.of(
+                "P1 takes the Sq on the ground. (Weight=4 units)",
+                "P1 hits a Heavy Ice Block and loses Sq (4 units)!"), result.getMessages());
+    }
+
+    @Test
+    public void testLightIceBlockSlideEvents() {
+        TerrainGrid grid = new TerrainGrid();
+        KingPenguin penguin = new KingPenguin("P1");
+        grid.set(new Position(2, 0), penguin);
+        grid.set(new Position(2, 1), new LightIceBlock());
+        grid.set(new Position(2, 3), new Food(FoodType.KRILL, 1));
+        grid.set(new Position(2, 6), new HeavyIceBlock());
+
+        CollisionHandler.MovementResult result =
+                new CollisionHandler(grid).movePenguin(penguin, Direction.RIGHT, false);
+
+        assertEquals(List.of(
+                "P1 hits a Light Ice Block and is temporarily stunned!",
+                "P1's next turn will be skipped.",
+                "LB destroys food at (2, 3)",
+                "LB stops at (2, 5)"), result.getMessages());
+    }
+
+    @Test
+    public void testRemovalEventsAndDisabledRecording() {
+        TerrainGrid grid = new TerrainGrid();
+        KingPenguin penguin = new KingPenguin("P1");
+        grid.set(new Position(0, 3), penguin);
+        CollisionHandler handler = new CollisionHandler(grid);
+
+        CollisionHandler.MovementResult result = handler.movePenguin(penguin, Direction.UP, false);
+        assertEquals(List.of("P1 falls into the water!", "*** P1 IS REMOVED FROM THE GAME!"), result.getMessages());
+
+        KingPenguin other = new KingPenguin("P2");
+        grid.set(new Position(4, 4), other);
+        handler.setRecordEvents(false);
+        handler.movePenguin(other, Direction.LEFT, false, result);
+
+        assertTrue(result.fellOffEdge);
+        assertSame(other, result.penguin);
+        assertTrue(result.getEvents().isEmpty());
+    }
+}
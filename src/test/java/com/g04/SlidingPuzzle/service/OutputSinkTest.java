@@ -0,0 +1,90 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IOutputSink;
+import com.g04.SlidingPuzzle.model.IcyTerrain;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConsoleSink, BufferedSink and NullSink.
+ * Tests batching per turns and capacity, and that a buffered game prints the same text.
+ */
+public class OutputSinkTest {
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    public void testBufferedSinkWritesEveryGivenTurns() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BufferedSink sink = new BufferedSink(new PrintStream(bytes, true, StandardCharsets.UTF_8), 3);
+
+        for (int turn = 1; turn <= 5; turn++) {
+            sink.print("Turn ");
+            sink.println(String.valueOf(turn));
+            sink.endTurn();
+            assertEquals(turn < 3 ? 0 : 1, sink.getWriteCount());
+        }
+        assertEquals("Turn 1" + NL + "Turn 2" + NL + "Turn 3" + NL, bytes.toString(StandardCharsets.UTF_8));
+        assertEquals(("Turn 4" + NL + "Turn 5" + NL).length(), sink.getBufferedLength());
+
+        // Flushing writes the rest and starts counting turns anew
+        sink.flush();
+        sink.flush();
+        assertEquals(2, sink.getWriteCount());
+        assertEquals(0, sink.getBufferedLength());
+        assertTrue(bytes.toString(StandardCharsets.UTF_8).endsWith("Turn 5" + NL));
+    }
+
+    @Test
+    public void testBufferedSinkWritesWhenFull() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BufferedSink sink = new BufferedSink(new PrintStream(bytes, true, StandardCharsets.UTF_8), 100, 16);
+
+        sink.print("0123456789");
+        assertEquals(0, sink.getWriteCount());
+        sink.println("0123456789");
+        assertEquals(1, sink.getWriteCount());
+        assertEquals(0, sink.getBufferedLength());
+
+        assertThrows(InvalidGameStateException.class, () -> new BufferedSink(null));
+        assertThrows(InvalidGameStateException.class, () -> new BufferedSink(System.out, 0));
+        assertThrows(InvalidGameStateException.class, () -> new BufferedSink(System.out, 1, 0));
+    }
+
+    @Test
+    public void testBufferedGamePrintsSameText() {
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        play(new ConsoleSink(new PrintStream(direct, true, StandardCharsets.UTF_8)));
+
+        ByteArrayOutputStream batched = new ByteArrayOutputStream();
+        BufferedSink sink = new BufferedSink(new PrintStream(batched, true, StandardCharsets.UTF_8), 4);
+        play(sink);
+
+        assertEquals(direct.toString(StandardCharsets.UTF_8), batched.toString(StandardCharsets.UTF_8));
+        assertTrue(direct.toString(StandardCharsets.UTF_8).contains("***** GAME OVER *****"));
+        assertEquals(0, sink.getBufferedLength());
+        // One write per prompt, per four turns and at the end, instead of one per line
+        assertTrue(sink.getWriteCount() < direct.toString(StandardCharsets.UTF_8).split(NL).length / 4);
+
+        play(NullSink.INSTANCE); // Plays to the end without output
+    }
+
+    /**
+     * Plays a seeded game with the heuristic AI, answering every question of the player.
+     */
+    private static void play(IOutputSink out) {
+        String answers = "N\nU\nN\nL\nN\nD\nN\nR\n".repeat(10);
+        IcyTerrain terrain = new IcyTerrain(new TerrainGrid(), new SplittableRandom(7),
+                new ByteArrayInputStream(answers.getBytes(StandardCharsets.UTF_8)), out);
+        terrain.setAiFactory((grid, penguins, rounds, rng) -> new HeuristicAI(grid, rng));
+        terrain.startGame();
+    }
+}
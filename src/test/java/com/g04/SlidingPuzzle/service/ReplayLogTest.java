@@ -0,0 +1,118 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameRecording, ReplayLog and game replays.
+ * Tests that recorded games replay to the same results, appending to existing logs,
+ * and rejection of corrupt logs and recordings that do not fit their game.
+ */
+public class ReplayLogTest {
+
+    @Test
+    public void testReplayReproducesRecordedGames() throws IOException {
+        Path file = Files.createTempFile("replay", ".log");
+        try {
+            Files.delete(file); // The log creates the file
+            Map<Integer, GameResult> played = new ConcurrentHashMap<>();
+            try (SimulationEngine engine = SimulationEngine.forkJoin(GameSettings.STANDARD, 4);
+                 ReplayLog log = new ReplayLog(file)) {
+                engine.setReplayLog(log);
+                engine.run(300, 42L, result -> played.put(result.gameIndex(), result));
+                assertEquals(300, log.getAppendedGames());
+            }
+
+            Map<Integer, GameResult> replayed = new ConcurrentHashMap<>();
+            try (SimulationEngine engine = SimulationEngine.virtualThreads(GameSettings.STANDARD)) {
+                assertEquals(300, engine.replay(file, result -> replayed.put(result.gameIndex(), result)));
+            }
+            assertEquals(played, replayed);
+
+            // Three penguins with four moves each need at most a dozen bytes per game
+            assertTrue(Files.size(file) < 300 * 40);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testAppendsToExistingLog() throws IOException {
+        Path file = Files.createTempFile("replay", ".log");
+        try {
+            List<GameResult> expected = new ArrayList<>();
+            for (int round = 0; round < 2; round++) {
+                try (ReplayLog log = new ReplayLog(file)) {
+                    for (int game = 0; game < 3; game++) {
+                        GameRecording recording = new GameRecording(GameSettings.STANDARD, round * 10L + game, game);
+                        expected.add(new GameSimulation(GameSettings.STANDARD, recording.getSeed())
+                                .play(game, recording));
+                        log.append(recording);
+                    }
+                }
+            }
+
+            List<GameResult> replayed = new ArrayList<>();
+            assertEquals(6, ReplayLog.read(file, recording -> replayed.add(GameSimulation.replay(recording))));
+            assertEquals(expected, replayed);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testCorruptLogsAreRejected() throws IOException {
+        Path file = Files.createTempFile("replay", ".log");
+        try {
+            try (ReplayLog log = new ReplayLog(file)) {
+                GameRecording recording = new GameRecording(GameSettings.STANDARD, 5L, 0);
+                new GameSimulation(GameSettings.STANDARD, 5L).play(0, recording);
+                log.append(recording);
+            }
+            byte[] bytes = Files.readAllBytes(file);
+
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            assertThrows(InvalidGameStateException.class, () -> ReplayLog.read(file, recording -> { }));
+
+            byte[] badMagic = bytes.clone();
+            badMagic[0] = 'X';
+            Files.write(file, badMagic);
+            assertThrows(InvalidGameStateException.class, () -> ReplayLog.read(file, recording -> { }));
+            assertThrows(InvalidGameStateException.class, () -> new ReplayLog(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testRecordingsThatDoNotFitTheGameAreRejected() {
+        GameRecording recording = new GameRecording(GameSettings.STANDARD, 7L, 0);
+        new GameSimulation(GameSettings.STANDARD, 7L).play(0, recording);
+        assertTrue(recording.getMoveCount() > 0);
+        assertEquals(0, recording.getPenguinIndex(0));
+
+        GameRecording truncated = new GameRecording(GameSettings.STANDARD, 7L, 0);
+        truncated.recordMove(0, recording.getDirection(0), recording.usesSpecialAbility(0));
+        assertThrows(InvalidGameStateException.class, () -> GameSimulation.replay(truncated));
+
+        GameRecording wrongPenguin = new GameRecording(GameSettings.STANDARD, 7L, 0);
+        wrongPenguin.recordMove(1, Direction.UP, false);
+        assertThrows(InvalidGameStateException.class, () -> GameSimulation.replay(wrongPenguin));
+
+        assertThrows(InvalidGameStateException.class, () -> recording.recordMove(3, Direction.UP, false));
+        assertThrows(InvalidGameStateException.class, () -> recording.recordMove(0, null, false));
+        assertThrows(InvalidGameStateException.class, () -> recording.getDirection(recording.getMoveCount()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimulationEngine and GameSimulation.
+ * Tests headless game execution, result ordering, ranking consistency, and reproducibility.
+ */
+public class SimulationEngineTest {
+
+    @Test
+    public void testRunReturnsResultPerGameInOrder() {
+        try (SimulationEngine engine = SimulationEngine.forkJoin(GameSettings.STANDARD, 4)) {
+            List<GameResult> results = engine.run(200);
+
+            assertEquals(200, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).gameIndex());
+                assertEquals(3, results.get(i).placements().size());
+            }
+        }
+    }
+
+    @Test
+    public void testPlacementsAreRankedByWeight() {
+        try (SimulationEngine engine = SimulationEngine.forkJoin(GameSettings.STANDARD, 2)) {
+            for (GameResult result : engine.run(100)) {
+                List<PenguinResult> placements = result.placements();
+                for (int i = 0; i < placements.size(); i++) {
+                    PenguinResult penguin = placements.get(i);
+                    assertEquals(i + 1, penguin.place());
+                    assertEquals(penguin.totalWeight(),
+                            penguin.foodWeights().stream().mapToInt(Integer::intValue).sum());
+                    assertEquals(penguin.removed(), penguin.removedOnTurn() > 0);
+                    assertTrue(penguin.removedOnTurn() <= GameSettings.STANDARD.numOfRounds());
+                    if (i > 0) {
+                        assertTrue(placements.get(i - 1).totalWeight() >= penguin.totalWeight());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingRunVisitsEveryGame() {
+        GameSettings settings = new GameSettings(16, 24, 4, 30, 40, 6);
+        AtomicInteger count = new AtomicInteger();
+        try (SimulationEngine engine = SimulationEngine.forkJoin(settings, 3)) {
+            engine.run(50, result -> count.incrementAndGet());
+        }
+        assertEquals(50, count.get());
+    }
+
+    @Test
+    public void testSingleGameCollectsNoMoreFoodThanPlaced() {
+        GameResult result = new GameSimulation(GameSettings.STANDARD).play(0);
+
+        int total = result.placements().stream().mapToInt(PenguinResult::totalWeight).sum();
+        assertTrue(total <= GameSettings.STANDARD.numOfFood() * 5);
+    }
+
+    @Test
+    public void testSameSeedReplaysIdentically() {
+        GameSettings settings = new GameSettings(12, 12, 4, 20, 30, 5);
+        for (long seed = 0; seed < 50; seed++) {
+            GameResult first = new GameSimulation(settings, seed).play(0);
+            GameResult second = new GameSimulation(settings, seed).play(0);
+            assertEquals(first, second);
+        }
+    }
+
+    @Test
+    public void testSeededBatchIndependentOfParallelism() {
+        List<GameResult> sequential;
+        List<GameResult> parallel;
+        try (SimulationEngine engine = SimulationEngine.forkJoin(GameSettings.STANDARD, 1)) {
+            sequential = engine.run(300, 42L);
+        }
+        try (SimulationEngine engine = SimulationEngine.forkJoin(GameSettings.STANDARD, 4)) {
+            parallel = engine.run(300, 42L);
+        }
+        assertEquals(sequential, parallel);
+
+        GameResult replayed = new GameSimulation(GameSettings.STANDARD, parallel.get(7).seed()).play(7);
+        assertEquals(parallel.get(7), replayed);
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(InvalidGameStateException.class, () -> new GameSettings(10, 10, 5, 15, 20, 4));
+        assertThrows(InvalidGameStateException.class, () -> new GameSettings(10, 10, 3, 15, 20, 0));
+        assertThrows(InvalidGameStateException.class, () -> SimulationEngine.forkJoin(GameSettings.STANDARD, 0));
+    }
+}
@@ -0,0 +1,83 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.exception.InvalidGameStateException;
+import com.g04.SlidingPuzzle.interfaces.IPenguinController;
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Tournament and EloRatings.
+ * Tests the schedule, rating updates, standings output, and argument checks.
+ */
+public class TournamentTest {
+
+    private static final Tournament.Entrant HEURISTIC =
+            new Tournament.Entrant("heuristic", (grid, penguins, rounds, rng) -> new HeuristicAI(grid, rng));
+    private static final Tournament.Entrant RANDOM =
+            new Tournament.Entrant("random", (grid, penguins, rounds, rng) ->
+                    (penguin, turn) -> new Decision(Direction.values()[rng.nextInt(4)], false, false));
+
+    @Test
+    public void testStrongerControllerGetsHigherRating() throws IOException {
+        // Ratings are updated in the order games finish; one worker keeps that order, and the
+        // ratings, the same on every run
+        try (Tournament tournament = new Tournament(GameSettings.STANDARD, List.of(RANDOM, HEURISTIC), 1)) {
+            // Two entrants in three seats: every assignment except the two with a single entrant
+            assertEquals(6, tournament.getLineupCount());
+
+            StringWriter csv = new StringWriter();
+            List<Tournament.Standing> standings = tournament.run(1200, 9L, csv, 300);
+
+            assertEquals("heuristic", standings.get(0).name());
+            assertTrue(standings.get(0).rating() > standings.get(1).rating() + 50);
+            assertEquals(2 * EloRatings.INITIAL_RATING, standings.get(0).rating() + standings.get(1).rating(), 1e-6);
+            assertEquals(1200 * 3, standings.get(0).games() + standings.get(1).games());
+            assertEquals(standings.get(0).games(), standings.get(1).games());
+            assertTrue(standings.get(0).averageWeight() > standings.get(1).averageWeight());
+
+            String[] lines = csv.toString().split("\n");
+            assertEquals(Tournament.CSV_HEADER, lines[0]);
+            assertEquals(1 + 4 * 2, lines.length);
+            assertTrue(lines[lines.length - 2].startsWith("1200,heuristic,"));
+        }
+    }
+
+    @Test
+    public void testEloRatings() {
+        EloRatings ratings = new EloRatings(3, 32);
+        ratings.recordGame(new int[] {0, 1}, new int[] {5, 2});
+        assertEquals(1516.0, ratings.getRating(0), 1e-9);
+        assertEquals(1484.0, ratings.getRating(1), 1e-9);
+        assertEquals(EloRatings.INITIAL_RATING, ratings.getRating(2));
+
+        // A draw between equal players and seats of the same player change nothing
+        ratings.recordGame(new int[] {2, 2}, new int[] {1, 9});
+        ratings.recordGame(new int[] {0, 0, 0}, new int[] {1, 2, 3});
+        assertEquals(EloRatings.INITIAL_RATING, ratings.getRating(2));
+        assertEquals(1516.0, ratings.getRating(0), 1e-9);
+
+        assertThrows(InvalidGameStateException.class, () -> ratings.recordGame(new int[] {0, 3}, new int[] {1, 2}));
+        assertThrows(InvalidGameStateException.class, () -> ratings.recordGame(new int[] {0, 1}, new int[] {1}));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        IPenguinController.Factory factory = (grid, penguins, rounds, rng) -> new HeuristicAI(grid, rng);
+        assertThrows(InvalidGameStateException.class, () -> new Tournament.Entrant("a,b", factory));
+        assertThrows(InvalidGameStateException.class, () -> new Tournament.Entrant("a", null));
+        assertThrows(InvalidGameStateException.class,
+                () -> new Tournament(GameSettings.STANDARD, List.of(HEURISTIC), 1));
+        assertThrows(InvalidGameStateException.class,
+                () -> new Tournament(new GameSettings(10, 10, 1, 15, 20, 4), List.of(HEURISTIC, RANDOM), 1));
+        try (Tournament tournament = new Tournament(GameSettings.STANDARD, List.of(HEURISTIC, RANDOM), 1)) {
+            assertThrows(InvalidGameStateException.class, () -> tournament.run(-1, 0L));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.g04.SlidingPuzzle.service;
+
+import com.g04.SlidingPuzzle.model.Decision;
+import com.g04.SlidingPuzzle.model.Food;
+import com.g04.SlidingPuzzle.model.Penguin;
+import com.g04.SlidingPuzzle.model.enums.FoodType;
+import com.g04.SlidingPuzzle.model.hazards.HeavyIceBlock;
+import com.g04.SlidingPuzzle.model.penguins.KingPenguin;
+import com.g04.SlidingPuzzle.model.terrain.Position;
+import com.g04.SlidingPuzzle.model.terrain.TerrainGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ZobristHash and TranspositionTable.
+ * Tests incremental updates against full recomputation, transpositions, and table storage.
+ */
+public class ZobristHashTest {
+
+    @Test
+    public void testIncrementalHashMatchesFullHashDuringGames() {
+        for (long seed = 0; seed < 50; seed++) {
+            GameSimulation game = new GameSimulation(GameSettings.STANDARD, seed);
+            List<Penguin> penguins = game.getPenguins();
+            ZobristHash hash = new ZobristHash(game.getGrid(), penguins);
+            CollisionHandler collisionHandler = new CollisionHandler(game.getGrid());
+            HeuristicAI ai = new HeuristicAI(game.getGrid(), new SplittableRandom(seed));
+
+            long initial = hash.getHash();
+            for (int turn = 1; turn <= GameSettings.STANDARD.numOfRounds(); turn++) {
+                for (Penguin penguin : penguins) {
+                    if (penguin.isRemoved()) {
+                        continue;
+                    }
+                    if (penguin.isStunned()) {
+                        penguin.setStunned(false);
+                        continue;
+                    }
+                    Decision decision = ai.decide(penguin);
+                    collisionHandler.executeTurn(penguin, decision.direction(), decision.useSpecialAbility());
+                    assertEquals(hash.computeHash(), hash.getHash());
+                }
+            }
+            assertNotEquals(initial, hash.getHash());
+
+            // A copy of the final position hashes the same
+            TerrainGrid copy = TerrainGrid.flat(game.getGrid().getRows(), game.getGrid().getCols());
+            List<Penguin> copies = BoardGenerator.copyBoard(game.getGrid(), penguins, copy);
+            assertEquals(hash.getHash(), new ZobristHash(copy, copies).getHash());
+        }
+    }
+
+    @Test
+    public void testTranspositionsHashEqually() {
+        TerrainGrid grid = TerrainGrid.flat(5, 5);
+        Penguin penguin = new KingPenguin("P1");
+        grid.set(Position.of(0, 0), penguin);
+        ZobristHash hash = new ZobristHash(grid, List.of(penguin));
+        long empty = hash.getHash();
+
+        grid.set(Position.of(1, 1), new Food(FoodType.KRILL, 3));
+        grid.set(Position.of(2, 2), new HeavyIceBlock());
+        long first = hash.getHash();
+        grid.remove(Position.of(1, 1));
+        grid.remove(Position.of(2, 2));
+        assertEquals(empty, hash.getHash());
+
+        grid.set(Position.of(2, 2), new HeavyIceBlock());
+        grid.set(Position.of(1, 1), new Food(FoodType.SQUID, 3));
+        assertEquals(first, hash.getHash());
+
+        penguin.setStunned(true);
+        assertNotEquals(first, hash.getHash());
+        penguin.setStunned(false);
+        assertEquals(first, hash.getHash());
+        assertNotEquals(hash.getHash(1, 0), hash.getHash(2, 0));
+
+        hash.detach();
+        penguin.setStunned(true);
+        assertEquals(first, hash.getHash());
+    }
+
+    @Test
+    public void testTranspositionTableStoresAndReplaces() {
+        TranspositionTable table = new TranspositionTable(1000);
+        assertEquals(1024, table.getCapacity());
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+
+        table.store(42L, -17, 3, 5, TranspositionTable.Bound.LOWER);
+        long entry = table.probe(42L);
+        assertEquals(-17, TranspositionTable.value(entry));
+        assertEquals(3, TranspositionTable.depth(entry));
+        assertEquals(5, TranspositionTable.move(entry));
+        assertEquals(TranspositionTable.Bound.LOWER, TranspositionTable.bound(entry));
+
+        // Same slot, different position
+        assertEquals(TranspositionTable.MISS, table.probe(42L + 1024));
+
+        // A shallower result does not replace a deeper one for the same position
+        table.store(42L, 99, 1, 0, TranspositionTable.Bound.EXACT);
+        assertEquals(-17, TranspositionTable.value(table.probe(42L)));
+
+        // Another position mapping to the slot replaces it
+        table.store(42L + 1024, 7, 0, 0, TranspositionTable.Bound.EXACT);
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+        assertEquals(7, TranspositionTable.value(table.probe(42L + 1024)));
+
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(42L + 1024));
+    }
+
+    @Test
+    public void testConcurrentAccessNeverReturnsTornEntries() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(64);
+        Thread[] threads = new Thread[4];
+        boolean[] failed = new boolean[1];
+        for (int t = 0; t < threads.length; t++) {
+            long offset = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(offset);
+                for (int i = 0; i < 200_000; i++) {
+                    long hash = random.nextLong();
+                    table.store(hash, (int) (hash >>> 32), 1, (int) (hash & 0xFF), TranspositionTable.Bound.EXACT);
+                    long probe = random.nextLong(256);
+                    long entry = table.probe(probe);
+                    if (entry != TranspositionTable.MISS && TranspositionTable.move(entry) != (probe & 0xFF)) {
+                        failed[0] = true;
+                    }
+                    entry = table.probe(hash);
+                    if (entry != TranspositionTable.MISS && TranspositionTable.value(entry) != (int) (hash >>> 32)) {
+                        failed[0] = true;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed[0]);
+    }
+}